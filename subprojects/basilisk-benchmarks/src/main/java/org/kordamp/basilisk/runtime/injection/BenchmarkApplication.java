@@ -0,0 +1,142 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.injection;
+
+import basilisk.core.ApplicationBootstrapper;
+import basilisk.core.BasiliskApplication;
+import basilisk.core.Context;
+import basilisk.core.ExceptionHandler;
+import basilisk.core.ExecutorServiceManager;
+import basilisk.core.configuration.Configuration;
+import basilisk.core.configuration.ConfigurationManager;
+import basilisk.core.env.ApplicationPhase;
+import basilisk.core.event.EventRouter;
+import basilisk.core.injection.Binding;
+import basilisk.core.injection.Module;
+import basilisk.core.threading.UIThreadManager;
+import basilisk.core.view.WindowManager;
+import org.kordamp.basilisk.runtime.core.AbstractBasiliskApplication;
+import org.kordamp.basilisk.runtime.core.BasiliskExceptionHandlerProvider;
+import org.kordamp.basilisk.runtime.core.DefaultContext;
+import org.kordamp.basilisk.runtime.core.DefaultExecutorServiceManager;
+import org.kordamp.basilisk.runtime.core.configuration.DefaultConfigurationManager;
+import org.kordamp.basilisk.runtime.core.configuration.ResourceBundleConfiguration;
+import org.kordamp.basilisk.runtime.core.event.DefaultEventRouter;
+import org.kordamp.basilisk.runtime.core.injection.AbstractModule;
+import org.kordamp.basilisk.runtime.core.threading.DefaultExecutorServiceProvider;
+import org.kordamp.basilisk.runtime.core.threading.DefaultUIThreadManager;
+import org.kordamp.basilisk.runtime.core.view.NoopWindowManager;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.ListResourceBundle;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import static basilisk.util.AnnotationUtils.named;
+
+/**
+ * Headless application with the minimum set of bindings required to exercise the injector.
+ *
+ * @author Andres Almiray
+ */
+public class BenchmarkApplication extends AbstractBasiliskApplication {
+    public static final String CONTEXT_KEY = "user";
+    public static final String CONFIGURATION_KEY = "benchmark.name";
+
+    private final Context context = new DefaultContext();
+
+    public BenchmarkApplication() {
+        context.put(CONTEXT_KEY, "basilisk");
+    }
+
+    @Nonnull
+    @Override
+    public Object createApplicationContainer(@Nonnull Map<String, Object> attributes) {
+        return new Object();
+    }
+
+    @Nonnull
+    public GuiceInjector createInjector(@Nonnull Module module) {
+        Map<ApplicationBootstrapper.Key, Binding<?>> bindings = new LinkedHashMap<>();
+        for (Module m : new Module[]{createModule(), module}) {
+            for (Binding<?> binding : m.getBindings()) {
+                bindings.put(ApplicationBootstrapper.Key.of(binding), binding);
+            }
+        }
+
+        GuiceInjector injector = new GuiceInjectorFactory().createInjector(this, Collections.unmodifiableCollection(bindings.values()));
+        setInjector(injector);
+        // contextual and configuration injection are skipped while initializing
+        setPhase(ApplicationPhase.MAIN);
+        return injector;
+    }
+
+    @Nonnull
+    private Module createModule() {
+        final BasiliskApplication application = this;
+        return new AbstractModule() {
+            @Override
+            protected void doConfigure() {
+                bind(BasiliskApplication.class)
+                    .toInstance(application);
+
+                bind(Context.class)
+                    .withClassifier(named("applicationContext"))
+                    .toInstance(context);
+
+                bind(Configuration.class)
+                    .toInstance(new ResourceBundleConfiguration(new ListResourceBundle() {
+                        @Override
+                        protected Object[][] getContents() {
+                            return new Object[][]{{CONFIGURATION_KEY, "basilisk"}};
+                        }
+                    }));
+
+                bind(ConfigurationManager.class)
+                    .to(DefaultConfigurationManager.class)
+                    .asSingleton();
+
+                bind(ExecutorServiceManager.class)
+                    .to(DefaultExecutorServiceManager.class)
+                    .asSingleton();
+
+                bind(EventRouter.class)
+                    .withClassifier(named("applicationEventRouter"))
+                    .to(DefaultEventRouter.class)
+                    .asSingleton();
+
+                bind(UIThreadManager.class)
+                    .to(DefaultUIThreadManager.class)
+                    .asSingleton();
+
+                bind(ExecutorService.class)
+                    .withClassifier(named("defaultExecutorService"))
+                    .toProvider(DefaultExecutorServiceProvider.class)
+                    .asSingleton();
+
+                bind(ExceptionHandler.class)
+                    .toProvider(BasiliskExceptionHandlerProvider.class)
+                    .asSingleton();
+
+                bind(WindowManager.class)
+                    .to(NoopWindowManager.class)
+                    .asSingleton();
+            }
+        };
+    }
+}
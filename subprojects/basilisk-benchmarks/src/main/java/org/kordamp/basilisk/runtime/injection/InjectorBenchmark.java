@@ -0,0 +1,138 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.injection;
+
+import basilisk.core.configuration.Configured;
+import basilisk.inject.Contextual;
+import org.kordamp.basilisk.runtime.core.injection.AbstractModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nullable;
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures instance lookup and provisioning through {@code GuiceInjector}.
+ *
+ * @author Andres Almiray
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjectorBenchmark {
+    private GuiceInjector injector;
+
+    @Setup
+    public void setup() {
+        injector = new BenchmarkApplication().createInjector(new AbstractModule() {
+            @Override
+            protected void doConfigure() {
+                bind(Dependency.class).asSingleton();
+                bind(SingletonBean.class).asSingleton();
+                bind(PrototypeBean.class);
+                bind(ContextualBean.class);
+                bind(ConfiguredBean.class);
+                bind(PostConstructBean.class);
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        injector.close();
+    }
+
+    @Benchmark
+    public Object singletonLookup() {
+        return injector.getInstance(SingletonBean.class);
+    }
+
+    @Benchmark
+    public Object prototype() {
+        return injector.getInstance(PrototypeBean.class);
+    }
+
+    @Benchmark
+    public Object prototypeWithContextualInjection() {
+        return injector.getInstance(ContextualBean.class);
+    }
+
+    @Benchmark
+    public Object prototypeWithConfigurationInjection() {
+        return injector.getInstance(ConfiguredBean.class);
+    }
+
+    @Benchmark
+    public Object postConstruct() {
+        return injector.getInstance(PostConstructBean.class);
+    }
+
+    public static class Dependency {
+    }
+
+    public static class SingletonBean {
+        @Inject
+        Dependency dependency;
+    }
+
+    public static class PrototypeBean {
+        @Inject
+        Dependency dependency;
+    }
+
+    public static class ContextualBean {
+        @Inject
+        Dependency dependency;
+
+        @Contextual
+        @Nullable
+        String user;
+    }
+
+    public static class ConfiguredBean {
+        @Inject
+        Dependency dependency;
+
+        @Configured(BenchmarkApplication.CONFIGURATION_KEY)
+        String name;
+    }
+
+    public static class PostConstructBean {
+        @Inject
+        Dependency dependency;
+
+        boolean initialized;
+
+        @PostConstruct
+        void initialize() {
+            initialized = true;
+        }
+    }
+}
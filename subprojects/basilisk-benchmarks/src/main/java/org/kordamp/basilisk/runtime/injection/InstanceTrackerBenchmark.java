@@ -0,0 +1,105 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.injection;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.Guice;
+import com.google.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures tracking and release of instances with a {@code PreDestroy} method, including contended access.
+ *
+ * @author Andres Almiray
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstanceTrackerBenchmark {
+    private InstanceTracker instanceTracker;
+    private Binding<DisposableBean> prototypeBinding;
+    private Binding<SingletonDisposableBean> singletonBinding;
+
+    @Setup
+    public void setup() {
+        instanceTracker = new InstanceTracker();
+        instanceTracker.setInjector(Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(DisposableBean.class);
+                bind(SingletonDisposableBean.class).in(Singleton.class);
+            }
+        }));
+        prototypeBinding = instanceTracker.getInjector().getBinding(DisposableBean.class);
+        singletonBinding = instanceTracker.getInjector().getBinding(SingletonDisposableBean.class);
+    }
+
+    @Benchmark
+    public Object trackAndReleasePrototype() {
+        DisposableBean bean = instanceTracker.track(prototypeBinding, new DisposableBean());
+        instanceTracker.release(bean);
+        return bean;
+    }
+
+    @Benchmark
+    public Object trackAndReleaseSingleton() {
+        SingletonDisposableBean bean = instanceTracker.track(singletonBinding, new SingletonDisposableBean());
+        instanceTracker.release(bean);
+        return bean;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object trackAndReleaseContended() {
+        DisposableBean bean = instanceTracker.track(prototypeBinding, new DisposableBean());
+        instanceTracker.release(bean);
+        return bean;
+    }
+
+    @Benchmark
+    public Object trackUntracked() {
+        return instanceTracker.track(prototypeBinding, new Object());
+    }
+
+    public static class DisposableBean {
+        boolean destroyed;
+
+        @PreDestroy
+        void destroy() {
+            destroyed = true;
+        }
+    }
+
+    public static class SingletonDisposableBean extends DisposableBean {
+    }
+}
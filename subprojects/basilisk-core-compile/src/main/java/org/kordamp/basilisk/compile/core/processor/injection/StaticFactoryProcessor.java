@@ -0,0 +1,374 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.compile.core.processor.injection;
+
+import basilisk.core.injection.StaticFactory;
+import basilisk.metadata.ArtifactProviderFor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates a {@code StaticFactory} for every artifact annotated with {@code @ArtifactProviderFor} whose
+ * constructor and injectable members can be resolved without reflection. Artifacts that require features
+ * not supported by generated code (private members, generic dependencies, custom qualifiers, and so on)
+ * are skipped; the injector resolves those reflectively as usual. Generated factories are listed in
+ * {@code META-INF/injection/basilisk.core.injection.StaticFactory}, the injector does not look for any other.
+ * <p>
+ * Generation is disabled by default, it must be enabled with {@code -Abasilisk.injection.static=true}.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+@SupportedAnnotationTypes("basilisk.metadata.ArtifactProviderFor")
+@SupportedOptions(StaticFactoryProcessor.OPTION_ENABLED)
+public class StaticFactoryProcessor extends AbstractProcessor {
+    public static final String OPTION_ENABLED = "basilisk.injection.static";
+
+    private static final String INJECT = "javax.inject.Inject";
+    private static final String GUICE_INJECT = "com.google.inject.Inject";
+    private static final String QUALIFIER = "javax.inject.Qualifier";
+    private static final String[] NAMED = {"javax.inject.Named", "com.google.inject.name.Named"};
+
+    private final Set<String> factories = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!Boolean.parseBoolean(processingEnv.getOptions().get(OPTION_ENABLED))) {
+            return false;
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(ArtifactProviderFor.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                handleType((TypeElement) element);
+            }
+        }
+
+        return false;
+    }
+
+    private void handleType(TypeElement type) {
+        try {
+            String body = generateBody(type);
+            writeFactory(type, body);
+        } catch (UnsupportedInjectionException e) {
+            processingEnv.getMessager().printMessage(Kind.NOTE, "Static factory not generated for " + type.getQualifiedName() + ": " + e.getMessage(), type);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, e.getMessage(), type);
+        }
+    }
+
+    private String generateBody(TypeElement type) throws UnsupportedInjectionException {
+        Set<Modifier> modifiers = type.getModifiers();
+        if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedInjectionException("is not a public concrete class");
+        }
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL) {
+            throw new UnsupportedInjectionException("is not a top level class");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedInjectionException("declares type parameters");
+        }
+
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String typeName = type.getQualifiedName().toString();
+        StringBuilder body = new StringBuilder();
+
+        ExecutableElement constructor = findConstructor(type);
+        checkAccessible(constructor, pkg);
+        body.append("        ").append(typeName).append(" instance = new ").append(typeName)
+            .append("(").append(arguments(constructor)).append(");\n");
+
+        List<TypeElement> hierarchy = hierarchyOf(type);
+        List<ExecutableElement> injectableMethods = new ArrayList<>();
+        for (TypeElement current : hierarchy) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!isInjectable(field)) { continue; }
+                Set<Modifier> fieldModifiers = field.getModifiers();
+                if (fieldModifiers.contains(Modifier.STATIC) || fieldModifiers.contains(Modifier.FINAL)) {
+                    throw new UnsupportedInjectionException("field " + field.getSimpleName() + " is static or final");
+                }
+                checkAccessible(field, pkg);
+                body.append("        instance.").append(field.getSimpleName()).append(" = ")
+                    .append(dependency(field, field.asType())).append(";\n");
+            }
+
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                for (ExecutableElement injectable : injectableMethods) {
+                    if (processingEnv.getElementUtils().overrides(method, injectable, current)) {
+                        throw new UnsupportedInjectionException("method " + method.getSimpleName() + " overrides an injectable method");
+                    }
+                }
+                if (!isInjectable(method)) { continue; }
+                if (method.getModifiers().contains(Modifier.STATIC) || method.getModifiers().contains(Modifier.ABSTRACT)) {
+                    throw new UnsupportedInjectionException("method " + method.getSimpleName() + " is static or abstract");
+                }
+                checkAccessible(method, pkg);
+                injectableMethods.add(method);
+                body.append("        instance.").append(method.getSimpleName())
+                    .append("(").append(arguments(method)).append(");\n");
+            }
+        }
+
+        body.append("        return instance;\n");
+        return body.toString();
+    }
+
+    private ExecutableElement findConstructor(TypeElement type) throws UnsupportedInjectionException {
+        ExecutableElement injectable = null;
+        ExecutableElement defaultConstructor = null;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (isInjectable(constructor)) {
+                if (injectable != null) {
+                    throw new UnsupportedInjectionException("declares more than one injectable constructor");
+                }
+                injectable = constructor;
+            } else if (constructor.getParameters().isEmpty()) {
+                defaultConstructor = constructor;
+            }
+        }
+
+        ExecutableElement constructor = injectable != null ? injectable : defaultConstructor;
+        if (constructor == null) {
+            throw new UnsupportedInjectionException("does not declare an injectable constructor");
+        }
+        return constructor;
+    }
+
+    private List<TypeElement> hierarchyOf(TypeElement type) {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null && !Object.class.getName().equals(current.getQualifiedName().toString())) {
+            hierarchy.add(0, current);
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return hierarchy;
+    }
+
+    private void checkAccessible(Element member, PackageElement pkg) throws UnsupportedInjectionException {
+        if (member instanceof ExecutableElement) {
+            checkThrownTypes((ExecutableElement) member);
+        }
+
+        Element owner = member.getEnclosingElement();
+        if (!owner.getModifiers().contains(Modifier.PUBLIC) && !isSamePackage(owner, pkg)) {
+            throw new UnsupportedInjectionException(describe(member) + " is declared in an inaccessible class");
+        }
+
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return;
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            throw new UnsupportedInjectionException(describe(member) + " is private");
+        }
+        if (!isSamePackage(member, pkg)) {
+            throw new UnsupportedInjectionException(describe(member) + " is not accessible from package " + pkg.getQualifiedName());
+        }
+    }
+
+    private boolean isSamePackage(Element element, PackageElement pkg) {
+        return processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().contentEquals(pkg.getQualifiedName());
+    }
+
+    private void checkThrownTypes(ExecutableElement executable) throws UnsupportedInjectionException {
+        TypeMirror runtimeException = processingEnv.getElementUtils().getTypeElement(RuntimeException.class.getName()).asType();
+        TypeMirror error = processingEnv.getElementUtils().getTypeElement(Error.class.getName()).asType();
+        for (TypeMirror thrown : executable.getThrownTypes()) {
+            if (!processingEnv.getTypeUtils().isAssignable(thrown, runtimeException) && !processingEnv.getTypeUtils().isAssignable(thrown, error)) {
+                throw new UnsupportedInjectionException(describe(executable) + " throws checked exceptions");
+            }
+        }
+    }
+
+    private String arguments(ExecutableElement executable) throws UnsupportedInjectionException {
+        StringBuilder arguments = new StringBuilder();
+        for (VariableElement parameter : executable.getParameters()) {
+            if (arguments.length() > 0) {
+                arguments.append(", ");
+            }
+            arguments.append(dependency(parameter, parameter.asType()));
+        }
+        return arguments.toString();
+    }
+
+    private String dependency(Element element, TypeMirror type) throws UnsupportedInjectionException {
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            throw new UnsupportedInjectionException(describe(element) + " has an unsupported type " + type);
+        }
+        TypeElement dependencyType = (TypeElement) ((DeclaredType) type).asElement();
+        String className = dependencyType.getQualifiedName() + ".class";
+
+        String name = null;
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (!isQualifier(annotationType)) { continue; }
+            if (name != null || !isNamed(annotationType)) {
+                throw new UnsupportedInjectionException(describe(element) + " has an unsupported qualifier");
+            }
+            name = namedValue(annotation);
+        }
+
+        if (name == null) {
+            return "injector.getInstance(" + className + ")";
+        }
+        return "injector.getInstance(" + className + ", basilisk.util.AnnotationUtils.named(\"" + escape(name) + "\"))";
+    }
+
+    private boolean isInjectable(Element element) throws UnsupportedInjectionException {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(INJECT)) {
+                return true;
+            } else if (annotationType.getQualifiedName().contentEquals(GUICE_INJECT)) {
+                throw new UnsupportedInjectionException(describe(element) + " is annotated with " + GUICE_INJECT);
+            }
+        }
+        return false;
+    }
+
+    private boolean isQualifier(TypeElement annotationType) {
+        for (AnnotationMirror annotation : annotationType.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(QUALIFIER)) {
+                return true;
+            }
+        }
+        return isNamed(annotationType);
+    }
+
+    private boolean isNamed(TypeElement annotationType) {
+        for (String named : NAMED) {
+            if (annotationType.getQualifiedName().contentEquals(named)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String namedValue(AnnotationMirror annotation) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+        return "";
+    }
+
+    private String describe(Element element) {
+        if (element.getKind() == ElementKind.PARAMETER) {
+            return "parameter " + element.getSimpleName() + " of " + element.getEnclosingElement().getSimpleName();
+        } else if (element.getKind() == ElementKind.CONSTRUCTOR) {
+            return "constructor";
+        }
+        return element.getKind().name().toLowerCase() + " " + element.getSimpleName();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private void writeFactory(TypeElement type, String body) throws IOException {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String typeName = type.getQualifiedName().toString();
+        String factoryName = type.getSimpleName() + StaticFactory.CLASS_NAME_SUFFIX;
+        String qualifiedFactoryName = pkg.isUnnamed() ? factoryName : pkg.getQualifiedName() + "." + factoryName;
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedFactoryName, type);
+        factories.add(qualifiedFactoryName);
+        try (Writer writer = file.openWriter()) {
+            if (!pkg.isUnnamed()) {
+                writer.write("package " + pkg.getQualifiedName() + ";\n\n");
+            }
+            writer.write("/**\n * Generated by " + getClass().getName() + ". Do not edit.\n */\n");
+            writer.write("public final class " + factoryName + " implements basilisk.core.injection.StaticFactory<" + typeName + "> {\n");
+            writer.write("    @javax.annotation.Nonnull\n");
+            writer.write("    @Override\n");
+            writer.write("    public Class<" + typeName + "> getType() {\n");
+            writer.write("        return " + typeName + ".class;\n");
+            writer.write("    }\n\n");
+            writer.write("    @javax.annotation.Nonnull\n");
+            writer.write("    @Override\n");
+            writer.write("    public " + typeName + " newInstance(@javax.annotation.Nonnull basilisk.core.injection.Injector<?> injector) {\n");
+            writer.write(body);
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+    }
+
+    private void writeIndex() {
+        if (factories.isEmpty()) {
+            return;
+        }
+
+        String path = StaticFactory.INDEX_PATH + StaticFactory.class.getName();
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path);
+            try (Writer writer = file.openWriter()) {
+                for (String factory : factories) {
+                    writer.write(factory + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write " + path + ": " + e.getMessage());
+        }
+    }
+
+    private static class UnsupportedInjectionException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private UnsupportedInjectionException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.compile.core.processor.injection
+
+import spock.lang.Specification
+
+import javax.tools.JavaCompiler
+import javax.tools.JavaFileObject
+import javax.tools.SimpleJavaFileObject
+import javax.tools.StandardJavaFileManager
+import javax.tools.ToolProvider
+import java.nio.file.Files
+
+class StaticFactoryProcessorSpec extends Specification {
+    private static final String INJECTABLE_SERVICE = '''
+        package sample;
+
+        import basilisk.core.artifact.BasiliskService;
+        import basilisk.metadata.ArtifactProviderFor;
+        import org.kordamp.basilisk.runtime.core.artifact.AbstractBasiliskService;
+
+        import javax.inject.Inject;
+        import javax.inject.Named;
+
+        @ArtifactProviderFor(BasiliskService.class)
+        public class InjectableService extends AbstractBasiliskService {
+            @Inject Helper helper;
+            final Helper other;
+
+            @Inject
+            public InjectableService(@Named("other") Helper other) {
+                this.other = other;
+            }
+        }
+    '''
+
+    private static final String UNSUPPORTED_SERVICE = '''
+        package sample;
+
+        import basilisk.core.artifact.BasiliskService;
+        import basilisk.metadata.ArtifactProviderFor;
+        import org.kordamp.basilisk.runtime.core.artifact.AbstractBasiliskService;
+
+        import javax.inject.Inject;
+
+        @ArtifactProviderFor(BasiliskService.class)
+        public class UnsupportedService extends AbstractBasiliskService {
+            @Inject private Helper helper;
+        }
+    '''
+
+    private static final String HELPER = '''
+        package sample;
+
+        public class Helper { }
+    '''
+
+    void 'Static factories are generated for supported artifacts only'() {
+        given:
+        File output = Files.createTempDirectory('static-factories').toFile()
+
+        when:
+        boolean success = compile(output, true)
+        File generated = new File(output, 'sample/InjectableService_StaticFactory.java')
+
+        then:
+        success
+        generated.exists()
+        generated.text.contains('new sample.InjectableService(injector.getInstance(sample.Helper.class, basilisk.util.AnnotationUtils.named("other")))')
+        generated.text.contains('instance.setApplication(injector.getInstance(basilisk.core.BasiliskApplication.class));')
+        generated.text.contains('instance.helper = injector.getInstance(sample.Helper.class);')
+        !new File(output, 'sample/UnsupportedService_StaticFactory.java').exists()
+        new File(output, 'META-INF/injection/basilisk.core.injection.StaticFactory').readLines() == ['sample.InjectableService_StaticFactory']
+
+        cleanup:
+        output.deleteDir()
+    }
+
+    void 'Static factories are not generated unless enabled'() {
+        given:
+        File output = Files.createTempDirectory('static-factories').toFile()
+
+        when:
+        boolean success = compile(output, false)
+
+        then:
+        success
+        !new File(output, 'sample/InjectableService_StaticFactory.java').exists()
+        !new File(output, 'META-INF/injection/basilisk.core.injection.StaticFactory').exists()
+
+        cleanup:
+        output.deleteDir()
+    }
+
+    private static boolean compile(File output, boolean enabled) {
+        JavaCompiler compiler = ToolProvider.systemJavaCompiler
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)
+        List<String> options = ['-proc:only', '-s', output.absolutePath, '-d', output.absolutePath, '-classpath', System.getProperty('java.class.path')]
+        if (enabled) {
+            options << ('-A' + StaticFactoryProcessor.OPTION_ENABLED + '=true')
+        }
+        List<JavaFileObject> sources = [
+            source('sample/InjectableService', INJECTABLE_SERVICE),
+            source('sample/UnsupportedService', UNSUPPORTED_SERVICE),
+            source('sample/Helper', HELPER)
+        ]
+        JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, sources)
+        task.processors = [new StaticFactoryProcessor()]
+        boolean success = task.call()
+        fileManager.close()
+        success
+    }
+
+    private static JavaFileObject source(String name, String code) {
+        new SimpleJavaFileObject(URI.create("string:///${name}.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                code
+            }
+        }
+    }
+}
@@ -308,6 +308,61 @@ public interface Context {
     @Nullable
     <T> T getConverted(@Nonnull String key, @Nonnull Class<T> type, @Nullable T defaultValue);
 
+    /**
+     * Searches for the key in this context and its hierarchy.
+     *
+     * @param key the key to search
+     * @return true if the context (or its parent) contains the given key, false otherwise
+     * @since 1.0.0
+     */
+    boolean containsKey(@Nonnull ContextKey<?> key);
+
+    /**
+     * Searches for the key in this context only.
+     *
+     * @param key the key to search
+     * @return true if the context contains the given key, false otherwise
+     * @since 1.0.0
+     */
+    boolean hasKey(@Nonnull ContextKey<?> key);
+
+    /**
+     * Returns the value associated with the given key. This operation will traverse
+     * up the context hierarchy until it finds a key.
+     *
+     * @param key the key to search
+     * @param <T> the type of the value
+     * @return the value associated with the key or <tt>null</tt> if not found.
+     * @throws ClassCastException if the value is not compatible with the key's type
+     * @since 1.0.0
+     */
+    @Nullable
+    <T> T get(@Nonnull ContextKey<T> key);
+
+    /**
+     * Sets a key/value pair on this context. If the context has a parent and if the
+     * key matches a parent key then the value will shadow the parent's, that is, the parent
+     * value will not be overwritten.
+     *
+     * @param key   the key to be registered
+     * @param value the value to save
+     * @param <T>   the type of the value
+     * @since 1.0.0
+     */
+    <T> void put(@Nonnull ContextKey<T> key, @Nullable T value);
+
+    /**
+     * Removes a key from this context. Does not affect the context's hierarchy.
+     *
+     * @param key the key to be removed
+     * @param <T> the type of the value
+     * @return the value associated with the key or <tt>null</tt> if there wasn't any value.
+     * @throws ClassCastException if the value is not compatible with the key's type
+     * @since 1.0.0
+     */
+    @Nullable
+    <T> T remove(@Nonnull ContextKey<T> key);
+
     /**
      * Inject properties and members annotated with {@code basilisk.inject.Contextual}.
      *
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Typed key for values stored in a {@link Context}. Every key name is assigned a dense index
+ * the first time a key with that name is declared, which lets contexts store the value on an
+ * array slot instead of a hash table. Values remain reachable through the {@code String} based
+ * methods of {@code Context} using the key's name.
+ * <p>
+ * Indexes are global and never reclaimed, thus only the first {@code MAX_INDEXED_KEYS} names
+ * receive one. Keys declared past that limit work all the same, their values are stored by name.
+ * <p>
+ * Two keys are equal if they have the same name and type, regardless of their index.
+ * <p>
+ * Keys are meant to be declared once and kept in constants, for example
+ * <pre>
+ * public static final ContextKey&lt;Locale&gt; LOCALE = ContextKey.of("locale", Locale.class);
+ * </pre>
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public final class ContextKey<T> {
+    public static final int MAX_INDEXED_KEYS = 64;
+    public static final int NO_INDEX = -1;
+
+    private static final String ERROR_NAME_BLANK = "Argument 'name' must not be blank";
+    private static final Map<String, Integer> INDEXES = new ConcurrentHashMap<>();
+    private static final Object LOCK = new Object[0];
+    // lets lookups by name skip the index table until the first key is declared
+    private static volatile boolean indexed;
+    // written after INDEXES, names with a lower index are visible to readers of this value
+    private static volatile int indexedCount;
+
+    private final String name;
+    private final Class<T> type;
+    private final int index;
+
+    private ContextKey(@Nonnull String name, @Nonnull Class<T> type, int index) {
+        this.name = name;
+        this.type = type;
+        this.index = index;
+    }
+
+    /**
+     * Declares a key with the given name and type. Keys sharing the same name share the same
+     * index, and thus the same storage, regardless of their type.
+     *
+     * @param name the name of the key. Must not be blank.
+     * @param type the type of the values associated with the key. Must not be a primitive type.
+     *
+     * @return a key with the given name and type.
+     */
+    @Nonnull
+    public static <T> ContextKey<T> of(@Nonnull String name, @Nonnull Class<T> type) {
+        requireNonBlank(name, ERROR_NAME_BLANK);
+        requireNonNull(type, "Argument 'type' must not be null");
+        if (type.isPrimitive()) {
+            throw new IllegalArgumentException("Argument 'type' must not be a primitive type: " + type.getName());
+        }
+
+        Integer index = INDEXES.get(name);
+        if (index == null) {
+            synchronized (LOCK) {
+                index = INDEXES.get(name);
+                if (index == null) {
+                    if (INDEXES.size() >= MAX_INDEXED_KEYS) {
+                        return new ContextKey<>(name, type, NO_INDEX);
+                    }
+                    // indexes must be dense as they are used to size slot tables
+                    index = INDEXES.size();
+                    INDEXES.put(name, index);
+                    indexedCount = index + 1;
+                    indexed = true;
+                }
+            }
+        }
+        return new ContextKey<>(name, type, index);
+    }
+
+    /**
+     * Returns the index assigned to the given name, if a key with that name has been declared.
+     *
+     * @param name the name of the key
+     *
+     * @return the index of the key or {@code NO_INDEX} if no key with that name has been assigned an index.
+     */
+    public static int indexOf(@Nonnull String name) {
+        if (!indexed) {
+            return NO_INDEX;
+        }
+        Integer index = INDEXES.get(name);
+        return index != null ? index : NO_INDEX;
+    }
+
+    /**
+     * Returns the number of names that have been assigned an index. Names declared afterwards are assigned
+     * an index equal to or greater than this value.
+     */
+    public static int indexedCount() {
+        return indexedCount;
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    @Nonnull
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the index assigned to this key's name, or {@code NO_INDEX} if it was declared past {@code MAX_INDEXED_KEYS}.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Casts the given value to the type of this key.
+     *
+     * @throws ClassCastException if the value is not compatible with this key's type
+     */
+    @Nullable
+    public T cast(@Nullable Object value) {
+        return type.cast(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ContextKey<?> that = (ContextKey<?>) o;
+        return name.equals(that.name) && type.equals(that.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + type.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ContextKey{name='" + name + "', type=" + type.getName() + ", index=" + index + '}';
+    }
+}
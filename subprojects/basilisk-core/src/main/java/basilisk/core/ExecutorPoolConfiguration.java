@@ -0,0 +1,131 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Settings of a thread pool created by {@link ExecutorServiceManager#createPool(String, ExecutorPoolConfiguration)}.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public final class ExecutorPoolConfiguration {
+    /**
+     * Queue capacity that does not limit the number of pending tasks.
+     */
+    public static final int UNBOUNDED = -1;
+
+    private static final long DEFAULT_KEEP_ALIVE = TimeUnit.SECONDS.toMillis(60);
+
+    /**
+     * What to do with a task when both the pool and its queue are full.
+     */
+    public enum RejectionPolicy {
+        /**
+         * Throw a {@code RejectedExecutionException}.
+         */
+        ABORT,
+        /**
+         * Run the task in the thread that submitted it.
+         */
+        CALLER_RUNS,
+        /**
+         * Silently drop the task.
+         */
+        DISCARD,
+        /**
+         * Drop the oldest pending task and submit the task again. Requires a queue capacity other than {@code 0}.
+         */
+        DISCARD_OLDEST
+    }
+
+    private final int coreSize;
+    private final int maxSize;
+    private final int queueCapacity;
+    private final long keepAlive;
+    private final RejectionPolicy rejectionPolicy;
+
+    /**
+     * @param coreSize        number of threads to keep in the pool, even if idle
+     * @param maxSize         maximum number of threads. Threads beyond the core size are only created when the queue is full
+     * @param queueCapacity   maximum number of pending tasks, {@code 0} hands tasks directly to threads, {@link #UNBOUNDED} for no limit
+     * @param keepAlive       time in milliseconds that threads beyond the core size are kept when idle
+     * @param rejectionPolicy what to do with tasks that can not be accepted
+     */
+    public ExecutorPoolConfiguration(int coreSize, int maxSize, int queueCapacity, long keepAlive, @Nonnull RejectionPolicy rejectionPolicy) {
+        if (coreSize < 0 || maxSize < 1 || maxSize < coreSize) {
+            throw new IllegalArgumentException("Invalid pool sizes: core=" + coreSize + ", max=" + maxSize);
+        }
+        if (queueCapacity < UNBOUNDED) {
+            throw new IllegalArgumentException("Invalid queue capacity: " + queueCapacity);
+        }
+        if (queueCapacity == 0 && rejectionPolicy == RejectionPolicy.DISCARD_OLDEST) {
+            // there is never an oldest task to drop, the task would be resubmitted endlessly
+            throw new IllegalArgumentException("Rejection policy " + rejectionPolicy + " requires a queue capacity other than 0");
+        }
+        if (keepAlive < 0) {
+            throw new IllegalArgumentException("Invalid keep alive: " + keepAlive);
+        }
+        this.coreSize = coreSize;
+        this.maxSize = maxSize;
+        this.queueCapacity = queueCapacity;
+        this.keepAlive = keepAlive;
+        this.rejectionPolicy = requireNonNull(rejectionPolicy, "Argument 'rejectionPolicy' must not be null");
+    }
+
+    /**
+     * Creates the settings of a pool with a fixed number of threads and an unbounded queue.
+     */
+    @Nonnull
+    public static ExecutorPoolConfiguration fixed(int size) {
+        return new ExecutorPoolConfiguration(size, size, UNBOUNDED, DEFAULT_KEEP_ALIVE, RejectionPolicy.ABORT);
+    }
+
+    public int getCoreSize() {
+        return coreSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getKeepAlive() {
+        return keepAlive;
+    }
+
+    @Nonnull
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorPoolConfiguration[coreSize=" + coreSize +
+            ", maxSize=" + maxSize +
+            ", queueCapacity=" + queueCapacity +
+            ", keepAlive=" + keepAlive +
+            ", rejectionPolicy=" + rejectionPolicy +
+            "]";
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+
+/**
+ * Point in time view of the state of a pool created by {@link ExecutorServiceManager#createPool(String, ExecutorPoolConfiguration)}.
+ * All times are expressed in nanoseconds.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public final class ExecutorPoolMetrics {
+    private final String name;
+    private final int poolSize;
+    private final int activeCount;
+    private final int queuedCount;
+    private final long completedTaskCount;
+    private final long rejectedTaskCount;
+    private final long totalQueueTime;
+    private final long maxQueueTime;
+    private final long totalExecutionTime;
+    private final long maxExecutionTime;
+
+    public ExecutorPoolMetrics(@Nonnull String name, int poolSize, int activeCount, int queuedCount,
+                               long completedTaskCount, long rejectedTaskCount,
+                               long totalQueueTime, long maxQueueTime,
+                               long totalExecutionTime, long maxExecutionTime) {
+        this.name = requireNonBlank(name, "Argument 'name' must not be blank");
+        this.poolSize = poolSize;
+        this.activeCount = activeCount;
+        this.queuedCount = queuedCount;
+        this.completedTaskCount = completedTaskCount;
+        this.rejectedTaskCount = rejectedTaskCount;
+        this.totalQueueTime = totalQueueTime;
+        this.maxQueueTime = maxQueueTime;
+        this.totalExecutionTime = totalExecutionTime;
+        this.maxExecutionTime = maxExecutionTime;
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Number of threads currently in the pool.
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Number of threads currently executing tasks.
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * Number of tasks waiting to be executed.
+     */
+    public int getQueuedCount() {
+        return queuedCount;
+    }
+
+    public long getCompletedTaskCount() {
+        return completedTaskCount;
+    }
+
+    public long getRejectedTaskCount() {
+        return rejectedTaskCount;
+    }
+
+    /**
+     * Total time completed tasks spent waiting in the queue.
+     */
+    public long getTotalQueueTime() {
+        return totalQueueTime;
+    }
+
+    public long getMaxQueueTime() {
+        return maxQueueTime;
+    }
+
+    public long getMeanQueueTime() {
+        return completedTaskCount == 0 ? 0L : totalQueueTime / completedTaskCount;
+    }
+
+    /**
+     * Total time spent executing completed tasks.
+     */
+    public long getTotalExecutionTime() {
+        return totalExecutionTime;
+    }
+
+    public long getMaxExecutionTime() {
+        return maxExecutionTime;
+    }
+
+    public long getMeanExecutionTime() {
+        return completedTaskCount == 0 ? 0L : totalExecutionTime / completedTaskCount;
+    }
+
+    @Override
+    public String toString() {
+        return name +
+            " [poolSize=" + poolSize +
+            ", active=" + activeCount +
+            ", queued=" + queuedCount +
+            ", completed=" + completedTaskCount +
+            ", rejected=" + rejectedTaskCount +
+            ", queueTime(mean/max ms)=" + toMillis(getMeanQueueTime()) + "/" + toMillis(maxQueueTime) +
+            ", executionTime(mean/max ms)=" + toMillis(getMeanExecutionTime()) + "/" + toMillis(maxExecutionTime) +
+            "]";
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
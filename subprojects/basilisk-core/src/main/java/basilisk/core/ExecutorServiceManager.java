@@ -18,12 +18,27 @@ package basilisk.core;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Andres Almiray
  */
 public interface ExecutorServiceManager {
+    /**
+     * Name of the executor that runs each task in a new virtual thread, or in a platform thread
+     * if the current runtime does not support virtual threads.
+     */
+    String VIRTUAL = "virtual";
+
+    /**
+     * Configuration key for the time in milliseconds executors are given to terminate when the application shuts down.
+     */
+    String KEY_SHUTDOWN_TIMEOUT = "basilisk.executor.shutdown.timeout";
+
+    long DEFAULT_SHUTDOWN_TIMEOUT = 5000L;
+
     /**
      * Returns an immutable view of all {@code ExecutorService}s currently managed.
      *
@@ -38,5 +53,75 @@ public interface ExecutorServiceManager {
     @Nullable
     ExecutorService remove(@Nullable ExecutorService executorService);
 
+    /**
+     * Registers an {@code ExecutorService} under the given name. The executor will be managed by this instance.
+     *
+     * @param name            the name of the executor
+     * @param executorService the executor to be registered
+     *
+     * @return the registered executor
+     */
+    @Nonnull
+    ExecutorService register(@Nonnull String name, @Nonnull ExecutorService executorService);
+
+    /**
+     * Finds an {@code ExecutorService} by name.
+     *
+     * @param name the name of the executor
+     *
+     * @return the matching executor or {@code null} if none was registered with that name.
+     */
+    @Nullable
+    ExecutorService getExecutorService(@Nonnull String name);
+
+    /**
+     * Returns the names of all registered {@code ExecutorService}s.
+     */
+    @Nonnull
+    Set<String> getExecutorServiceNames();
+
+    /**
+     * Creates a thread pool with the given settings and registers it under the given name.
+     * Pools created this way expose their state through {@link #getPoolMetrics(String)}.
+     *
+     * @param name          the name of the pool
+     * @param configuration the settings of the pool
+     *
+     * @return the newly created pool
+     *
+     * @since 1.0.0
+     */
+    @Nonnull
+    ExecutorService createPool(@Nonnull String name, @Nonnull ExecutorPoolConfiguration configuration);
+
+    /**
+     * Returns the current state of a pool created with {@link #createPool(String, ExecutorPoolConfiguration)}.
+     *
+     * @param name the name of the pool
+     *
+     * @return the state of the pool or {@code null} if there is no pool with that name.
+     *
+     * @since 1.0.0
+     */
+    @Nullable
+    ExecutorPoolMetrics getPoolMetrics(@Nonnull String name);
+
+    /**
+     * Initiates the shutdown of all managed executors without waiting for them to terminate.
+     */
     void shutdownAll();
+
+    /**
+     * Shuts down all managed executors in an orderly fashion. Pending tasks are allowed to complete
+     * until the deadline expires, at which point remaining tasks are interrupted.
+     *
+     * @param timeout the maximum time to wait for all executors to terminate
+     * @param unit    the time unit of the timeout argument
+     *
+     * @return executors that failed to terminate even after being interrupted, or empty if none.
+     *
+     * @since 1.0.0
+     */
+    @Nonnull
+    Collection<ExecutorService> shutdownAll(long timeout, @Nonnull TimeUnit unit);
 }
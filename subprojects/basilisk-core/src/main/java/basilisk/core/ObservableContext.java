@@ -17,6 +17,7 @@ package basilisk.core;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.List;
 
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
@@ -32,10 +33,41 @@ public interface ObservableContext extends Context {
     @Nonnull
     ContextEventListener[] getContextEventListeners();
 
+    /**
+     * Executes a set of changes as a single unit. Events triggered while the changes run are
+     * collected and coalesced per key, then delivered once the outermost batch completes.
+     * Listeners implementing {@code BatchContextEventListener} receive all events in a single
+     * call. Changes are not rolled back if the {@code Runnable} fails; pending events are
+     * delivered regardless.
+     * <p>
+     * A batch belongs to the thread that runs it. Only events triggered by that thread are
+     * collected, including events inherited from parent contexts; changes made by other threads
+     * in the meantime are delivered right away.
+     *
+     * @param changes the changes to be applied to this context. Must not be null.
+     *
+     * @since 1.0.0
+     */
+    void batch(@Nonnull Runnable changes);
+
     interface ContextEventListener {
         void contextChanged(@Nonnull ContextEvent contextEvent);
     }
 
+    /**
+     * A {@code ContextEventListener} that is able to receive the aggregated result of a batch.
+     *
+     * @since 1.0.0
+     */
+    interface BatchContextEventListener extends ContextEventListener {
+        /**
+         * Invoked once per batch with the coalesced events, in the order their keys were first changed.
+         *
+         * @param contextEvents the events triggered by the batch. Never empty.
+         */
+        void contextBatchChanged(@Nonnull List<ContextEvent> contextEvents);
+    }
+
     class ContextEvent {
         private final Type type;
         private final String key;
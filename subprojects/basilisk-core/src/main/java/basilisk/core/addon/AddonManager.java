@@ -38,11 +38,37 @@ public interface AddonManager {
     /**
      * Finds an addon by name.<p>
      * Example: findAddon("miglayout") will return a BasiliskAddon that
-     * represents the contributions of the MigLayout plugin.
+     * represents the contributions of the MigLayout plugin.<p>
+     * Lazy addons are initialized before they are returned, as if {@link #activateAddon(String)} had been called.
      *
      * @param name the name of the addon to search for
      * @return an addon instance if there's a match, null otherwise
      */
     @Nullable
     BasiliskAddon findAddon(@Nonnull String name);
+
+    /**
+     * Queries whether an addon has been initialized. Addons annotated with {@code @LazyAddon}
+     * are initialized on demand.
+     *
+     * @param name the name of the addon
+     * @return {@code true} if the addon exists and has been initialized, {@code false} otherwise
+     */
+    boolean isAddonActive(@Nonnull String name);
+
+    /**
+     * Initializes a lazy addon. Has no effect if the addon has been initialized already.
+     * Concurrent callers wait until the addon has been initialized. An addon whose initialization
+     * fails remains inactive and is initialized again by its next trigger.
+     *
+     * @param name the name of the addon
+     */
+    void activateAddon(@Nonnull String name);
+
+    /**
+     * Initializes all lazy addons that contribute the given MVC group type.
+     *
+     * @param mvcType the type of the MVC group about to be created
+     */
+    void activateAddonsForMVCGroup(@Nonnull String mvcType);
 }
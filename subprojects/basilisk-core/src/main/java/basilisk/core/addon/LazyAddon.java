@@ -0,0 +1,51 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.addon;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code BasiliskAddon} for on-demand activation.
+ * <p>
+ * The MVC groups of a lazy addon are registered at startup, however the addon is neither initialized nor
+ * registered as an event listener or shutdown handler until any of its triggers is met.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+public @interface LazyAddon {
+    /**
+     * Activate the addon before the first instance of any of its MVC groups is created.
+     */
+    boolean mvcGroups() default true;
+
+    /**
+     * Activate the addon when the first artifact instance matching any of these types is created.
+     */
+    Class<?>[] services() default {};
+
+    /**
+     * Activate the addon when any of these events is published.
+     */
+    String[] events() default {};
+}
@@ -68,5 +68,26 @@ public interface Action {
 
     void execute(Object... args);
 
+    /**
+     * Whether there are invocations of this action in progress. Invocations of actions returning a
+     * {@code java.util.concurrent.CompletionStage} are in progress until the returned stage completes.
+     *
+     * @since 1.0.0
+     */
+    boolean isRunning();
+
+    /**
+     * Cancels all invocations of this action in progress. Threads still executing the action method are interrupted
+     * and returned futures are cancelled, which ends the invocation right away.
+     * <p>
+     * Work that completes a returned {@code CompletionStage} is not interrupted, as it runs after the action method
+     * has returned. Such work should check whether the stage it completes {@code isCancelled()} and stop on its own.
+     *
+     * @return <code>true</code> if at least one invocation was cancelled, <code>false</code> otherwise.
+     *
+     * @since 1.0.0
+     */
+    boolean cancel();
+
     void initialize();
 }
@@ -35,6 +35,13 @@ public interface ActionManager {
 
     void createActions(@Nonnull BasiliskController controller);
 
+    /**
+     * Releases all actions belonging to the supplied controller, along with any state kept for them.
+     *
+     * @param controller the controller that owns the actions to be released.
+     */
+    void releaseActions(@Nonnull BasiliskController controller);
+
     @Nonnull
     String normalizeName(@Nonnull String actionName);
 
@@ -82,6 +89,31 @@ public interface ActionManager {
      */
     void invokeAction(@Nonnull Action action, @Nonnull Object... args);
 
+    /**
+     * Whether there are invocations of the given action in progress.
+     *
+     * @param action the action to be queried
+     */
+    boolean isActionRunning(@Nonnull Action action);
+
+    /**
+     * Cancels all invocations of the given action in progress. See {@link Action#cancel()}.
+     *
+     * @param action the action to be cancelled
+     *
+     * @return <code>true</code> if at least one invocation was cancelled, <code>false</code> otherwise.
+     */
+    boolean cancelAction(@Nonnull Action action);
+
+    /**
+     * Reports the progress of the given action. Updates are coalesced, only the latest value
+     * will be published inside the UI thread.
+     *
+     * @param action   the action in progress
+     * @param progress a value between 0 and 1
+     */
+    void reportActionProgress(@Nonnull Action action, double progress);
+
     /**
      * Register an {@code ActionHandler} with this instance.
      *
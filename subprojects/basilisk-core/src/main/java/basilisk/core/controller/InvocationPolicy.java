@@ -0,0 +1,76 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Limits how often a controller action is executed when it is triggered repeatedly.</p>
+ * <p>The following snippet debounces a search action, it will only be executed once the
+ * user stops typing for half a second, receiving the arguments of the last trigger</p>
+ * <pre>
+ * class SampleController {
+ *     &#064;InvocationPolicy(value = InvocationPolicy.Type.DEBOUNCE, period = 500L)
+ *     void search(String text) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * <p>Policies may also be set (or overridden) with configuration, for example</p>
+ * <pre>
+ * controller.invocation.com.acme.SampleController.search.policy = throttle
+ * controller.invocation.com.acme.SampleController.search.period = 1000
+ * </pre>
+ *
+ * @author Andres Almiray
+ * @see InvocationPolicy.Type
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+public @interface InvocationPolicy {
+    long DEFAULT_PERIOD = 250L;
+
+    Type value();
+
+    /**
+     * Time in milliseconds used by {@code THROTTLE} and {@code DEBOUNCE}.
+     */
+    long period() default DEFAULT_PERIOD;
+
+    /**
+     * The following values apply
+     * <ul>
+     * <li>{@code NONE} - every trigger executes the action.</li>
+     * <li>{@code THROTTLE} - at most one execution per period, triggers in between are dropped.</li>
+     * <li>{@code DEBOUNCE} - executes once no trigger has been received for a whole period, with the latest arguments.</li>
+     * <li>{@code DROP_WHILE_RUNNING} - triggers are dropped while an execution is in progress; the action is disabled meanwhile.</li>
+     * <li>{@code COALESCE_LATEST} - triggers received while an execution is in progress are merged into a single execution with the latest arguments.</li>
+     * </ul>
+     */
+    enum Type {
+        NONE,
+        THROTTLE,
+        DEBOUNCE,
+        DROP_WHILE_RUNNING,
+        COALESCE_LATEST
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.controller;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+
+/**
+ * An {@code ActionHandler} that only participates in the execution of some actions.
+ * <p>
+ * The {@code ActionManager} asks the handler once per action, before the action is
+ * configured. Handlers that do not apply are left out of that action's handler chain,
+ * thus their {@code configure()}, {@code update()}, {@code before()}, {@code after()}
+ * and {@code exception()} methods will never be called for it.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public interface SelectiveActionHandler extends ActionHandler {
+    /**
+     * Whether this handler should be applied to the given action.
+     *
+     * @param action the action to be configured
+     * @param method the method that represents the action itself
+     *
+     * @return <code>true</code> if the handler applies to the action, <code>false</code> otherwise.
+     */
+    boolean appliesTo(@Nonnull Action action, @Nonnull Method method);
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.injection;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Creates and injects instances of a given type without resorting to reflection.
+ * <p>
+ * Implementations are generated at compile time by the {@code basilisk-core-compile} annotation processor
+ * for artifacts whose constructor and members can be resolved statically. A generated factory is named
+ * after its target type with {@link #CLASS_NAME_SUFFIX} appended and placed in the same package. The names of
+ * all generated factories are listed in a resource named after this interface, located in {@link #INDEX_PATH}.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public interface StaticFactory<T> {
+    String CLASS_NAME_SUFFIX = "_StaticFactory";
+    String INDEX_PATH = "META-INF/injection/";
+
+    @Nonnull
+    Class<T> getType();
+
+    /**
+     * Creates a new instance, resolving constructor arguments and injectable fields with the given injector.
+     *
+     * @param injector the injector used to resolve dependencies.
+     *
+     * @return a new, fully injected instance. Never returns null.
+     */
+    @Nonnull
+    T newInstance(@Nonnull Injector<?> injector);
+}
@@ -144,4 +144,22 @@ public interface MVCGroup extends MVCHandler {
      * @param mvcId the id of the group that has been destroyed
      */
     void notifyMVCGroupDestroyed(@Nonnull String mvcId);
+
+    /**
+     * Registers a callback that is invoked when this group is destroyed, before any of its members.
+     *
+     * @param listener the callback to be invoked
+     *
+     * @since 1.0.0
+     */
+    void addDestroyListener(@Nonnull Runnable listener);
+
+    /**
+     * Removes a callback previously registered with {@link #addDestroyListener(Runnable)}.
+     *
+     * @param listener the callback to be removed
+     *
+     * @since 1.0.0
+     */
+    void removeDestroyListener(@Nonnull Runnable listener);
 }
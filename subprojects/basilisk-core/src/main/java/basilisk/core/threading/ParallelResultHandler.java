@@ -0,0 +1,38 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.threading;
+
+import basilisk.exceptions.ParallelExecutionException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Receives the results of tasks executed with {@link UIThreadManager#runOutsideUIParallel(java.util.List, ParallelResultHandler)}.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public interface ParallelResultHandler<R> {
+    /**
+     * Invoked inside the UI thread once all tasks have completed.
+     *
+     * @param results the results of each task, in the order the tasks were given. Failed tasks have a {@code null} result
+     * @param failure the failures of all tasks that did not complete normally, {@code null} if all tasks succeeded
+     */
+    void handle(@Nonnull List<R> results, @Nullable ParallelExecutionException failure);
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.threading;
+
+/**
+ * Lanes used to order background tasks submitted to the default executor. Queued tasks run in lane order,
+ * a task that has been waiting for too long is executed regardless of its lane.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public enum TaskPriority {
+    /**
+     * Work the user is actively waiting for, such as a lookup triggered from the UI.
+     */
+    INTERACTIVE,
+    /**
+     * Regular background work. This is the default lane.
+     */
+    NORMAL,
+    /**
+     * Long running or batch work, such as exports and imports. Bulk tasks never occupy all threads of the default executor.
+     */
+    BULK
+}
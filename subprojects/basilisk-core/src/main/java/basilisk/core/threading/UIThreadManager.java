@@ -15,9 +15,110 @@
  */
 package basilisk.core.threading;
 
+import basilisk.core.mvc.MVCGroup;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author Andres Almiray
  */
 public interface UIThreadManager extends ThreadingHandler {
+    /**
+     * Executes a code block on the given {@code ExecutorService}, regardless of the calling thread.
+     * Uncaught exceptions are forwarded to the application's exception handler.
+     *
+     * @param executorService the executor to use
+     * @param runnable        a code block to be executed
+     *
+     * @since 1.0.0
+     */
+    void runOutsideUIAsync(@Nonnull ExecutorService executorService, @Nonnull Runnable runnable);
+
+    /**
+     * Executes a code block outside of the UI thread. If the calling thread is the UI thread the code block
+     * is submitted to the default executor in the given lane, otherwise it runs in the calling thread.
+     *
+     * @param priority the lane to use
+     * @param runnable a code block to be executed
+     *
+     * @since 1.0.0
+     */
+    void runOutsideUI(@Nonnull TaskPriority priority, @Nonnull Runnable runnable);
+
+    /**
+     * Executes a code block on the default executor in the given lane, regardless of the calling thread.
+     *
+     * @param priority the lane to use
+     * @param runnable a code block to be executed
+     *
+     * @since 1.0.0
+     */
+    void runOutsideUIAsync(@Nonnull TaskPriority priority, @Nonnull Runnable runnable);
+
+    /**
+     * Executes a code block synchronously on the UI thread, waiting at most the given time for it to complete.
+     * Uncaught exceptions are forwarded to the application's exception handler.
+     *
+     * @param runnable a code block to be executed
+     * @param timeout  the maximum time to wait
+     * @param unit     the time unit of the timeout argument
+     *
+     * @throws basilisk.exceptions.UIThreadTimeoutException  if the code block did not complete in time
+     * @throws basilisk.exceptions.UIThreadDeadlockException if the UI thread is blocked by the calling thread
+     * @since 1.0.0
+     */
+    void runInsideUISync(@Nonnull Runnable runnable, long timeout, @Nonnull TimeUnit unit);
+
+    /**
+     * Executes a code block synchronously on the UI thread, waiting at most the given time for its result.
+     *
+     * @param callable a code block to be executed
+     * @param timeout  the maximum time to wait
+     * @param unit     the time unit of the timeout argument
+     *
+     * @return the result of the code block
+     *
+     * @throws basilisk.exceptions.UIThreadTimeoutException  if the code block did not complete in time
+     * @throws basilisk.exceptions.UIThreadDeadlockException if the UI thread is blocked by the calling thread
+     * @since 1.0.0
+     */
+    @Nullable
+    <R> R runInsideUISync(@Nonnull Callable<R> callable, long timeout, @Nonnull TimeUnit unit);
+
+    /**
+     * Executes all tasks in parallel outside of the UI thread. Once every task has completed the handler is
+     * invoked inside the UI thread with all results and the aggregated failures, if any.
+     *
+     * @param tasks   the tasks to be executed
+     * @param handler receives the results of all tasks
+     *
+     * @return a Future that completes when all tasks have completed. Cancelling it cancels all pending tasks,
+     * in which case the handler is not invoked
+     *
+     * @since 1.0.0
+     */
+    @Nonnull
+    <R> Future<List<R>> runOutsideUIParallel(@Nonnull List<? extends Callable<? extends R>> tasks, @Nonnull ParallelResultHandler<R> handler);
 
+    /**
+     * Executes all tasks in parallel outside of the UI thread on behalf of an MVC group. Behaves like
+     * {@link #runOutsideUIParallel(List, ParallelResultHandler)} except that all tasks are cancelled when
+     * the owning group is destroyed before they complete.
+     *
+     * @param owner   the group that owns the tasks
+     * @param tasks   the tasks to be executed
+     * @param handler receives the results of all tasks
+     *
+     * @return a Future that completes when all tasks have completed
+     *
+     * @since 1.0.0
+     */
+    @Nonnull
+    <R> Future<List<R>> runOutsideUIParallel(@Nonnull MVCGroup owner, @Nonnull List<? extends Callable<? extends R>> tasks, @Nonnull ParallelResultHandler<R> handler);
 }
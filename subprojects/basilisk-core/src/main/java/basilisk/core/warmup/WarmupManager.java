@@ -0,0 +1,53 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.warmup;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+
+/**
+ * Schedules and tracks the execution of {@code WarmupTask}s.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public interface WarmupManager {
+    /**
+     * Schedules all registered tasks on a low priority background thread. Has no effect if
+     * warmup was already started or it has been disabled by configuration.
+     */
+    void start();
+
+    /**
+     * Cancels all pending tasks and interrupts the current one, if any.
+     */
+    void cancel();
+
+    /**
+     * Whether there are tasks pending or running.
+     *
+     * @return {@code true} if warmup is in progress, {@code false} otherwise.
+     */
+    boolean isRunning();
+
+    /**
+     * Returns the execution time, in milliseconds, of all completed tasks keyed by task name.
+     *
+     * @return an immutable {@code Map} of task durations. Never returns null.
+     */
+    @Nonnull
+    Map<String, Long> getDurations();
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.core.warmup;
+
+import basilisk.core.BasiliskApplication;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A unit of work executed in the background once the application has reached the {@code READY} phase.
+ * <p>
+ * Tasks are discovered by type from the {@code Injector} and ordered by their {@code @Named} and
+ * {@code @DependsOn} annotations. Tasks should check {@code Thread.currentThread().isInterrupted()}
+ * when iterating over large collections, as warmup is cancelled when the application shuts down.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public interface WarmupTask {
+    /**
+     * Returns the name of this task.
+     *
+     * @return the name of this task. Never returns null.
+     */
+    @Nonnull
+    String getName();
+
+    /**
+     * Executes this task. Invoked outside of the UI thread.
+     *
+     * @param application the current application
+     *
+     * @throws Exception if the task fails. Failures are logged and do not prevent other tasks from running.
+     */
+    void execute(@Nonnull BasiliskApplication application) throws Exception;
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.exceptions;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Aggregates the failures of tasks executed in parallel. The first failure becomes the cause of
+ * this exception, all others are added as suppressed exceptions.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class ParallelExecutionException extends BasiliskException {
+    private static final long serialVersionUID = 4875207736541927093L;
+
+    private final Map<Integer, Throwable> failures;
+
+    public ParallelExecutionException(int taskCount, @Nonnull Map<Integer, Throwable> failures) {
+        super(checkNonNull(failures, "failures").size() + " of " + taskCount + " tasks failed",
+            failures.isEmpty() ? null : failures.values().iterator().next());
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+        boolean first = true;
+        for (Throwable failure : this.failures.values()) {
+            if (!first) {
+                addSuppressed(failure);
+            }
+            first = false;
+        }
+    }
+
+    /**
+     * Returns the failures keyed by the position of the task that failed.
+     */
+    @Nonnull
+    public Map<Integer, Throwable> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.exceptions;
+
+/**
+ * Thrown when waiting for a task inside the UI thread would never complete because the UI thread
+ * is itself blocked by the waiting thread.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class UIThreadDeadlockException extends BasiliskException {
+    private static final long serialVersionUID = -3108364962387130925L;
+
+    public UIThreadDeadlockException(String message) {
+        super(checkNonBlank(message, "message"));
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.exceptions;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thrown when a task posted to the UI thread does not complete within the given time.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class UIThreadTimeoutException extends BasiliskException {
+    private static final long serialVersionUID = 6402017838531290173L;
+
+    public UIThreadTimeoutException(long timeout, TimeUnit unit) {
+        super("Timed out after " + timeout + " " + checkNonNull(unit, "unit").name().toLowerCase() + " waiting for a task inside the UI thread");
+    }
+}
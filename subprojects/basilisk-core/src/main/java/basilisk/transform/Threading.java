@@ -15,6 +15,8 @@
  */
 package basilisk.transform;
 
+import basilisk.core.threading.TaskPriority;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -75,6 +77,32 @@ import java.lang.annotation.Target;
 public @interface Threading {
     Policy value() default Policy.OUTSIDE_UITHREAD;
 
+    /**
+     * Name of the {@code ExecutorService} used by the {@code OUTSIDE_UITHREAD} and {@code OUTSIDE_UITHREAD_ASYNC}
+     * policies, as registered with {@code basilisk.core.ExecutorServiceManager}. Code is always submitted to the
+     * named executor, even when the calling thread is not the UI thread. The default executor is used if blank.
+     * <p>
+     * Named executors are defined with configuration, for example
+     * <pre>
+     * basilisk.executor.io.type = fixed
+     * basilisk.executor.io.size = 8
+     * </pre>
+     * The {@code virtual} executor is always available; it runs each task in a new virtual thread if the runtime
+     * supports them.
+     *
+     * @since 1.0.0
+     */
+    String executor() default "";
+
+    /**
+     * Lane used by the {@code OUTSIDE_UITHREAD} and {@code OUTSIDE_UITHREAD_ASYNC} policies when code is
+     * submitted to the default executor. The value set on a class applies to methods that are not annotated with
+     * {@code @Threading}; an annotated method always uses its own value, even when it is left as {@code NORMAL}.
+     *
+     * @since 1.0.0
+     */
+    TaskPriority priority() default TaskPriority.NORMAL;
+
     /**
      * Indicates the type of threading management for a method or property.</p>
      * The following values apply
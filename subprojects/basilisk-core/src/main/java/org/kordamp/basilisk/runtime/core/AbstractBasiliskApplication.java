@@ -46,6 +46,7 @@ import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleObjectProperty;
+import org.kordamp.basilisk.runtime.core.threading.NamedThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +58,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static basilisk.util.AnnotationUtils.named;
 import static basilisk.util.BasiliskApplicationUtils.parseLocale;
@@ -376,12 +378,53 @@ public abstract class AbstractBasiliskApplication implements BasiliskApplication
         log.debug("Shutdown stage 4: execute Shutdown script");
         getApplicationConfigurer().runLifecycleHandler(Lifecycle.SHUTDOWN);
 
-        injector.getInstance(ExecutorServiceManager.class).shutdownAll();
-        injector.close();
+        final long shutdownTimeout = getConfiguration().getAsLong(ExecutorServiceManager.KEY_SHUTDOWN_TIMEOUT, ExecutorServiceManager.DEFAULT_SHUTDOWN_TIMEOUT);
+        final boolean insideUIThread = getUIThreadManager().isUIThread();
+        if (insideUIThread || NamedThreadFactory.isManagedThread()) {
+            // never block the UI thread while pending tasks complete, nor wait for the executor
+            // running the calling task; afterShutdown() runs once this thread is done
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    releaseResources(shutdownTimeout, insideUIThread);
+                }
+            }, "basilisk-shutdown-thread").start();
+        } else {
+            releaseResources(shutdownTimeout, false);
+        }
 
         return true;
     }
 
+    private void releaseResources(long shutdownTimeout, boolean closeInsideUIThread) {
+        try {
+            injector.getInstance(ExecutorServiceManager.class).shutdownAll(shutdownTimeout, TimeUnit.MILLISECONDS);
+            if (closeInsideUIThread) {
+                // @PreDestroy methods of views and models may touch UI components
+                getUIThreadManager().runInsideUISync(new Runnable() {
+                    @Override
+                    public void run() {
+                        injector.close();
+                    }
+                });
+            } else {
+                injector.close();
+            }
+        } finally {
+            afterShutdown();
+        }
+    }
+
+    /**
+     * Invoked once executors have terminated and the injector has been closed.
+     * Runs on a separate thread when shutdown started inside the UI thread or inside a thread
+     * of an executor created by Basilisk. The injector is closed inside the UI thread if
+     * shutdown started there.
+     */
+    protected void afterShutdown() {
+        // empty
+    }
+
     @SuppressWarnings("unchecked")
     public void startup() {
         if (getPhase() != ApplicationPhase.INITIALIZE) { return; }
@@ -16,6 +16,7 @@
 package org.kordamp.basilisk.runtime.core;
 
 import basilisk.core.Context;
+import basilisk.core.ContextKey;
 import basilisk.exceptions.FieldException;
 import basilisk.inject.Contextual;
 import com.googlecode.openbeans.PropertyDescriptor;
@@ -23,9 +24,19 @@ import com.googlecode.openbeans.PropertyEditor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static basilisk.core.editors.PropertyEditorResolver.findEditor;
 import static basilisk.util.AnnotationUtils.annotationsOfMethodParameter;
@@ -42,13 +53,34 @@ import static basilisk.util.TypeUtils.castToLong;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Values inherited from parent contexts are cached per key once resolved, as long as every
+ * context in the parent chain extends this class and opts in by overriding {@code supportsCaching()}.
+ * Parents notify their children whenever a key is changed or when they are destroyed, which
+ * invalidates the affected cache entries, so that lookups cost the same regardless of how deep
+ * a context is nested. Values inherited through a {@code ContextKey} are cached on an array slot
+ * when the key has an index, by name otherwise.
+ *
  * @author Andres Almiray
  */
 public abstract class AbstractContext implements Context {
+    protected static final String ERROR_CONTEXT_KEY_NULL = "Argument 'key' must not be null";
+    private static final Object MISSING = new Object[0];
+    private static final Object NULL_VALUE = new Object[0];
+
     protected Context parentContext;
 
+    private final boolean cacheable;
+    private final Map<String, Object> inheritedValues = new ConcurrentHashMap<>();
+    // inherited values of indexed keys; allocated on first use, discarded when the chain changes
+    private volatile AtomicReferenceArray<Object> inheritedSlots;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Object lock = new Object[0];
+    @GuardedBy("lock")
+    private final Set<AbstractContext> children = Collections.newSetFromMap(new WeakHashMap<AbstractContext, Boolean>());
+
     public AbstractContext(@Nullable Context parentContext) {
         this.parentContext = parentContext;
+        cacheable = parentContext instanceof AbstractContext && ((AbstractContext) parentContext).registerChild(this);
     }
 
     @Nullable
@@ -79,33 +111,198 @@ public abstract class AbstractContext implements Context {
     @Nullable
     @Override
     public Object get(@Nonnull String key) {
-        if (hasKey(key)) {
-            return doGet(key);
-        } else if (parentContext != null) {
-            return parentContext.get(key);
-        } else {
-            return null;
-        }
+        Object value = lookup(key, null);
+        return value != MISSING ? value : null;
+    }
+
+    @Nullable
+    @Override
+    public <T> T get(@Nonnull ContextKey<T> key) {
+        requireNonNull(key, ERROR_CONTEXT_KEY_NULL);
+        Object value = lookup(key.getName(), key);
+        return value != MISSING ? key.cast(value) : null;
+    }
+
+    @Override
+    public boolean containsKey(@Nonnull ContextKey<?> key) {
+        requireNonNull(key, ERROR_CONTEXT_KEY_NULL);
+        return lookup(key.getName(), key) != MISSING;
+    }
+
+    @Override
+    public boolean hasKey(@Nonnull ContextKey<?> key) {
+        requireNonNull(key, ERROR_CONTEXT_KEY_NULL);
+        return hasKey(key.getName());
+    }
+
+    @Override
+    public <T> void put(@Nonnull ContextKey<T> key, @Nullable T value) {
+        requireNonNull(key, ERROR_CONTEXT_KEY_NULL);
+        put(key.getName(), value);
+    }
+
+    @Nullable
+    @Override
+    public <T> T remove(@Nonnull ContextKey<T> key) {
+        requireNonNull(key, ERROR_CONTEXT_KEY_NULL);
+        return key.cast(remove(key.getName()));
     }
 
     @Override
     public void destroy() {
+        Context parent = parentContext;
+        if (parent instanceof AbstractContext) {
+            ((AbstractContext) parent).unregisterChild(this);
+        }
+        inheritedValuesInvalidated();
         parentContext = null;
     }
 
     @Override
     public boolean containsKey(@Nonnull String key) {
-        if (hasKey(key)) {
-            return true;
-        } else if (parentContext != null) {
-            return parentContext.containsKey(key);
-        }
+        return lookup(key, null) != MISSING;
+    }
+
+    /**
+     * Whether child contexts may cache the values they inherit from this context. Subclasses that
+     * return {@code true} must call {@code keyChanged()} after every local modification.
+     *
+     * @return <code>false</code> by default.
+     */
+    protected boolean supportsCaching() {
         return false;
     }
 
+    /**
+     * Notifies child contexts that the value associated with the given key has changed.
+     * Subclasses that support caching must call this method after every local modification.
+     *
+     * @param key the key whose value was added, updated or removed.
+     */
+    protected void keyChanged(@Nonnull String key) {
+        for (AbstractContext child : children()) {
+            child.inheritedValueChanged(key);
+        }
+    }
+
+    @Nullable
+    private Object lookup(@Nonnull String key, @Nullable ContextKey<?> contextKey) {
+        if (contextKey != null ? hasKey(contextKey) : hasKey(key)) {
+            return contextKey != null ? doGet(contextKey) : doGet(key);
+        }
+
+        Context parent = parentContext;
+        if (parent == null) {
+            return MISSING;
+        } else if (!cacheable) {
+            if (contextKey != null) {
+                return parent.containsKey(contextKey) ? parent.get(contextKey) : MISSING;
+            }
+            return parent.containsKey(key) ? parent.get(key) : MISSING;
+        }
+
+        int index = contextKey != null ? contextKey.getIndex() : ContextKey.NO_INDEX;
+        if (index != ContextKey.NO_INDEX) {
+            return lookupInheritedSlot((AbstractContext) parent, index, key, contextKey);
+        }
+
+        Object cached = inheritedValues.get(key);
+        if (cached != null) {
+            return cached != NULL_VALUE ? cached : null;
+        }
+
+        long stamp = invalidations.get();
+        Object value = ((AbstractContext) parent).lookup(key, contextKey);
+        inheritedValues.put(key, value != null ? value : NULL_VALUE);
+        if (invalidations.get() != stamp) {
+            // the parent chain changed while resolving; the value may be stale already
+            inheritedValues.remove(key);
+        }
+        return value;
+    }
+
+    @Nullable
+    private Object lookupInheritedSlot(@Nonnull AbstractContext parent, int index, @Nonnull String key, @Nonnull ContextKey<?> contextKey) {
+        AtomicReferenceArray<Object> slots = inheritedSlots;
+        if (slots == null) {
+            synchronized (lock) {
+                slots = inheritedSlots;
+                if (slots == null) {
+                    slots = new AtomicReferenceArray<>(ContextKey.MAX_INDEXED_KEYS);
+                    inheritedSlots = slots;
+                }
+            }
+        }
+
+        Object cached = slots.get(index);
+        if (cached != null) {
+            return cached != NULL_VALUE ? cached : null;
+        }
+
+        long stamp = invalidations.get();
+        Object value = parent.lookup(key, contextKey);
+        slots.set(index, value != null ? value : NULL_VALUE);
+        if (invalidations.get() != stamp) {
+            // the parent chain changed while resolving; the value may be stale already
+            slots.set(index, null);
+        }
+        return value;
+    }
+
+    private boolean registerChild(@Nonnull AbstractContext child) {
+        // values are only cached if every context up the chain reports its changes
+        if (!supportsCaching() || (parentContext != null && !cacheable)) {
+            return false;
+        }
+        synchronized (lock) {
+            children.add(child);
+        }
+        return true;
+    }
+
+    private void unregisterChild(@Nonnull AbstractContext child) {
+        synchronized (lock) {
+            children.remove(child);
+        }
+    }
+
+    @Nonnull
+    private List<AbstractContext> children() {
+        synchronized (lock) {
+            return new ArrayList<>(children);
+        }
+    }
+
+    private void inheritedValueChanged(@Nonnull String key) {
+        invalidations.incrementAndGet();
+        inheritedValues.remove(key);
+        AtomicReferenceArray<Object> slots = inheritedSlots;
+        if (slots != null) {
+            int index = ContextKey.indexOf(key);
+            if (index != ContextKey.NO_INDEX) {
+                slots.set(index, null);
+            }
+        }
+        keyChanged(key);
+    }
+
+    private void inheritedValuesInvalidated() {
+        invalidations.incrementAndGet();
+        inheritedValues.clear();
+        inheritedSlots = null;
+        for (AbstractContext child : children()) {
+            child.inheritedValuesInvalidated();
+        }
+    }
+
     @Nullable
     protected abstract Object doGet(@Nonnull String key);
 
+    @Nullable
+    protected Object doGet(@Nonnull ContextKey<?> key) {
+        return doGet(key.getName());
+    }
+
     @Override
     public boolean getAsBoolean(@Nonnull String key) {
         return getAsBoolean(key, false);
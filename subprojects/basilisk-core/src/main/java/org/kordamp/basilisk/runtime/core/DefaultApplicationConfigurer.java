@@ -19,12 +19,15 @@ import basilisk.core.ApplicationClassLoader;
 import basilisk.core.ApplicationConfigurer;
 import basilisk.core.ApplicationEvent;
 import basilisk.core.BasiliskApplication;
+import basilisk.core.ExecutorPoolConfiguration;
+import basilisk.core.ExecutorServiceManager;
 import basilisk.core.LifecycleHandler;
 import basilisk.core.PlatformHandler;
 import basilisk.core.RunnableWithArgs;
 import basilisk.core.artifact.ArtifactHandler;
 import basilisk.core.artifact.ArtifactManager;
 import basilisk.core.artifact.BasiliskController;
+import basilisk.core.configuration.Configuration;
 import basilisk.core.controller.ActionHandler;
 import basilisk.core.controller.ActionInterceptor;
 import basilisk.core.editors.PropertyEditorResolver;
@@ -36,6 +39,8 @@ import basilisk.core.resources.ResourceInjector;
 import basilisk.util.ServiceLoaderUtils;
 import com.googlecode.openbeans.PropertyEditor;
 import org.kordamp.basilisk.runtime.core.controller.NoopActionManager;
+import org.kordamp.basilisk.runtime.core.threading.NamedThreadFactory;
+import org.kordamp.basilisk.runtime.core.threading.VirtualThreads;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +53,9 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static basilisk.core.BasiliskExceptionHandler.sanitize;
 import static basilisk.util.AnnotationUtils.named;
@@ -67,6 +75,8 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
     private static final String ERROR_APPLICATION_NULL = "Argument 'application' must not be null";
     private static final String KEY_APP_LIFECYCLE_HANDLER_DISABLE = "application.lifecycle.handler.disable";
     private static final String KEY_BASILISK_CONTROLLER_ACTION_HANDLER_ORDER = "basilisk.controller.action.handler.order";
+    private static final String KEY_BASILISK_EXECUTOR = "basilisk.executor";
+    private static final String KEY_TYPE_SUFFIX = ".type";
 
     private final Object lock = new Object();
     private final BasiliskApplication application;
@@ -118,6 +128,7 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
         initializePropertyEditors();
         initializeResourcesInjector();
         initializeConfigurationManager();
+        initializeExecutorServices();
         runLifecycleHandler(Lifecycle.INITIALIZE);
         applyPlatformTweaks();
         initializeAddonManager();
@@ -207,6 +218,54 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
         application.getConfigurationManager();
     }
 
+    protected void initializeExecutorServices() {
+        ExecutorServiceManager executorServiceManager = application.getInjector().getInstance(ExecutorServiceManager.class);
+        String prefix = KEY_BASILISK_EXECUTOR + ".";
+        for (Map.Entry<String, Object> entry : application.getConfiguration().asFlatMap().entrySet()) {
+            String key = entry.getKey();
+            if (!key.startsWith(prefix) || !key.endsWith(KEY_TYPE_SUFFIX) || key.length() <= prefix.length() + KEY_TYPE_SUFFIX.length()) {
+                continue;
+            }
+
+            String name = key.substring(prefix.length(), key.length() - KEY_TYPE_SUFFIX.length());
+            String type = String.valueOf(entry.getValue()).trim().toLowerCase();
+            int size = application.getConfiguration().getAsInt(prefix + name + ".size", Runtime.getRuntime().availableProcessors());
+            LOG.debug("Registering {} executor '{}'", type, name);
+            if ("pool".equals(type)) {
+                executorServiceManager.createPool(name, createExecutorPoolConfiguration(prefix + name + ".", size));
+            } else {
+                executorServiceManager.register(name, createExecutorService(name, type, size));
+            }
+        }
+    }
+
+    @Nonnull
+    protected ExecutorPoolConfiguration createExecutorPoolConfiguration(@Nonnull String prefix, int size) {
+        Configuration configuration = application.getConfiguration();
+        int coreSize = configuration.getAsInt(prefix + "core", size);
+        int maxSize = configuration.getAsInt(prefix + "max", coreSize);
+        int queueCapacity = configuration.getAsInt(prefix + "queue", ExecutorPoolConfiguration.UNBOUNDED);
+        long keepAlive = configuration.getAsLong(prefix + "keepAlive", TimeUnit.SECONDS.toMillis(60));
+        String rejection = configuration.getAsString(prefix + "rejection", ExecutorPoolConfiguration.RejectionPolicy.ABORT.name());
+        return new ExecutorPoolConfiguration(coreSize, maxSize, queueCapacity, keepAlive,
+            ExecutorPoolConfiguration.RejectionPolicy.valueOf(rejection.trim().toUpperCase().replace('-', '_')));
+    }
+
+    @Nonnull
+    protected ExecutorService createExecutorService(@Nonnull String name, @Nonnull String type, int size) {
+        String namePrefix = "basilisk-" + name + "-thread-";
+        switch (type) {
+            case "fixed":
+                return Executors.newFixedThreadPool(size, new NamedThreadFactory(namePrefix));
+            case "cached":
+                return Executors.newCachedThreadPool(new NamedThreadFactory(namePrefix));
+            case "virtual":
+                return VirtualThreads.newVirtualThreadPerTaskExecutor(namePrefix);
+            default:
+                throw new IllegalArgumentException("Value '" + type + "' of " + KEY_BASILISK_EXECUTOR + "." + name + KEY_TYPE_SUFFIX + " must be one of fixed, cached, virtual, pool");
+        }
+    }
+
     protected void initializeAddonManager() {
         application.getAddonManager().initialize();
     }
@@ -46,6 +46,8 @@ import basilisk.core.resources.ResourceInjector;
 import basilisk.core.resources.ResourceResolver;
 import basilisk.core.threading.UIThreadManager;
 import basilisk.core.view.WindowManager;
+import basilisk.core.warmup.WarmupManager;
+import basilisk.core.warmup.WarmupTask;
 import basilisk.util.CompositeResourceBundleBuilder;
 import basilisk.util.Instantiator;
 import basilisk.util.PropertiesReader;
@@ -80,9 +82,16 @@ import org.kordamp.basilisk.runtime.core.resources.DefaultResourceHandler;
 import org.kordamp.basilisk.runtime.core.resources.DefaultResourceResolverDecoratorFactory;
 import org.kordamp.basilisk.runtime.core.resources.ResourceResolverDecoratorFactory;
 import org.kordamp.basilisk.runtime.core.resources.ResourceResolverProvider;
-import org.kordamp.basilisk.runtime.core.threading.DefaultExecutorServiceProvider;
+import org.kordamp.basilisk.runtime.core.threading.ConfigurableExecutorServiceProvider;
 import org.kordamp.basilisk.runtime.core.threading.DefaultUIThreadManager;
 import org.kordamp.basilisk.runtime.core.view.NoopWindowManager;
+import org.kordamp.basilisk.runtime.core.warmup.ActionMethodsWarmupTask;
+import org.kordamp.basilisk.runtime.core.warmup.ArtifactMetadataWarmupTask;
+import org.kordamp.basilisk.runtime.core.warmup.DefaultWarmupManager;
+import org.kordamp.basilisk.runtime.core.warmup.MVCGroupClassesWarmupTask;
+import org.kordamp.basilisk.runtime.core.warmup.MessageSourceWarmupTask;
+import org.kordamp.basilisk.runtime.core.warmup.TrainingRunEventHandler;
+import org.kordamp.basilisk.runtime.core.warmup.WarmupEventHandler;
 import org.kordamp.basilisk.runtime.util.ClassResourceBundleLoader;
 import org.kordamp.basilisk.runtime.util.DefaultCompositeResourceBundleBuilder;
 import org.kordamp.basilisk.runtime.util.DefaultInstantiator;
@@ -212,7 +221,7 @@ public class DefaultApplicationModule extends AbstractModule {
 
         bind(ExecutorService.class)
             .withClassifier(named("defaultExecutorService"))
-            .toProvider(DefaultExecutorServiceProvider.class)
+            .toProvider(ConfigurableExecutorServiceProvider.class)
             .asSingleton();
 
         bind(UIThreadManager.class)
@@ -289,6 +298,34 @@ public class DefaultApplicationModule extends AbstractModule {
         bind(ExceptionHandler.class)
             .toProvider(BasiliskExceptionHandlerProvider.class)
             .asSingleton();
+
+        bind(WarmupManager.class)
+            .to(DefaultWarmupManager.class)
+            .asSingleton();
+
+        bind(EventHandler.class)
+            .to(WarmupEventHandler.class)
+            .asSingleton();
+
+        bind(EventHandler.class)
+            .to(TrainingRunEventHandler.class)
+            .asSingleton();
+
+        bind(WarmupTask.class)
+            .to(MVCGroupClassesWarmupTask.class)
+            .asSingleton();
+
+        bind(WarmupTask.class)
+            .to(ArtifactMetadataWarmupTask.class)
+            .asSingleton();
+
+        bind(WarmupTask.class)
+            .to(MessageSourceWarmupTask.class)
+            .asSingleton();
+
+        bind(WarmupTask.class)
+            .to(ActionMethodsWarmupTask.class)
+            .asSingleton();
         // end::bindings[]
     }
 }
@@ -16,6 +16,7 @@
 package org.kordamp.basilisk.runtime.core;
 
 import basilisk.core.Context;
+import basilisk.core.ContextKey;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -23,15 +24,26 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
 
 /**
+ * Values whose name matches a declared {@code ContextKey} are stored on an array slot indexed
+ * by the key's index; any other value is stored on a hash table.
+ *
  * @author Andres Almiray
  */
 public class DefaultContext extends AbstractContext {
     protected static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
+    private static final Object NULL_VALUE = new Object[0];
     private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final Object lock = new Object[0];
+    // replaced or updated while holding lock, read without it
+    private volatile AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(0);
+    // keys with a lower index were declared before any value was stored on the hash table, thus never stored there
+    private volatile int lateIndexesFrom = Integer.MAX_VALUE;
 
     public DefaultContext() {
         this(null);
@@ -41,24 +53,59 @@ public class DefaultContext extends AbstractContext {
         super(parentContext);
     }
 
+    @Override
+    protected boolean supportsCaching() {
+        return true;
+    }
+
     @Nullable
     @Override
     protected Object doGet(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        return attributes.get(key);
+        Slot slot = slotFor(key);
+        if (slot != null) {
+            return slot.value;
+        }
+        return unwrap(attributes.get(key));
+    }
+
+    @Nullable
+    @Override
+    protected Object doGet(@Nonnull ContextKey<?> key) {
+        Slot slot = slotAt(key.getIndex());
+        if (slot != null) {
+            return slot.value;
+        }
+        // values stored before the key was declared remain on the hash table
+        return isOnHashTable(key) ? unwrap(attributes.get(key.getName())) : null;
     }
 
     @Override
     public boolean hasKey(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        return attributes.containsKey(key);
+        return slotFor(key) != null || attributes.containsKey(key);
+    }
+
+    @Override
+    public boolean hasKey(@Nonnull ContextKey<?> key) {
+        requireNonNull(key, ERROR_CONTEXT_KEY_NULL);
+        return slotAt(key.getIndex()) != null || (isOnHashTable(key) && attributes.containsKey(key.getName()));
     }
 
     @Nullable
     @Override
     public Object remove(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        return attributes.remove(key);
+        Object value = unwrap(attributes.remove(key));
+        int index = ContextKey.indexOf(key);
+        if (index != ContextKey.NO_INDEX) {
+            Slot slot = clearSlot(index);
+            if (slot != null) {
+                value = slot.value;
+            }
+        }
+        keyChanged(key);
+        return value;
     }
 
     @Nullable
@@ -78,7 +125,21 @@ public class DefaultContext extends AbstractContext {
     @Override
     public void put(@Nonnull String key, @Nullable Object value) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        attributes.put(key, value);
+        // read before resolving the index, a key declared in between gets an index past this value
+        int indexedCount = ContextKey.indexedCount();
+        int index = ContextKey.indexOf(key);
+        if (index != ContextKey.NO_INDEX) {
+            setSlot(index, new Slot(key, value));
+            attributes.remove(key);
+        } else {
+            if (indexedCount < lateIndexesFrom) {
+                synchronized (lock) {
+                    lateIndexesFrom = Math.min(lateIndexesFrom, indexedCount);
+                }
+            }
+            attributes.put(key, value != null ? value : NULL_VALUE);
+        }
+        keyChanged(key);
     }
 
     @Override
@@ -89,6 +150,10 @@ public class DefaultContext extends AbstractContext {
     @Override
     public void destroy() {
         attributes.clear();
+        synchronized (lock) {
+            slots = new AtomicReferenceArray<>(0);
+            lateIndexesFrom = Integer.MAX_VALUE;
+        }
         super.destroy();
     }
 
@@ -96,9 +161,71 @@ public class DefaultContext extends AbstractContext {
     @Override
     public Set<String> keySet() {
         Set<String> keys = new HashSet<>(attributes.keySet());
+        AtomicReferenceArray<Slot> table = slots;
+        for (int i = 0; i < table.length(); i++) {
+            Slot slot = table.get(i);
+            if (slot != null) {
+                keys.add(slot.name);
+            }
+        }
         if (parentContext != null) {
             keys.addAll(parentContext.keySet());
         }
         return keys;
     }
+
+    private boolean isOnHashTable(@Nonnull ContextKey<?> key) {
+        int index = key.getIndex();
+        return (index == ContextKey.NO_INDEX || index >= lateIndexesFrom) && !attributes.isEmpty();
+    }
+
+    @Nullable
+    private Slot slotFor(@Nonnull String key) {
+        // contexts that never stored a value on a slot skip resolving the key's index
+        return slots.length() > 0 ? slotAt(ContextKey.indexOf(key)) : null;
+    }
+
+    @Nullable
+    private Slot slotAt(int index) {
+        AtomicReferenceArray<Slot> table = slots;
+        return index > ContextKey.NO_INDEX && index < table.length() ? table.get(index) : null;
+    }
+
+    private void setSlot(int index, @Nonnull Slot slot) {
+        synchronized (lock) {
+            AtomicReferenceArray<Slot> table = slots;
+            if (index >= table.length()) {
+                AtomicReferenceArray<Slot> resized = new AtomicReferenceArray<>(Math.min(ContextKey.MAX_INDEXED_KEYS, Math.max(index + 1, table.length() * 2)));
+                for (int i = 0; i < table.length(); i++) {
+                    resized.set(i, table.get(i));
+                }
+                table = resized;
+                slots = resized;
+            }
+            table.set(index, slot);
+        }
+    }
+
+    @Nullable
+    private Slot clearSlot(int index) {
+        synchronized (lock) {
+            AtomicReferenceArray<Slot> table = slots;
+            return index < table.length() ? table.getAndSet(index, null) : null;
+        }
+    }
+
+    @Nullable
+    private static Object unwrap(@Nullable Object value) {
+        return value != NULL_VALUE ? value : null;
+    }
+
+    private static final class Slot {
+        private final String name;
+        private final Object value;
+
+        private Slot(@Nonnull String name, @Nullable Object value) {
+            this.name = name;
+            this.value = value;
+        }
+    }
 }
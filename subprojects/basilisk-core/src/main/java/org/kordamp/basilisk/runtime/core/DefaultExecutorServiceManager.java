@@ -15,22 +15,41 @@
  */
 package org.kordamp.basilisk.runtime.core;
 
+import basilisk.core.ExecutorPoolConfiguration;
+import basilisk.core.ExecutorPoolMetrics;
 import basilisk.core.ExecutorServiceManager;
+import org.kordamp.basilisk.runtime.core.threading.ManagedThreadPoolExecutor;
+import org.kordamp.basilisk.runtime.core.threading.VirtualThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
  */
 public class DefaultExecutorServiceManager implements ExecutorServiceManager {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultExecutorServiceManager.class);
+    private static final String ERROR_NAME_BLANK = "Argument 'name' must not be blank";
+    private static final long INTERRUPT_GRACE_PERIOD = TimeUnit.MILLISECONDS.toNanos(500);
+
     private final Set<ExecutorService> executorServices = new LinkedHashSet<>();
+    private final Map<String, ExecutorService> namedExecutorServices = new ConcurrentHashMap<>();
 
     @Nonnull
     @Override
@@ -42,7 +61,9 @@ public class DefaultExecutorServiceManager implements ExecutorServiceManager {
     @Nullable
     public ExecutorService add(@Nullable ExecutorService executorService) {
         if (executorService != null) {
-            executorServices.add(executorService);
+            synchronized (executorServices) {
+                executorServices.add(executorService);
+            }
         }
         return executorService;
     }
@@ -50,15 +71,140 @@ public class DefaultExecutorServiceManager implements ExecutorServiceManager {
     @Override
     @Nullable
     public ExecutorService remove(@Nullable ExecutorService executorService) {
-        executorServices.remove(executorService);
+        synchronized (executorServices) {
+            executorServices.remove(executorService);
+        }
         return executorService;
     }
 
+    @Nonnull
     @Override
-    public void shutdownAll() {
+    public ExecutorService register(@Nonnull String name, @Nonnull ExecutorService executorService) {
+        requireNonBlank(name, ERROR_NAME_BLANK);
+        requireNonNull(executorService, "Argument 'executorService' must not be null");
+        ExecutorService previous = namedExecutorServices.put(name, executorService);
+        if (previous != null && previous != executorService) {
+            remove(previous);
+        }
+        return add(executorService);
+    }
+
+    @Nullable
+    @Override
+    public ExecutorService getExecutorService(@Nonnull String name) {
+        requireNonBlank(name, ERROR_NAME_BLANK);
+        ExecutorService executorService = namedExecutorServices.get(name);
+        if (executorService == null && VIRTUAL.equals(name)) {
+            synchronized (namedExecutorServices) {
+                executorService = namedExecutorServices.get(name);
+                if (executorService == null) {
+                    executorService = register(name, VirtualThreads.newVirtualThreadPerTaskExecutor("basilisk-" + name + "-thread-"));
+                }
+            }
+        }
+        return executorService;
+    }
+
+    @Nonnull
+    @Override
+    public Set<String> getExecutorServiceNames() {
+        return unmodifiableSet(namedExecutorServices.keySet());
+    }
+
+    @Nonnull
+    @Override
+    public ExecutorService createPool(@Nonnull String name, @Nonnull ExecutorPoolConfiguration configuration) {
+        requireNonBlank(name, ERROR_NAME_BLANK);
+        requireNonNull(configuration, "Argument 'configuration' must not be null");
+        LOG.debug("Creating pool '{}' with {}", name, configuration);
+        return register(name, new ManagedThreadPoolExecutor(name, configuration));
+    }
+
+    @Nullable
+    @Override
+    public ExecutorPoolMetrics getPoolMetrics(@Nonnull String name) {
+        requireNonBlank(name, ERROR_NAME_BLANK);
+        ExecutorService executorService = namedExecutorServices.get(name);
+        if (executorService instanceof ManagedThreadPoolExecutor) {
+            return ((ManagedThreadPoolExecutor) executorService).getMetrics();
+        }
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public Collection<ExecutorService> shutdownAll(long timeout, @Nonnull TimeUnit unit) {
+        requireNonNull(unit, "Argument 'unit' must not be null");
+        List<ExecutorService> running = new ArrayList<>();
+        synchronized (executorServices) {
+            for (ExecutorService executorService : executorServices) {
+                if (!executorService.isTerminated()) {
+                    running.add(executorService);
+                }
+            }
+        }
+
+        // 1. stop accepting tasks and let pending ones complete
+        for (ExecutorService executorService : running) {
+            executorService.shutdown();
+        }
+        List<ExecutorService> pending = awaitTermination(running, System.nanoTime() + unit.toNanos(timeout));
+        if (pending.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 2. interrupt whatever is still running
+        for (ExecutorService executorService : pending) {
+            int dropped = executorService.shutdownNow().size();
+            LOG.warn("Executor {} did not terminate within {} ms. Interrupting its threads and dropping {} pending tasks",
+                nameOf(executorService), unit.toMillis(timeout), dropped);
+        }
+
+        // 3. report stragglers
+        List<ExecutorService> stragglers = awaitTermination(pending, System.nanoTime() + INTERRUPT_GRACE_PERIOD);
+        for (ExecutorService executorService : stragglers) {
+            LOG.warn("Executor {} is still running after being interrupted", nameOf(executorService));
+        }
+        return Collections.unmodifiableList(stragglers);
+    }
+
+    @Nonnull
+    private static List<ExecutorService> awaitTermination(@Nonnull List<ExecutorService> executorServices, long deadline) {
+        List<ExecutorService> pending = new ArrayList<>();
+        boolean interrupted = false;
         for (ExecutorService executorService : executorServices) {
-            if (!executorService.isShutdown()) {
-                executorService.shutdown();
+            try {
+                if (interrupted || !executorService.awaitTermination(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    pending.add(executorService);
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+                pending.add(executorService);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return pending;
+    }
+
+    @Nonnull
+    private String nameOf(@Nonnull ExecutorService executorService) {
+        for (Map.Entry<String, ExecutorService> entry : namedExecutorServices.entrySet()) {
+            if (entry.getValue() == executorService) {
+                return "'" + entry.getKey() + "'";
+            }
+        }
+        return String.valueOf(executorService);
+    }
+
+    @Override
+    public void shutdownAll() {
+        synchronized (executorServices) {
+            for (ExecutorService executorService : executorServices) {
+                if (!executorService.isShutdown()) {
+                    executorService.shutdown();
+                }
             }
         }
     }
@@ -21,19 +21,38 @@ import basilisk.util.TypeUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Parent events are only observed while this context has listeners of its own, which keeps
+ * contexts nobody listens to out of their parent's notification path.
+ * <p>
+ * Batches belong to the thread that started them; changes made by other threads while a
+ * batch runs are delivered right away.
+ *
  * @author Andres Almiray
  */
 public class DefaultObservableContext extends DefaultContext implements ObservableContext {
     private static final String ERROR_LISTENER_NULL = "Argument 'listener' must not be null";
+    private static final String ERROR_CHANGES_NULL = "Argument 'changes' must not be null";
     private final List<ContextEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final Object lock = new Object[0];
+    private final ThreadLocal<Batch> currentBatch = new ThreadLocal<>();
+    // skips the thread local lookup while no thread runs a batch
+    private final AtomicInteger activeBatches = new AtomicInteger();
+    @GuardedBy("lock")
+    private boolean observingParent;
 
-    private final ContextEventListener parentListener = new ContextEventListener() {
+    private final ContextEventListener parentListener = new BatchContextEventListener() {
         @Override
         public void contextChanged(@Nonnull ContextEvent event) {
             String key = event.getKey();
@@ -41,6 +60,17 @@ public class DefaultObservableContext extends DefaultContext implements Observab
                 fireContextEvent(event.getType(), key, event.getOldValue(), event.getNewValue());
             }
         }
+
+        @Override
+        public void contextBatchChanged(@Nonnull List<ContextEvent> events) {
+            List<ContextEvent> inherited = new ArrayList<>();
+            for (ContextEvent event : events) {
+                if (!hasKey(event.getKey())) {
+                    inherited.add(event);
+                }
+            }
+            fireContextEvents(inherited);
+        }
     };
 
     public DefaultObservableContext() {
@@ -49,22 +79,42 @@ public class DefaultObservableContext extends DefaultContext implements Observab
 
     public DefaultObservableContext(@Nonnull Context parentContext) {
         super(parentContext);
-        if (parentContext instanceof ObservableContext) {
-            ObservableContext observableParent = (ObservableContext) parentContext;
-            observableParent.addContextEventListener(parentListener);
-        }
     }
 
     @Override
     public void addContextEventListener(@Nonnull ContextEventListener listener) {
         requireNonNull(listener, ERROR_LISTENER_NULL);
         if (!listeners.contains(listener)) listeners.add(listener);
+        updateParentObservation();
     }
 
     @Override
     public void removeContextEventListener(@Nonnull ContextEventListener listener) {
         requireNonNull(listener, ERROR_LISTENER_NULL);
         listeners.remove(listener);
+        updateParentObservation();
+    }
+
+    @Override
+    public void batch(@Nonnull Runnable changes) {
+        requireNonNull(changes, ERROR_CHANGES_NULL);
+        Batch batch = currentBatch.get();
+        if (batch == null) {
+            batch = new Batch();
+            currentBatch.set(batch);
+            activeBatches.incrementAndGet();
+        }
+        batch.depth++;
+
+        try {
+            changes.run();
+        } finally {
+            if (--batch.depth == 0) {
+                currentBatch.remove();
+                activeBatches.decrementAndGet();
+                fireContextEvents(coalesce(batch.events));
+            }
+        }
     }
 
     @Nonnull
@@ -75,6 +125,11 @@ public class DefaultObservableContext extends DefaultContext implements Observab
 
     @Override
     public void put(@Nonnull String key, @Nullable Object value) {
+        if (listeners.isEmpty()) {
+            super.put(key, value);
+            return;
+        }
+
         boolean localKey = hasKey(key);
         boolean parentKey = !localKey && containsKey(key);
         Object oldValue = get(key);
@@ -163,11 +218,8 @@ public class DefaultObservableContext extends DefaultContext implements Observab
 
     @Override
     public void destroy() {
-        if (getParentContext() instanceof ObservableContext) {
-            ObservableContext observableParent = (ObservableContext) getParentContext();
-            observableParent.removeContextEventListener(parentListener);
-        }
         listeners.clear();
+        updateParentObservation();
         super.destroy();
     }
 
@@ -176,8 +228,98 @@ public class DefaultObservableContext extends DefaultContext implements Observab
     }
 
     protected void fireContextEvent(@Nonnull ContextEvent event) {
+        Batch batch = currentBatch();
+        if (batch != null) {
+            batch.events.add(event);
+            return;
+        }
+
         for (ContextEventListener listener : listeners) {
             listener.contextChanged(event);
         }
     }
+
+    protected void fireContextEvents(@Nonnull List<ContextEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Batch pending = currentBatch();
+        if (pending != null) {
+            pending.events.addAll(events);
+            return;
+        }
+
+        List<ContextEvent> batch = unmodifiableList(events);
+        for (ContextEventListener listener : listeners) {
+            if (listener instanceof BatchContextEventListener) {
+                ((BatchContextEventListener) listener).contextBatchChanged(batch);
+            } else {
+                for (ContextEvent event : batch) {
+                    listener.contextChanged(event);
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private Batch currentBatch() {
+        return activeBatches.get() > 0 ? currentBatch.get() : null;
+    }
+
+    private void updateParentObservation() {
+        Context parentContext = getParentContext();
+        if (!(parentContext instanceof ObservableContext)) {
+            return;
+        }
+
+        ObservableContext observableParent = (ObservableContext) parentContext;
+        synchronized (lock) {
+            boolean required = !listeners.isEmpty();
+            if (required && !observingParent) {
+                observableParent.addContextEventListener(parentListener);
+                observingParent = true;
+            } else if (!required && observingParent) {
+                observableParent.removeContextEventListener(parentListener);
+                observingParent = false;
+            }
+        }
+    }
+
+    private static final class Batch {
+        private final List<ContextEvent> events = new ArrayList<>();
+        private int depth;
+    }
+
+    @Nonnull
+    private static List<ContextEvent> coalesce(@Nonnull List<ContextEvent> events) {
+        Map<String, ContextEvent> merged = new LinkedHashMap<>();
+        for (ContextEvent event : events) {
+            String key = event.getKey();
+            ContextEvent previous = merged.get(key);
+            if (previous == null) {
+                merged.put(key, event);
+                continue;
+            }
+
+            boolean existedBefore = previous.getType() != ContextEvent.Type.ADD;
+            boolean existsAfter = event.getType() != ContextEvent.Type.REMOVE;
+            Object oldValue = previous.getOldValue();
+            Object newValue = event.getNewValue();
+            if (existedBefore && existsAfter) {
+                if (TypeUtils.equals(oldValue, newValue)) {
+                    merged.remove(key);
+                } else {
+                    merged.put(key, new ContextEvent(ContextEvent.Type.UPDATE, key, oldValue, newValue));
+                }
+            } else if (existedBefore) {
+                merged.put(key, new ContextEvent(ContextEvent.Type.REMOVE, key, oldValue, null));
+            } else if (existsAfter) {
+                merged.put(key, new ContextEvent(ContextEvent.Type.ADD, key, null, newValue));
+            } else {
+                merged.remove(key);
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
 }
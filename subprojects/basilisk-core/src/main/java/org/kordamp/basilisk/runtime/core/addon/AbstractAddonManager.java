@@ -17,8 +17,10 @@ package org.kordamp.basilisk.runtime.core.addon;
 
 import basilisk.core.ApplicationEvent;
 import basilisk.core.BasiliskApplication;
+import basilisk.core.RunnableWithArgs;
 import basilisk.core.addon.AddonManager;
 import basilisk.core.addon.BasiliskAddon;
+import basilisk.core.addon.LazyAddon;
 import basilisk.core.mvc.MVCGroupConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,9 +31,13 @@ import javax.annotation.concurrent.GuardedBy;
 import javax.inject.Inject;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import static basilisk.util.AnnotationUtils.sortByDependencies;
 import static basilisk.util.BasiliskNameUtils.getPropertyName;
@@ -53,6 +59,22 @@ public abstract class AbstractAddonManager implements AddonManager {
     private final Object lock = new Object[0];
     @GuardedBy("lock")
     private boolean initialized;
+    @GuardedBy("lock")
+    private final Map<String, BasiliskAddon> pendingAddons = new LinkedHashMap<>();
+    @GuardedBy("lock")
+    private final Map<String, AddonActivation> activations = new LinkedHashMap<>();
+    @GuardedBy("lock")
+    private final Map<String, Map<String, RunnableWithArgs>> eventTriggers = new LinkedHashMap<>();
+    private final Map<String, Set<String>> mvcGroupTriggers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Set<String>> serviceTriggers = new ConcurrentHashMap<>();
+    private final RunnableWithArgs serviceTriggerListener = new RunnableWithArgs() {
+        @Override
+        public void run(@Nullable Object... args) {
+            if (args != null && args.length > 0 && args[0] instanceof Class) {
+                activateAddonsForType((Class<?>) args[0]);
+            }
+        }
+    };
 
     private final BasiliskApplication application;
 
@@ -74,10 +96,13 @@ public abstract class AbstractAddonManager implements AddonManager {
     @Nullable
     public BasiliskAddon findAddon(@Nonnull String name) {
         requireNonBlank(name, ERROR_NAME_BLANK);
-        if (name.endsWith(BasiliskAddon.SUFFIX)) {
-            name = name.substring(0, name.length() - BasiliskAddon.SUFFIX.length());
+        name = normalizeName(name);
+        BasiliskAddon addon = addons.get(name);
+        if (addon != null) {
+            // callers expect a usable addon, lazy addons are initialized on lookup
+            activateAddon(name);
         }
-        return addons.get(getPropertyName(name));
+        return addon;
     }
 
     public final void initialize() {
@@ -101,23 +126,209 @@ public abstract class AbstractAddonManager implements AddonManager {
             LOG.debug("Loading addon {} with class {}", name, addon.getClass().getName());
             event(ApplicationEvent.LOAD_ADDON_START, asList(getApplication(), name, addon));
 
-            getApplication().getEventRouter().addEventListener(addon);
-            addMVCGroups(addon);
-            addon.init(getApplication());
+            LazyAddon lazyAddon = addon.getClass().getAnnotation(LazyAddon.class);
+            if (lazyAddon != null) {
+                addMVCGroups(addon);
+                registerTriggers(name, addon, lazyAddon);
+                pendingAddons.put(name, addon);
+                LOG.debug("Addon {} will be initialized on demand", name);
+            } else {
+                getApplication().getEventRouter().addEventListener(addon);
+                addMVCGroups(addon);
+                addon.init(getApplication());
+            }
 
             this.addons.put(name, addon);
             event(ApplicationEvent.LOAD_ADDON_END, asList(getApplication(), name, addon));
             LOG.debug("Loaded addon {}", name);
         }
 
-        for (BasiliskAddon addon : reverse(addons.values())) {
-            getApplication().addShutdownHandler(addon);
+        for (Map.Entry<String, BasiliskAddon> entry : reverse(addons.entrySet())) {
+            if (!pendingAddons.containsKey(entry.getKey())) {
+                getApplication().addShutdownHandler(entry.getValue());
+            }
         }
 
         LOG.debug("Loading addons [END]");
         event(ApplicationEvent.LOAD_ADDONS_END);
     }
 
+    public boolean isAddonActive(@Nonnull String name) {
+        requireNonBlank(name, ERROR_NAME_BLANK);
+        name = normalizeName(name);
+        synchronized (lock) {
+            return addons.containsKey(name) && !pendingAddons.containsKey(name) && !activations.containsKey(name);
+        }
+    }
+
+    public void activateAddon(@Nonnull String name) {
+        requireNonBlank(name, ERROR_NAME_BLANK);
+        name = normalizeName(name);
+        AddonActivation activation;
+        synchronized (lock) {
+            BasiliskAddon addon = pendingAddons.remove(name);
+            if (addon != null) {
+                // triggers stay registered until the activation completes, so that
+                // concurrent triggers find this activation and wait for it
+                activation = new AddonActivation(name, addon);
+                activations.put(name, activation);
+            } else {
+                activation = activations.get(name);
+            }
+        }
+
+        // the addon is initialized outside of the manager's lock, as init() may wait on other
+        // threads that activate addons themselves; concurrent callers wait for this addon only
+        if (activation != null) {
+            activation.activate();
+        }
+    }
+
+    public void activateAddonsForMVCGroup(@Nonnull String mvcType) {
+        requireNonBlank(mvcType, "Argument 'mvcType' must not be blank");
+        if (mvcGroupTriggers.isEmpty()) {
+            return;
+        }
+
+        Set<String> names = mvcGroupTriggers.get(mvcType);
+        if (names != null) {
+            for (String name : names) {
+                activateAddon(name);
+            }
+        }
+    }
+
+    protected void activateAddonsForType(@Nonnull Class<?> type) {
+        for (Map.Entry<Class<?>, Set<String>> entry : serviceTriggers.entrySet()) {
+            if (entry.getKey().isAssignableFrom(type)) {
+                for (String name : entry.getValue()) {
+                    activateAddon(name);
+                }
+            }
+        }
+    }
+
+    @GuardedBy("lock")
+    protected void registerTriggers(@Nonnull final String name, @Nonnull BasiliskAddon addon, @Nonnull LazyAddon lazyAddon) {
+        if (lazyAddon.mvcGroups()) {
+            for (String mvcType : addon.getMvcGroups().keySet()) {
+                addTrigger(mvcGroupTriggers, mvcType, name);
+            }
+        }
+
+        if (lazyAddon.services().length > 0) {
+            if (serviceTriggers.isEmpty()) {
+                getApplication().getEventRouter().addEventListener(ApplicationEvent.NEW_INSTANCE.getName(), serviceTriggerListener);
+            }
+            for (Class<?> type : lazyAddon.services()) {
+                addTrigger(serviceTriggers, type, name);
+            }
+        }
+
+        Map<String, RunnableWithArgs> listeners = new LinkedHashMap<>();
+        for (String eventName : lazyAddon.events()) {
+            RunnableWithArgs listener = new RunnableWithArgs() {
+                @Override
+                public void run(@Nullable Object... args) {
+                    activateAddon(name);
+                }
+            };
+            getApplication().getEventRouter().addEventListener(eventName, listener);
+            listeners.put(eventName, listener);
+        }
+        eventTriggers.put(name, listeners);
+    }
+
+    @GuardedBy("lock")
+    protected void unregisterTriggers(@Nonnull String name) {
+        removeTriggers(mvcGroupTriggers, name);
+
+        if (!serviceTriggers.isEmpty()) {
+            removeTriggers(serviceTriggers, name);
+            if (serviceTriggers.isEmpty()) {
+                getApplication().getEventRouter().removeEventListener(ApplicationEvent.NEW_INSTANCE.getName(), serviceTriggerListener);
+            }
+        }
+
+        Map<String, RunnableWithArgs> listeners = eventTriggers.remove(name);
+        if (listeners != null) {
+            for (Map.Entry<String, RunnableWithArgs> entry : listeners.entrySet()) {
+                getApplication().getEventRouter().removeEventListener(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @GuardedBy("lock")
+    private static <K> void addTrigger(@Nonnull Map<K, Set<String>> triggers, @Nonnull K key, @Nonnull String name) {
+        Set<String> names = triggers.get(key);
+        if (names == null) {
+            names = new CopyOnWriteArraySet<>();
+            triggers.put(key, names);
+        }
+        names.add(name);
+    }
+
+    @GuardedBy("lock")
+    private static <K> void removeTriggers(@Nonnull Map<K, Set<String>> triggers, @Nonnull String name) {
+        for (Iterator<Set<String>> it = triggers.values().iterator(); it.hasNext(); ) {
+            Set<String> names = it.next();
+            names.remove(name);
+            if (names.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    private final class AddonActivation {
+        private final String name;
+        private final BasiliskAddon addon;
+        @GuardedBy("this")
+        private boolean started;
+
+        private AddonActivation(@Nonnull String name, @Nonnull BasiliskAddon addon) {
+            this.name = name;
+            this.addon = addon;
+        }
+
+        private synchronized void activate() {
+            // re-entrant calls made while the addon initializes return right away
+            if (started) {
+                return;
+            }
+            started = true;
+
+            boolean activated = false;
+            try {
+                long start = System.currentTimeMillis();
+                LOG.debug("Activating addon {}", name);
+                getApplication().getEventRouter().addEventListener(addon);
+                addon.init(getApplication());
+                getApplication().addShutdownHandler(addon);
+                activated = true;
+                LOG.debug("Activated addon {} in {}ms", name, System.currentTimeMillis() - start);
+            } finally {
+                synchronized (lock) {
+                    activations.remove(name);
+                    if (activated) {
+                        unregisterTriggers(name);
+                    } else {
+                        // keep the addon pending so that the next trigger retries it
+                        getApplication().getEventRouter().removeEventListener(addon);
+                        pendingAddons.put(name, addon);
+                    }
+                }
+            }
+        }
+    }
+
+    @Nonnull
+    private static String normalizeName(@Nonnull String name) {
+        if (name.endsWith(BasiliskAddon.SUFFIX)) {
+            name = name.substring(0, name.length() - BasiliskAddon.SUFFIX.length());
+        }
+        return getPropertyName(name);
+    }
+
     @Nonnull
     protected Map<String, BasiliskAddon> preloadAddons() {
         Collection<BasiliskAddon> addonInstances = getApplication().getInjector().getInstances(BasiliskAddon.class);
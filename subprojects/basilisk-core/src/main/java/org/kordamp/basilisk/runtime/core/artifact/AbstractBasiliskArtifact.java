@@ -43,6 +43,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Base implementation of the BasiliskArtifact interface.
  *
@@ -51,7 +53,6 @@ import java.util.concurrent.Future;
 public abstract class AbstractBasiliskArtifact implements BasiliskArtifact {
     private final Logger log;
     private final Object lock = new Object[0];
-    @Inject
     protected BasiliskApplication application;
     @GuardedBy("lock")
     private BasiliskClass basiliskClass;
@@ -71,6 +72,11 @@ public abstract class AbstractBasiliskArtifact implements BasiliskArtifact {
         return application;
     }
 
+    @Inject
+    public void setApplication(@Nonnull BasiliskApplication application) {
+        this.application = requireNonNull(application, "Argument 'application' must not be null");
+    }
+
     @Nonnull
     @Override
     @SuppressWarnings("ConstantConditions")
@@ -23,6 +23,7 @@ import javax.annotation.Nonnull;
 import java.lang.reflect.Method;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletionStage;
 
 import static basilisk.util.AnnotationUtils.isAnnotatedWith;
 import static basilisk.util.BasiliskClassUtils.isEventHandler;
@@ -54,7 +55,7 @@ public class DefaultBasiliskControllerClass extends DefaultBasiliskClass impleme
 
                 if (isPlainMethod(method) &&
                     !isEventHandler(methodName) &&
-                    (isAnnotatedWith(method, ControllerAction.class, true) || method.getReturnType() == Void.TYPE)) {
+                    (isAnnotatedWith(method, ControllerAction.class, true) || method.getReturnType() == Void.TYPE || CompletionStage.class.isAssignableFrom(method.getReturnType()))) {
                     actionsCache.add(methodName);
                 }
             }
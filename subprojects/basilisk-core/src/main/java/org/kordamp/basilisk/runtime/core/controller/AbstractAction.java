@@ -20,6 +20,10 @@ import basilisk.core.controller.Action;
 import basilisk.core.controller.ActionManager;
 import basilisk.core.controller.ActionMetadata;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
@@ -35,9 +39,13 @@ import static java.util.Objects.requireNonNull;
 public abstract class AbstractAction implements Action {
     public static final String KEY_NAME = "name";
     public static final String KEY_ENABLED = "enabled";
+    public static final String KEY_RUNNING = "running";
+    public static final String KEY_PROGRESS = "progress";
 
     private StringProperty name;
     private BooleanProperty enabled;
+    private ReadOnlyBooleanWrapper running;
+    private ReadOnlyDoubleWrapper progress;
 
     private final ActionManager actionManager;
     private final BasiliskController controller;
@@ -112,6 +120,57 @@ public abstract class AbstractAction implements Action {
         enabledProperty().set(enabled);
     }
 
+    @Nonnull
+    private ReadOnlyBooleanWrapper runningWrapper() {
+        if (running == null) {
+            running = new ReadOnlyBooleanWrapper(this, KEY_RUNNING, false);
+        }
+        return running;
+    }
+
+    /**
+     * Mirrors {@code isRunning()} inside the UI thread.
+     */
+    @Nonnull
+    public ReadOnlyBooleanProperty runningProperty() {
+        return runningWrapper().getReadOnlyProperty();
+    }
+
+    @Nonnull
+    private ReadOnlyDoubleWrapper progressWrapper() {
+        if (progress == null) {
+            progress = new ReadOnlyDoubleWrapper(this, KEY_PROGRESS, 0d);
+        }
+        return progress;
+    }
+
+    /**
+     * Latest progress reported with {@code ActionManager.reportActionProgress()}, updated inside the UI thread.
+     */
+    @Nonnull
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progressWrapper().getReadOnlyProperty();
+    }
+
+    public double getProgress() {
+        return progressProperty().get();
+    }
+
+    void updateRunningState(boolean running, double progress) {
+        runningWrapper().set(running);
+        progressWrapper().set(progress);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return actionManager.isActionRunning(this);
+    }
+
+    @Override
+    public boolean cancel() {
+        return actionManager.cancelAction(this);
+    }
+
     @Override
     public final void execute(Object... args) {
         if (isEnabled()) {
@@ -16,6 +16,7 @@
 package org.kordamp.basilisk.runtime.core.controller;
 
 import basilisk.core.BasiliskApplication;
+import basilisk.core.ExecutorServiceManager;
 import basilisk.core.Context;
 import basilisk.core.artifact.BasiliskController;
 import basilisk.core.artifact.BasiliskControllerClass;
@@ -31,9 +32,11 @@ import basilisk.core.controller.ActionMetadata;
 import basilisk.core.controller.ActionMetadataFactory;
 import basilisk.core.controller.ActionParameter;
 import basilisk.core.controller.ControllerAction;
+import basilisk.core.controller.InvocationPolicy;
 import basilisk.core.i18n.MessageSource;
 import basilisk.core.i18n.NoSuchMessageException;
 import basilisk.core.mvc.MVCGroup;
+import basilisk.core.threading.TaskPriority;
 import basilisk.core.threading.UIThreadManager;
 import basilisk.exceptions.BasiliskException;
 import basilisk.exceptions.InstanceMethodInvocationException;
@@ -43,6 +46,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import javax.inject.Inject;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
@@ -50,11 +54,18 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EventObject;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 import static basilisk.core.BasiliskExceptionHandler.sanitize;
 import static basilisk.util.AnnotationUtils.findAnnotation;
@@ -63,9 +74,9 @@ import static basilisk.util.BasiliskClassUtils.EMPTY_ARGS;
 import static basilisk.util.BasiliskClassUtils.invokeExactInstanceMethod;
 import static basilisk.util.BasiliskClassUtils.invokeInstanceMethod;
 import static basilisk.util.BasiliskNameUtils.capitalize;
+import static basilisk.util.BasiliskNameUtils.isBlank;
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
 import static basilisk.util.BasiliskNameUtils.uncapitalize;
-import static basilisk.util.CollectionUtils.reverse;
 import static basilisk.util.TypeUtils.castToBoolean;
 import static java.lang.reflect.Modifier.isPublic;
 import static java.lang.reflect.Modifier.isStatic;
@@ -80,15 +91,30 @@ public abstract class AbstractActionManager implements ActionManager {
     private static final String KEY_THREADING = "controller.threading";
     private static final String KEY_THREADING_DEFAULT = "controller.threading.default";
     private static final String KEY_DISABLE_THREADING_INJECTION = "basilisk.disable.threading.injection";
+    private static final String KEY_INVOCATION = "controller.invocation";
     private static final String ERROR_CONTROLLER_NULL = "Argument 'controller' must not be null";
     private static final String ERROR_ACTION_NAME_BLANK = "Argument 'actionName' must not be blank";
     private static final String ERROR_ACTION_HANDLER_NULL = "Argument 'actionHandler' must not be null";
     private static final String ERROR_ACTION_NULL = "Argument 'action' must not be null";
     private static final String ERROR_METHOD_NULL = "Argument 'method' must not be null";
 
+    private static final ThreadLocal<ActionState.Invocation> CURRENT_INVOCATION = new ThreadLocal<>();
+
     private final ActionCache actionCache = new ActionCache();
     private final Map<String, Threading.Policy> threadingPolicies = new ConcurrentHashMap<>();
-    private final List<ActionHandler> handlers = new CopyOnWriteArrayList<>();
+    private final Map<String, String> executorNames = new ConcurrentHashMap<>();
+    private final Map<String, TaskPriority> taskPriorities = new ConcurrentHashMap<>();
+    private final Set<String> missingExecutorWarnings = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final Map<Action, ActionMethodInvoker> invokers = new ConcurrentHashMap<>();
+    private final Map<Action, ActionHandlerPipeline> pipelines = new ConcurrentHashMap<>();
+    private final Object handlersLock = new Object[0];
+    private volatile ActionHandlerPipeline pipeline = ActionHandlerPipeline.EMPTY;
+    private final Map<Action, ActionInvocationGate> gates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Action, ActionState> states = new ConcurrentHashMap<>();
+    private final Object schedulerLock = new Object[0];
+    @GuardedBy("schedulerLock")
+    private ScheduledExecutorService scheduler;
+    private ExecutorServiceManager executorServiceManager;
 
     private final BasiliskApplication application;
     private final ActionFactory actionFactory;
@@ -101,13 +127,18 @@ public abstract class AbstractActionManager implements ActionManager {
         this.actionMetadataFactory = requireNonNull(actionMetadataFactory, "Argument 'actionMetadataFactory' must not be null");
     }
 
+    @Inject
+    public void setExecutorServiceManager(@Nonnull ExecutorServiceManager executorServiceManager) {
+        this.executorServiceManager = requireNonNull(executorServiceManager, "Argument 'executorServiceManager' must not be null");
+    }
+
     @Nullable
     private static Method findActionAsMethod(@Nonnull BasiliskController controller, @Nonnull String actionName) {
         for (Method method : controller.getTypeClass().getMethods()) {
             if (actionName.equals(method.getName()) &&
                 isPublic(method.getModifiers()) &&
                 !isStatic(method.getModifiers()) &&
-                (isAnnotatedWith(method, ControllerAction.class, true) || method.getReturnType() == Void.TYPE)) {
+                (isAnnotatedWith(method, ControllerAction.class, true) || method.getReturnType() == Void.TYPE || CompletionStage.class.isAssignableFrom(method.getReturnType()))) {
                 return method;
             }
         }
@@ -162,7 +193,10 @@ public abstract class AbstractActionManager implements ActionManager {
             Action action = createAndConfigureAction(controller, actionName, method);
 
             final String qualifiedActionName = action.getFullyQualifiedName();
-            for (ActionHandler handler : handlers) {
+            ActionHandlerPipeline actionPipeline = pipeline.specializeFor(action, method);
+            pipelines.put(action, actionPipeline);
+            for (int i = 0; i < actionPipeline.size(); i++) {
+                ActionHandler handler = actionPipeline.get(i);
                 LOG.debug("Configuring action {} with {}", qualifiedActionName, handler);
                 handler.configure(action, method);
             }
@@ -178,6 +212,18 @@ public abstract class AbstractActionManager implements ActionManager {
         }
     }
 
+    @Override
+    public void releaseActions(@Nonnull BasiliskController controller) {
+        requireNonNull(controller, ERROR_CONTROLLER_NULL);
+        for (Action action : actionCache.remove(controller).values()) {
+            LOG.trace("Releasing action {}", action.getFullyQualifiedName());
+            invokers.remove(action);
+            pipelines.remove(action);
+            gates.remove(action);
+            states.remove(action);
+        }
+    }
+
     @Override
     public void updateActions() {
         for (Action action : actionCache.allActions()) {
@@ -197,7 +243,9 @@ public abstract class AbstractActionManager implements ActionManager {
         requireNonNull(action, ERROR_ACTION_NULL);
 
         final String qualifiedActionName = action.getFullyQualifiedName();
-        for (ActionHandler handler : handlers) {
+        ActionHandlerPipeline actionPipeline = pipelineFor(action);
+        for (int i = 0; i < actionPipeline.size(); i++) {
+            ActionHandler handler = actionPipeline.get(i);
             LOG.trace("Calling {}.update() on {}", handler, qualifiedActionName);
             handler.update(action);
         }
@@ -215,79 +263,180 @@ public abstract class AbstractActionManager implements ActionManager {
         requireNonNull(action, ERROR_ACTION_NULL);
         final BasiliskController controller = action.getController();
         final String actionName = action.getActionName();
+        final long triggeredAt = System.nanoTime();
         Runnable runnable = new Runnable() {
-            @SuppressWarnings("ThrowableResultOfMethodCallIgnored")
             public void run() {
-                Object result = null;
-                Object[] updatedArgs = args;
-                List<ActionHandler> copy = new ArrayList<>(handlers);
-                List<ActionHandler> invokedHandlers = new ArrayList<>();
-
-                final String qualifiedActionName = action.getFullyQualifiedName();
-                ActionExecutionStatus status = ActionExecutionStatus.OK;
-
+                ActionState state = stateFor(action);
+                ActionState.Invocation invocation = state.begin(triggeredAt);
+                ActionState.Invocation outer = CURRENT_INVOCATION.get();
+                CURRENT_INVOCATION.set(invocation);
                 try {
-                    LOG.trace("Resolving contextual arguments for " + qualifiedActionName);
-                    updatedArgs = injectFromContext(action, updatedArgs);
-                } catch (IllegalStateException ise) {
-                    LOG.debug("Execution of " + qualifiedActionName + " was aborted", ise);
-                    throw ise;
+                    executeAction(action, args, state, invocation);
+                } finally {
+                    if (outer != null) {
+                        CURRENT_INVOCATION.set(outer);
+                    } else {
+                        CURRENT_INVOCATION.remove();
+                    }
+                    state.finish(invocation);
                 }
+            }
+        };
 
-                if (LOG.isDebugEnabled()) {
-                    int size = copy.size();
-                    LOG.debug("Executing " + size + " handler" + (size != 1 ? "s" : "") + " for " + qualifiedActionName);
-                }
+        ActionInvocationGate gate = gates.get(action);
+        if (gate != null) {
+            gate.submit(runnable);
+        } else {
+            invokeAction(controller, actionName, runnable);
+        }
+    }
 
-                for (ActionHandler handler : copy) {
-                    invokedHandlers.add(handler);
-                    try {
-                        LOG.trace("Calling {}.before() on {}", handler, qualifiedActionName);
-                        updatedArgs = handler.before(action, updatedArgs);
-                    } catch (AbortActionExecution aae) {
-                        status = ActionExecutionStatus.ABORTED;
-                        LOG.debug("Execution of {} was aborted by {}", qualifiedActionName, handler);
-                        break;
-                    }
-                }
+    @SuppressWarnings("ThrowableResultOfMethodCallIgnored")
+    private void executeAction(@Nonnull Action action, @Nonnull Object[] args, @Nonnull ActionState state, @Nonnull ActionState.Invocation invocation) {
+        Object result = null;
+        Object[] updatedArgs = args;
+        ActionHandlerPipeline actionPipeline = pipelineFor(action);
+        int invokedHandlers = 0;
 
-                LOG.trace("Status before execution of {} is {}", qualifiedActionName, status);
-                RuntimeException exception = null;
-                boolean exceptionWasHandled = false;
-                if (status == ActionExecutionStatus.OK) {
-                    try {
-                        result = doInvokeAction(controller, actionName, updatedArgs);
-                    } catch (RuntimeException e) {
-                        status = ActionExecutionStatus.EXCEPTION;
-                        exception = (RuntimeException) sanitize(e);
-                        LOG.warn("An exception occurred when executing {}", qualifiedActionName, exception);
-                    }
-                    LOG.trace("Status after execution of {} is {}", qualifiedActionName, status);
+        final String qualifiedActionName = action.getFullyQualifiedName();
+        ActionExecutionStatus status = ActionExecutionStatus.OK;
 
-                    if (exception != null) {
-                        for (ActionHandler handler : reverse(invokedHandlers)) {
-                            LOG.trace("Calling {}.exception() on {}", handler, qualifiedActionName);
-                            exceptionWasHandled = handler.exception(exception, action, updatedArgs);
-                        }
-                    }
-                }
+        try {
+            LOG.trace("Resolving contextual arguments for {}", qualifiedActionName);
+            updatedArgs = injectFromContext(action, updatedArgs);
+        } catch (IllegalStateException ise) {
+            LOG.debug("Execution of " + qualifiedActionName + " was aborted", ise);
+            throw ise;
+        }
 
-                for (ActionHandler handler : reverse(invokedHandlers)) {
-                    LOG.trace("Calling {}.after() on {}", handler, qualifiedActionName);
-                    result = handler.after(status, action, updatedArgs, result);
-                }
+        if (LOG.isDebugEnabled()) {
+            int size = actionPipeline.size();
+            LOG.debug("Executing " + size + " handler" + (size != 1 ? "s" : "") + " for " + qualifiedActionName);
+        }
+
+        for (int i = 0; i < actionPipeline.size(); i++) {
+            ActionHandler handler = actionPipeline.get(i);
+            invokedHandlers++;
+            try {
+                LOG.trace("Calling {}.before() on {}", handler, qualifiedActionName);
+                updatedArgs = handler.before(action, updatedArgs);
+            } catch (AbortActionExecution aae) {
+                status = ActionExecutionStatus.ABORTED;
+                LOG.debug("Execution of {} was aborted by {}", qualifiedActionName, handler);
+                break;
+            }
+        }
 
-                if (exception != null && !exceptionWasHandled) {
-                    // throw it again
-                    throw exception;
+        LOG.trace("Status before execution of {} is {}", qualifiedActionName, status);
+        RuntimeException exception = null;
+        boolean exceptionWasHandled = false;
+        if (status == ActionExecutionStatus.OK) {
+            try {
+                result = doInvokeAction(action, updatedArgs);
+                state.track(invocation, result);
+            } catch (RuntimeException e) {
+                status = ActionExecutionStatus.EXCEPTION;
+                exception = (RuntimeException) sanitize(e);
+                LOG.warn("An exception occurred when executing {}", qualifiedActionName, exception);
+            }
+            LOG.trace("Status after execution of {} is {}", qualifiedActionName, status);
+
+            if (exception != null) {
+                for (int i = invokedHandlers - 1; i >= 0; i--) {
+                    ActionHandler handler = actionPipeline.get(i);
+                    LOG.trace("Calling {}.exception() on {}", handler, qualifiedActionName);
+                    exceptionWasHandled = handler.exception(exception, action, updatedArgs);
                 }
             }
-        };
-        invokeAction(controller, actionName, runnable);
+        }
+
+        for (int i = invokedHandlers - 1; i >= 0; i--) {
+            ActionHandler handler = actionPipeline.get(i);
+            LOG.trace("Calling {}.after() on {}", handler, qualifiedActionName);
+            result = handler.after(status, action, updatedArgs, result);
+        }
+
+        if (exception != null && !exceptionWasHandled) {
+            // throw it again
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the invocation being executed by the current thread, if any.
+     */
+    @Nullable
+    static ActionState.Invocation currentInvocation() {
+        return CURRENT_INVOCATION.get();
+    }
+
+    @Override
+    public boolean isActionRunning(@Nonnull Action action) {
+        requireNonNull(action, ERROR_ACTION_NULL);
+        ActionState state = states.get(action);
+        return state != null && state.isRunning();
+    }
+
+    @Override
+    public boolean cancelAction(@Nonnull Action action) {
+        requireNonNull(action, ERROR_ACTION_NULL);
+        ActionState state = states.get(action);
+        if (state != null && state.cancel()) {
+            LOG.debug("Cancelled execution of {}", action.getFullyQualifiedName());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void reportActionProgress(@Nonnull Action action, double progress) {
+        requireNonNull(action, ERROR_ACTION_NULL);
+        stateFor(action).reportProgress(progress);
+    }
+
+    @Nonnull
+    private ActionState stateFor(@Nonnull Action action) {
+        ActionState state = states.get(action);
+        if (state == null) {
+            state = new ActionState(action, getUiThreadManager());
+            ActionState existing = states.putIfAbsent(action, state);
+            if (existing != null) {
+                state = existing;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Returns the handler chain of the given action, specializing the current pipeline again if
+     * handlers were registered after the action was created.
+     */
+    @Nonnull
+    private ActionHandlerPipeline pipelineFor(@Nonnull Action action) {
+        ActionHandlerPipeline current = pipeline;
+        ActionHandlerPipeline actionPipeline = pipelines.get(action);
+        if (actionPipeline != null && actionPipeline.isDerivedFrom(current)) {
+            return actionPipeline;
+        }
+
+        ActionMethodInvoker invoker = invokers.get(action);
+        if (invoker == null) {
+            // action was not created by this manager
+            return current;
+        }
+
+        actionPipeline = current.specializeFor(action, invoker.getMethod());
+        pipelines.put(action, actionPipeline);
+        return actionPipeline;
     }
 
     @Nonnull
     private Object[] injectFromContext(@Nonnull Action action, @Nonnull Object[] args) {
+        ActionMethodInvoker invoker = invokers.get(action);
+        if (invoker != null) {
+            return invoker.resolveArguments(action, args);
+        }
+
         MVCGroup group = action.getController().getMvcGroup();
         if (group == null) {
             // This case only occurs during testing, when an artifact is
@@ -323,6 +472,19 @@ public abstract class AbstractActionManager implements ActionManager {
         invokeAction(actionFor(controller, actionName), args);
     }
 
+    /**
+     * Invokes the controller method of the given action. Uses the method handle resolved when the action was
+     * created if the arguments match its signature, otherwise falls back to a reflective lookup by name.
+     */
+    @Nullable
+    protected Object doInvokeAction(@Nonnull Action action, @Nonnull Object[] updatedArgs) {
+        ActionMethodInvoker invoker = invokers.get(action);
+        if (invoker != null && invoker.accepts(updatedArgs)) {
+            return invoker.invoke(updatedArgs);
+        }
+        return doInvokeAction(action.getController(), action.getActionName(), updatedArgs);
+    }
+
     @Nullable
     protected Object doInvokeAction(@Nonnull BasiliskController controller, @Nonnull String actionName, @Nonnull Object[] updatedArgs) {
         try {
@@ -356,12 +518,20 @@ public abstract class AbstractActionManager implements ActionManager {
 
         LOG.debug("Executing {} with policy {}", fullQualifiedActionName, policy);
 
+        if (policy == Threading.Policy.OUTSIDE_UITHREAD || policy == Threading.Policy.OUTSIDE_UITHREAD_ASYNC) {
+            ExecutorService executorService = resolveExecutorService(controller, actionName, fullQualifiedActionName);
+            if (executorService != null) {
+                getUiThreadManager().runOutsideUIAsync(executorService, runnable);
+                return;
+            }
+        }
+
         switch (policy) {
             case OUTSIDE_UITHREAD:
-                getUiThreadManager().runOutsideUI(runnable);
+                getUiThreadManager().runOutsideUI(taskPriorityFor(controller, actionName, fullQualifiedActionName), runnable);
                 break;
             case OUTSIDE_UITHREAD_ASYNC:
-                getUiThreadManager().runOutsideUIAsync(runnable);
+                getUiThreadManager().runOutsideUIAsync(taskPriorityFor(controller, actionName, fullQualifiedActionName), runnable);
                 break;
             case INSIDE_UITHREAD_SYNC:
                 getUiThreadManager().runInsideUISync(runnable);
@@ -375,6 +545,64 @@ public abstract class AbstractActionManager implements ActionManager {
         }
     }
 
+    @Nullable
+    private ExecutorService resolveExecutorService(@Nonnull BasiliskController controller, @Nonnull String actionName, @Nonnull String fullQualifiedActionName) {
+        String executorName = executorNames.get(fullQualifiedActionName);
+        if (executorName == null) {
+            executorName = resolveExecutorName(controller, actionName);
+            executorNames.put(fullQualifiedActionName, executorName);
+        }
+
+        if (isBlank(executorName) || executorServiceManager == null) {
+            return null;
+        }
+
+        ExecutorService executorService = executorServiceManager.getExecutorService(executorName);
+        if (executorService == null && missingExecutorWarnings.add(fullQualifiedActionName)) {
+            LOG.warn("Executor '{}' required by {} is not registered. Using the default executor instead", executorName, fullQualifiedActionName);
+        }
+        return executorService;
+    }
+
+    /**
+     * Resolves the name of the executor set with {@code Threading.executor()} on the action's method or its controller.
+     *
+     * @return the name of the executor or an empty String if the default executor should be used.
+     */
+    @Nonnull
+    protected String resolveExecutorName(@Nonnull BasiliskController controller, @Nonnull String actionName) {
+        Method method = findActionAsMethod(controller, actionName);
+        Threading annotation = method != null ? findAnnotation(method, Threading.class, true) : null;
+        if (annotation == null || isBlank(annotation.executor())) {
+            annotation = findAnnotation(controller.getTypeClass(), Threading.class, true);
+        }
+        return annotation != null ? annotation.executor().trim() : "";
+    }
+
+    @Nonnull
+    private TaskPriority taskPriorityFor(@Nonnull BasiliskController controller, @Nonnull String actionName, @Nonnull String fullQualifiedActionName) {
+        TaskPriority priority = taskPriorities.get(fullQualifiedActionName);
+        if (priority == null) {
+            priority = resolveTaskPriority(controller, actionName);
+            taskPriorities.put(fullQualifiedActionName, priority);
+        }
+        return priority;
+    }
+
+    /**
+     * Resolves the lane set with {@code Threading.priority()} on the action's method or, if the method is not
+     * annotated with {@code @Threading}, on its controller.
+     */
+    @Nonnull
+    protected TaskPriority resolveTaskPriority(@Nonnull BasiliskController controller, @Nonnull String actionName) {
+        Method method = findActionAsMethod(controller, actionName);
+        Threading annotation = method != null ? findAnnotation(method, Threading.class, true) : null;
+        if (annotation == null) {
+            annotation = findAnnotation(controller.getTypeClass(), Threading.class, true);
+        }
+        return annotation != null ? annotation.priority() : TaskPriority.NORMAL;
+    }
+
     @Nonnull
     protected Threading.Policy resolveThreadingPolicy(@Nonnull BasiliskController controller, @Nonnull String actionName) {
         Method method = findActionAsMethod(controller, actionName);
@@ -450,10 +678,9 @@ public abstract class AbstractActionManager implements ActionManager {
 
     public void addActionHandler(@Nonnull ActionHandler actionHandler) {
         requireNonNull(actionHandler, ERROR_ACTION_HANDLER_NULL);
-        if (handlers.contains(actionHandler)) {
-            return;
+        synchronized (handlersLock) {
+            pipeline = pipeline.with(actionHandler);
         }
-        handlers.add(actionHandler);
     }
 
     public void addActionInterceptor(@Nonnull ActionInterceptor actionInterceptor) {
@@ -467,6 +694,11 @@ public abstract class AbstractActionManager implements ActionManager {
         requireNonNull(method, ERROR_METHOD_NULL);
 
         Action action = createControllerAction(controller, actionName, method);
+        invokers.put(action, ActionMethodInvoker.create(controller, method, action.getActionMetadata()));
+        ActionInvocationGate gate = createInvocationGate(action, method);
+        if (gate != null) {
+            gates.put(action, gate);
+        }
 
         String normalizeNamed = capitalize(normalizeName(actionName));
         String keyPrefix = controller.getTypeClass().getName() + ".action.";
@@ -478,6 +710,83 @@ public abstract class AbstractActionManager implements ActionManager {
         return action;
     }
 
+    @Nullable
+    private ActionInvocationGate createInvocationGate(@Nonnull Action action, @Nonnull Method method) {
+        final BasiliskController controller = action.getController();
+        final String actionName = action.getActionName();
+
+        InvocationPolicy annotation = findAnnotation(method, InvocationPolicy.class, true);
+        InvocationPolicy.Type type = annotation != null ? annotation.value() : InvocationPolicy.Type.NONE;
+        long period = annotation != null ? annotation.period() : InvocationPolicy.DEFAULT_PERIOD;
+
+        String keyPrefix = KEY_INVOCATION + "." + controller.getTypeClass().getName() + "." + actionName;
+        String policy = getConfiguration().getAsString(keyPrefix + ".policy", null);
+        if (!isBlank(policy)) {
+            type = resolveInvocationPolicy(policy);
+        }
+        period = getConfiguration().getAsLong(keyPrefix + ".period", period);
+
+        if (type == InvocationPolicy.Type.NONE) {
+            return null;
+        }
+        LOG.debug("Invocation policy for {} is {}", action.getFullyQualifiedName(), type);
+
+        ActionInvocationGate.Dispatcher dispatcher = new ActionInvocationGate.Dispatcher() {
+            @Override
+            public void dispatch(@Nonnull Runnable runnable) {
+                invokeAction(controller, actionName, runnable);
+            }
+        };
+
+        switch (type) {
+            case THROTTLE:
+                return ActionInvocationGate.throttle(action, dispatcher, period);
+            case DEBOUNCE:
+                return ActionInvocationGate.debounce(action, dispatcher, period, getScheduler(), getUiThreadManager());
+            case DROP_WHILE_RUNNING:
+                return ActionInvocationGate.dropWhileRunning(action, dispatcher, getUiThreadManager(), stateFor(action));
+            case COALESCE_LATEST:
+            default:
+                return ActionInvocationGate.coalesceLatest(action, dispatcher, stateFor(action));
+        }
+    }
+
+    @Nonnull
+    protected InvocationPolicy.Type resolveInvocationPolicy(@Nonnull String value) {
+        String policy = value.trim().toLowerCase();
+        switch (policy) {
+            case "none":
+                return InvocationPolicy.Type.NONE;
+            case "throttle":
+                return InvocationPolicy.Type.THROTTLE;
+            case "debounce":
+                return InvocationPolicy.Type.DEBOUNCE;
+            case "drop":
+            case "drop while running":
+            case "drop_while_running":
+                return InvocationPolicy.Type.DROP_WHILE_RUNNING;
+            case "coalesce":
+            case "coalesce latest":
+            case "coalesce_latest":
+                return InvocationPolicy.Type.COALESCE_LATEST;
+            default:
+                throw new IllegalArgumentException("Value '" + policy + "' cannot be translated into " + InvocationPolicy.Type.class.getName());
+        }
+    }
+
+    @Nonnull
+    private ScheduledExecutorService getScheduler() {
+        synchronized (schedulerLock) {
+            if (scheduler == null) {
+                scheduler = Executors.newSingleThreadScheduledExecutor(new SchedulerThreadFactory());
+                if (executorServiceManager != null) {
+                    executorServiceManager.add(scheduler);
+                }
+            }
+            return scheduler;
+        }
+    }
+
     protected abstract void doConfigureAction(@Nonnull Action action, @Nonnull BasiliskController controller, @Nonnull String normalizeNamed, @Nonnull String keyPrefix);
 
     @Nonnull
@@ -504,6 +813,14 @@ public abstract class AbstractActionManager implements ActionManager {
         }
     }
 
+    private static class SchedulerThreadFactory implements ThreadFactory {
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "basilisk-action-scheduler-thread");
+            t.setDaemon(true);
+            return t;
+        }
+    }
+
     private static class ActionCache {
         private final Map<WeakReference<BasiliskController>, Map<String, Action>> cache = new ConcurrentHashMap<>();
 
@@ -538,6 +855,24 @@ public abstract class AbstractActionManager implements ActionManager {
             cache.put(new WeakReference<>(controller), actions);
         }
 
+        @Nonnull
+        public Map<String, Action> remove(@Nonnull BasiliskController controller) {
+            Map<String, Action> actions = Collections.emptyMap();
+            synchronized (cache) {
+                for (Iterator<Map.Entry<WeakReference<BasiliskController>, Map<String, Action>>> it = cache.entrySet().iterator(); it.hasNext(); ) {
+                    Map.Entry<WeakReference<BasiliskController>, Map<String, Action>> entry = it.next();
+                    BasiliskController test = entry.getKey().get();
+                    if (test == controller) {
+                        actions = entry.getValue();
+                        it.remove();
+                    } else if (test == null) {
+                        it.remove();
+                    }
+                }
+            }
+            return actions;
+        }
+
         public Collection<Action> allActions() {
             // create a copy to avoid CME
             List<Action> actions = new ArrayList<>();
@@ -97,6 +97,16 @@ public class ActionDecorator implements Action {
         delegate.execute(args);
     }
 
+    @Override
+    public boolean isRunning() {
+        return delegate.isRunning();
+    }
+
+    @Override
+    public boolean cancel() {
+        return delegate.cancel();
+    }
+
     @Override
     public void initialize() {
         delegate.initialize();
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.controller;
+
+import basilisk.core.controller.Action;
+import basilisk.core.controller.ActionHandler;
+import basilisk.core.controller.SelectiveActionHandler;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, ordered chain of {@code ActionHandler}s.
+ * <p>
+ * A pipeline is rebuilt every time a handler is registered; pipelines specialized for a
+ * single action keep a reference to the pipeline they were derived from, which lets the
+ * {@code ActionManager} detect when they have become stale.
+ *
+ * @author Andres Almiray
+ */
+final class ActionHandlerPipeline {
+    static final ActionHandlerPipeline EMPTY = new ActionHandlerPipeline(new ActionHandler[0], null);
+
+    private final ActionHandler[] handlers;
+    private final ActionHandlerPipeline source;
+
+    private ActionHandlerPipeline(@Nonnull ActionHandler[] handlers, ActionHandlerPipeline source) {
+        this.handlers = handlers;
+        this.source = source;
+    }
+
+    /**
+     * Returns a new pipeline with the given handler appended, or this pipeline if the handler is already part of it.
+     */
+    @Nonnull
+    ActionHandlerPipeline with(@Nonnull ActionHandler handler) {
+        requireNonNull(handler, "Argument 'handler' must not be null");
+        if (contains(handler)) {
+            return this;
+        }
+
+        ActionHandler[] newHandlers = Arrays.copyOf(handlers, handlers.length + 1);
+        newHandlers[handlers.length] = handler;
+        return new ActionHandlerPipeline(newHandlers, null);
+    }
+
+    /**
+     * Returns a pipeline containing only those handlers that apply to the given action.
+     */
+    @Nonnull
+    ActionHandlerPipeline specializeFor(@Nonnull Action action, @Nonnull Method method) {
+        requireNonNull(action, "Argument 'action' must not be null");
+        requireNonNull(method, "Argument 'method' must not be null");
+
+        ActionHandler[] applicable = new ActionHandler[handlers.length];
+        int count = 0;
+        for (ActionHandler handler : handlers) {
+            if (!(handler instanceof SelectiveActionHandler) || ((SelectiveActionHandler) handler).appliesTo(action, method)) {
+                applicable[count++] = handler;
+            }
+        }
+
+        return new ActionHandlerPipeline(count == handlers.length ? handlers : Arrays.copyOf(applicable, count), this);
+    }
+
+    boolean isDerivedFrom(@Nonnull ActionHandlerPipeline pipeline) {
+        return source == pipeline;
+    }
+
+    boolean contains(@Nonnull ActionHandler handler) {
+        for (ActionHandler h : handlers) {
+            if (h.equals(handler)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return handlers.length;
+    }
+
+    @Nonnull
+    ActionHandler get(int index) {
+        return handlers[index];
+    }
+}
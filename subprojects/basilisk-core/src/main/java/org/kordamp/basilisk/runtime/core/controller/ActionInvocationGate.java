@@ -0,0 +1,334 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.controller;
+
+import basilisk.core.controller.Action;
+import basilisk.core.threading.UIThreadManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decides whether a triggered action is executed, delayed or dropped, according to its
+ * {@code InvocationPolicy}. Executions are handed over to a {@code Dispatcher} that applies
+ * the action's threading policy.
+ *
+ * @author Andres Almiray
+ */
+abstract class ActionInvocationGate {
+    private static final Logger LOG = LoggerFactory.getLogger(ActionInvocationGate.class);
+
+    interface Dispatcher {
+        void dispatch(@Nonnull Runnable runnable);
+    }
+
+    protected final Action action;
+    protected final Dispatcher dispatcher;
+
+    private ActionInvocationGate(@Nonnull Action action, @Nonnull Dispatcher dispatcher) {
+        this.action = requireNonNull(action, "Argument 'action' must not be null");
+        this.dispatcher = requireNonNull(dispatcher, "Argument 'dispatcher' must not be null");
+    }
+
+    abstract void submit(@Nonnull Runnable task);
+
+    protected void dropped() {
+        LOG.trace("Dropping execution of {}", action.getFullyQualifiedName());
+    }
+
+    @Nonnull
+    static ActionInvocationGate throttle(@Nonnull Action action, @Nonnull Dispatcher dispatcher, long period) {
+        return new Throttle(action, dispatcher, period);
+    }
+
+    @Nonnull
+    static ActionInvocationGate debounce(@Nonnull Action action, @Nonnull Dispatcher dispatcher, long period, @Nonnull ScheduledExecutorService scheduler, @Nonnull UIThreadManager uiThreadManager) {
+        return new Debounce(action, dispatcher, period, scheduler, uiThreadManager);
+    }
+
+    @Nonnull
+    static ActionInvocationGate dropWhileRunning(@Nonnull Action action, @Nonnull Dispatcher dispatcher, @Nonnull UIThreadManager uiThreadManager, @Nonnull ActionState state) {
+        return new DropWhileRunning(action, dispatcher, uiThreadManager, state);
+    }
+
+    @Nonnull
+    static ActionInvocationGate coalesceLatest(@Nonnull Action action, @Nonnull Dispatcher dispatcher, @Nonnull ActionState state) {
+        return new CoalesceLatest(action, dispatcher, state);
+    }
+
+    private static final class Throttle extends ActionInvocationGate {
+        private final long periodNanos;
+        private final AtomicLong nextExecution = new AtomicLong(System.nanoTime());
+
+        private Throttle(@Nonnull Action action, @Nonnull Dispatcher dispatcher, long period) {
+            super(action, dispatcher);
+            this.periodNanos = TimeUnit.MILLISECONDS.toNanos(period);
+        }
+
+        @Override
+        void submit(@Nonnull Runnable task) {
+            long now = System.nanoTime();
+            long next = nextExecution.get();
+            if (now - next < 0 || !nextExecution.compareAndSet(next, now + periodNanos)) {
+                dropped();
+                return;
+            }
+            dispatcher.dispatch(task);
+        }
+    }
+
+    private static final class Debounce extends ActionInvocationGate {
+        private final long period;
+        private final ScheduledExecutorService scheduler;
+        private final UIThreadManager uiThreadManager;
+        private final AtomicReference<Runnable> latest = new AtomicReference<>();
+        private final Object lock = new Object[0];
+        @GuardedBy("lock")
+        private ScheduledFuture<?> scheduled;
+
+        private final Runnable fire = new Runnable() {
+            @Override
+            public void run() {
+                final Runnable task = latest.getAndSet(null);
+                if (task != null) {
+                    // never run the action on the scheduler's thread
+                    uiThreadManager.runOutsideUIAsync(new Runnable() {
+                        @Override
+                        public void run() {
+                            dispatcher.dispatch(task);
+                        }
+                    });
+                }
+            }
+        };
+
+        private Debounce(@Nonnull Action action, @Nonnull Dispatcher dispatcher, long period, @Nonnull ScheduledExecutorService scheduler, @Nonnull UIThreadManager uiThreadManager) {
+            super(action, dispatcher);
+            this.period = period;
+            this.scheduler = requireNonNull(scheduler, "Argument 'scheduler' must not be null");
+            this.uiThreadManager = requireNonNull(uiThreadManager, "Argument 'uiThreadManager' must not be null");
+        }
+
+        @Override
+        void submit(@Nonnull Runnable task) {
+            if (latest.getAndSet(task) != null) {
+                dropped();
+            }
+            synchronized (lock) {
+                if (scheduled != null) {
+                    scheduled.cancel(false);
+                }
+                scheduled = scheduler.schedule(fire, period, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private static final class DropWhileRunning extends ActionInvocationGate {
+        private final UIThreadManager uiThreadManager;
+        private final ActionState state;
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        // only accessed inside the UI thread
+        private boolean disabledByGate;
+
+        private final Runnable disable = new Runnable() {
+            @Override
+            public void run() {
+                if (running.get() && action.isEnabled()) {
+                    disabledByGate = true;
+                    action.setEnabled(false);
+                }
+            }
+        };
+
+        private final Runnable enable = new Runnable() {
+            @Override
+            public void run() {
+                if (disabledByGate && !running.get()) {
+                    disabledByGate = false;
+                    action.setEnabled(true);
+                }
+            }
+        };
+
+        private final Runnable release = new Runnable() {
+            @Override
+            public void run() {
+                release();
+            }
+        };
+
+        private DropWhileRunning(@Nonnull Action action, @Nonnull Dispatcher dispatcher, @Nonnull UIThreadManager uiThreadManager, @Nonnull ActionState state) {
+            super(action, dispatcher);
+            this.uiThreadManager = requireNonNull(uiThreadManager, "Argument 'uiThreadManager' must not be null");
+            this.state = requireNonNull(state, "Argument 'state' must not be null");
+        }
+
+        @Override
+        void submit(@Nonnull final Runnable task) {
+            if (!running.compareAndSet(false, true)) {
+                dropped();
+                return;
+            }
+
+            // action state changes only on transitions, never per trigger
+            runInsideUI(disable);
+            try {
+                dispatcher.dispatch(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            task.run();
+                        } finally {
+                            // asynchronous results keep the action running until they complete
+                            state.whenIdle(release);
+                        }
+                    }
+                });
+            } catch (RuntimeException e) {
+                // the task will never run, e.g. its executor rejected it
+                release();
+                throw e;
+            }
+        }
+
+        private void release() {
+            running.set(false);
+            runInsideUI(enable);
+        }
+
+        private void runInsideUI(@Nonnull Runnable runnable) {
+            if (uiThreadManager.isUIThread()) {
+                runnable.run();
+            } else {
+                uiThreadManager.runInsideUIAsync(runnable);
+            }
+        }
+    }
+
+    private static final class CoalesceLatest extends ActionInvocationGate {
+        private final ActionState state;
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        private final AtomicReference<Runnable> pending = new AtomicReference<>();
+
+        private final Runnable resume = new Runnable() {
+            @Override
+            public void run() {
+                Runnable next = next();
+                if (next != null) {
+                    try {
+                        dispatch(next);
+                    } catch (RuntimeException e) {
+                        LOG.warn("Could not execute pending trigger of {}", action.getFullyQualifiedName(), e);
+                    }
+                }
+            }
+        };
+
+        private CoalesceLatest(@Nonnull Action action, @Nonnull Dispatcher dispatcher, @Nonnull ActionState state) {
+            super(action, dispatcher);
+            this.state = requireNonNull(state, "Argument 'state' must not be null");
+        }
+
+        @Override
+        void submit(@Nonnull Runnable task) {
+            if (pending.getAndSet(task) != null) {
+                dropped();
+            }
+            if (!running.compareAndSet(false, true)) {
+                // the current execution picks up the pending trigger once it's done
+                return;
+            }
+
+            Runnable next = next();
+            if (next != null) {
+                dispatch(next);
+            }
+        }
+
+        private void dispatch(@Nonnull final Runnable task) {
+            try {
+                doDispatch(task);
+            } catch (RuntimeException e) {
+                // the task will never run, e.g. its executor rejected it
+                pending.set(null);
+                running.set(false);
+                throw e;
+            }
+        }
+
+        private void doDispatch(@Nonnull final Runnable task) {
+            dispatcher.dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    RuntimeException failure = null;
+                    Runnable current = task;
+                    while (current != null) {
+                        try {
+                            current.run();
+                        } catch (RuntimeException e) {
+                            if (failure == null) {
+                                failure = e;
+                            } else {
+                                LOG.warn("An exception occurred when executing {}", action.getFullyQualifiedName(), e);
+                            }
+                        }
+                        if (state.isRunning()) {
+                            // asynchronous results keep the action running until they complete
+                            state.whenIdle(resume);
+                            break;
+                        }
+                        // run the latest pending trigger in the same thread, it has the same threading policy
+                        current = next();
+                    }
+                    if (failure != null) {
+                        throw failure;
+                    }
+                }
+            });
+        }
+
+        @Nullable
+        private Runnable next() {
+            Runnable next = pending.getAndSet(null);
+            return next != null ? next : release();
+        }
+
+        @Nullable
+        private Runnable release() {
+            while (true) {
+                running.set(false);
+                if (pending.get() == null || !running.compareAndSet(false, true)) {
+                    return null;
+                }
+                Runnable next = pending.getAndSet(null);
+                if (next != null) {
+                    return next;
+                }
+            }
+        }
+    }
+}
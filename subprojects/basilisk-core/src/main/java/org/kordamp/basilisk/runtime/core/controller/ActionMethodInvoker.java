@@ -0,0 +1,162 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.controller;
+
+import basilisk.core.Context;
+import basilisk.core.artifact.BasiliskController;
+import basilisk.core.controller.Action;
+import basilisk.core.controller.ActionMetadata;
+import basilisk.core.controller.ActionParameter;
+import basilisk.core.mvc.MVCGroup;
+import basilisk.exceptions.InstanceMethodInvocationException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.EventObject;
+
+import static basilisk.util.BasiliskClassUtils.EMPTY_ARGS;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Invokes an action's controller method through a {@code MethodHandle} bound to the controller.
+ * The method handle and the contextual argument plan are resolved once, when the action is created.
+ *
+ * @author Andres Almiray
+ */
+final class ActionMethodInvoker {
+    private final BasiliskController controller;
+    private final Method method;
+    private final MethodHandle handle;
+    private final Class<?>[] parameterTypes;
+    private final boolean[] primitives;
+    private final ActionParameter[] contextualParameters;
+
+    private ActionMethodInvoker(@Nonnull BasiliskController controller, @Nonnull Method method, @Nullable MethodHandle handle, @Nonnull ActionMetadata actionMetadata) {
+        this.controller = controller;
+        this.method = method;
+        this.handle = handle;
+
+        Class<?>[] types = method.getParameterTypes();
+        this.parameterTypes = new Class<?>[types.length];
+        this.primitives = new boolean[types.length];
+        for (int i = 0; i < types.length; i++) {
+            parameterTypes[i] = MethodType.methodType(types[i]).wrap().returnType();
+            primitives[i] = types[i].isPrimitive();
+        }
+
+        this.contextualParameters = actionMetadata.hasContextualArgs() ? actionMetadata.getParameters() : null;
+    }
+
+    @Nonnull
+    static ActionMethodInvoker create(@Nonnull BasiliskController controller, @Nonnull Method method, @Nonnull ActionMetadata actionMetadata) {
+        requireNonNull(controller, "Argument 'controller' must not be null");
+        requireNonNull(method, "Argument 'method' must not be null");
+        requireNonNull(actionMetadata, "Argument 'actionMetadata' must not be null");
+
+        MethodHandle handle = null;
+        try {
+            method.setAccessible(true);
+            int parameterCount = method.getParameterTypes().length;
+            handle = MethodHandles.lookup().unreflect(method)
+                .bindTo(controller)
+                .asType(MethodType.genericMethodType(parameterCount))
+                .asSpreader(Object[].class, parameterCount);
+        } catch (IllegalAccessException | SecurityException e) {
+            // the reflective path in AbstractActionManager.doInvokeAction will be used instead
+        }
+
+        return new ActionMethodInvoker(controller, method, handle, actionMetadata);
+    }
+
+    @Nonnull
+    Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Replaces contextual arguments with values found in the controller's group context.
+     */
+    @Nonnull
+    Object[] resolveArguments(@Nonnull Action action, @Nonnull Object[] args) {
+        if (contextualParameters == null) {
+            return args;
+        }
+
+        MVCGroup group = controller.getMvcGroup();
+        if (group == null) {
+            // This case only occurs during testing, when an artifact is
+            // instantiated without a group
+            return args;
+        }
+
+        Context context = group.getContext();
+        Object[] newArgs = new Object[contextualParameters.length];
+        for (int i = 0; i < newArgs.length; i++) {
+            ActionParameter param = contextualParameters[i];
+            if (!param.isContextual()) {
+                newArgs[i] = args[i];
+                continue;
+            }
+
+            newArgs[i] = context.get(param.getName());
+            if (newArgs[i] != null) {
+                context.put(param.getName(), newArgs[i]);
+            } else if (!param.isNullable()) {
+                throw new IllegalStateException("Could not find an instance of type " +
+                    param.getType().getName() + " under key '" + param.getName() +
+                    "' in the context of MVCGroup[" + group.getMvcType() + ":" + group.getMvcId() +
+                    "] to be injected as argument " + i +
+                    " at " + action.getFullyQualifiedName() + "(). Argument does not accept null values.");
+            }
+        }
+        return newArgs;
+    }
+
+    /**
+     * Returns {@code true} if the given arguments can be passed to the resolved method as is, or
+     * if they consist of a single {@code EventObject} that may be dropped for a method without parameters.
+     */
+    boolean accepts(@Nonnull Object[] args) {
+        if (handle == null) {
+            return false;
+        }
+
+        if (args.length != parameterTypes.length) {
+            return parameterTypes.length == 0 && args.length == 1 && args[0] instanceof EventObject;
+        }
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] == null ? primitives[i] : !parameterTypes[i].isInstance(args[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    Object invoke(@Nonnull Object[] args) {
+        Object[] actualArgs = args.length == parameterTypes.length ? args : EMPTY_ARGS;
+        try {
+            return (Object) handle.invokeExact(actualArgs);
+        } catch (Throwable t) {
+            throw new InstanceMethodInvocationException(controller, method.getName(), actualArgs, t);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.controller;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+
+/**
+ * Immutable view of the metrics recorded by {@code MetricsActionHandler} for a single action.
+ * All times are expressed in nanoseconds.
+ *
+ * @author Andres Almiray
+ */
+public final class ActionMetricsSnapshot {
+    private final String actionName;
+    private final long invocations;
+    private final long failures;
+    private final long aborts;
+    private final long totalQueueDelay;
+    private final long maxQueueDelay;
+    private final long totalExecutionTime;
+    private final long maxExecutionTime;
+    private final long uiThreadTime;
+    private final long backgroundTime;
+
+    public ActionMetricsSnapshot(@Nonnull String actionName, long invocations, long failures, long aborts,
+                                 long totalQueueDelay, long maxQueueDelay, long totalExecutionTime,
+                                 long maxExecutionTime, long uiThreadTime, long backgroundTime) {
+        this.actionName = requireNonBlank(actionName, "Argument 'actionName' must not be blank");
+        this.invocations = invocations;
+        this.failures = failures;
+        this.aborts = aborts;
+        this.totalQueueDelay = totalQueueDelay;
+        this.maxQueueDelay = maxQueueDelay;
+        this.totalExecutionTime = totalExecutionTime;
+        this.maxExecutionTime = maxExecutionTime;
+        this.uiThreadTime = uiThreadTime;
+        this.backgroundTime = backgroundTime;
+    }
+
+    /**
+     * Returns the fully qualified name of the action.
+     */
+    @Nonnull
+    public String getActionName() {
+        return actionName;
+    }
+
+    public long getInvocations() {
+        return invocations;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public long getAborts() {
+        return aborts;
+    }
+
+    /**
+     * Ratio of failed invocations, between 0 and 1.
+     */
+    public double getFailureRate() {
+        return invocations == 0 ? 0d : (double) failures / invocations;
+    }
+
+    /**
+     * Total time spent between triggering the action and starting its execution.
+     */
+    public long getTotalQueueDelay() {
+        return totalQueueDelay;
+    }
+
+    public long getMaxQueueDelay() {
+        return maxQueueDelay;
+    }
+
+    public long getMeanQueueDelay() {
+        return invocations == 0 ? 0L : totalQueueDelay / invocations;
+    }
+
+    /**
+     * Total time spent executing the action, excluding aborted invocations. Invocations returning a
+     * {@code CompletionStage} are measured until the stage completes.
+     */
+    public long getTotalExecutionTime() {
+        return totalExecutionTime;
+    }
+
+    public long getMaxExecutionTime() {
+        return maxExecutionTime;
+    }
+
+    public long getMeanExecutionTime() {
+        long executions = invocations - aborts;
+        return executions <= 0 ? 0L : totalExecutionTime / executions;
+    }
+
+    /**
+     * Portion of the total execution time spent running action methods inside the UI thread.
+     */
+    public long getUIThreadTime() {
+        return uiThreadTime;
+    }
+
+    /**
+     * Portion of the total execution time spent running action methods outside of the UI thread.
+     * Asynchronous work completing a returned {@code CompletionStage} is not included.
+     */
+    public long getBackgroundTime() {
+        return backgroundTime;
+    }
+
+    @Override
+    public String toString() {
+        return actionName +
+            ": invocations=" + invocations +
+            ", failures=" + failures +
+            ", aborts=" + aborts +
+            ", queue(mean/max)=" + millis(getMeanQueueDelay()) + "/" + millis(maxQueueDelay) + "ms" +
+            ", execution(mean/max)=" + millis(getMeanExecutionTime()) + "/" + millis(maxExecutionTime) + "ms" +
+            ", uiThread=" + millis(uiThreadTime) + "ms" +
+            ", background=" + millis(backgroundTime) + "ms";
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
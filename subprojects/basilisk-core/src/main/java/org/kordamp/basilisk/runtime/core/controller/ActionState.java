@@ -0,0 +1,251 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.controller;
+
+import basilisk.core.controller.Action;
+import basilisk.core.threading.UIThreadManager;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Keeps track of the invocations of an action that are in progress, and of the action's reported progress.
+ * <p>
+ * Changes are published to {@code AbstractAction}s inside the UI thread. Updates are coalesced, there is at
+ * most one pending update per action no matter how many invocations start, finish or report progress.
+ *
+ * @author Andres Almiray
+ */
+final class ActionState {
+    private final Action action;
+    private final UIThreadManager uiThreadManager;
+    private final Set<Invocation> invocations = Collections.newSetFromMap(new ConcurrentHashMap<Invocation, Boolean>());
+    private final AtomicLong progress = new AtomicLong(doubleToLongBits(0d));
+    private final AtomicBoolean updateScheduled = new AtomicBoolean(false);
+    private final Queue<Runnable> idleCallbacks = new ConcurrentLinkedQueue<>();
+
+    private final Runnable update = new Runnable() {
+        @Override
+        public void run() {
+            updateScheduled.set(false);
+            ((AbstractAction) action).updateRunningState(!invocations.isEmpty(), longBitsToDouble(progress.get()));
+        }
+    };
+
+    ActionState(@Nonnull Action action, @Nonnull UIThreadManager uiThreadManager) {
+        this.action = requireNonNull(action, "Argument 'action' must not be null");
+        this.uiThreadManager = requireNonNull(uiThreadManager, "Argument 'uiThreadManager' must not be null");
+    }
+
+    boolean isRunning() {
+        return !invocations.isEmpty();
+    }
+
+    /**
+     * Registers a new invocation executing in the current thread.
+     *
+     * @param triggeredAt value of {@code System.nanoTime()} when the action was triggered
+     */
+    @Nonnull
+    Invocation begin(long triggeredAt) {
+        Invocation invocation = new Invocation(Thread.currentThread(), uiThreadManager.isUIThread(), triggeredAt);
+        if (invocations.isEmpty()) {
+            progress.set(doubleToLongBits(0d));
+        }
+        invocations.add(invocation);
+        scheduleUpdate();
+        return invocation;
+    }
+
+    /**
+     * Keeps the invocation in progress until the given result completes, if it is a {@code CompletionStage}.
+     */
+    void track(@Nonnull final Invocation invocation, @Nullable Object result) {
+        if (!(result instanceof CompletionStage)) {
+            return;
+        }
+
+        CompletionStage<?> stage = (CompletionStage<?>) result;
+        invocation.attach(result instanceof Future ? (Future<?>) result : toFuture(stage));
+        stage.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object value, Throwable throwable) {
+                end(invocation);
+            }
+        });
+    }
+
+    /**
+     * Called once the action method has returned, or failed.
+     */
+    void finish(@Nonnull Invocation invocation) {
+        if (!invocation.detach()) {
+            end(invocation);
+        }
+    }
+
+    /**
+     * Runs the given callback once there are no invocations in progress, including those that continue
+     * asynchronously. The callback runs immediately if the action is idle.
+     */
+    void whenIdle(@Nonnull Runnable callback) {
+        idleCallbacks.add(requireNonNull(callback, "Argument 'callback' must not be null"));
+        if (invocations.isEmpty()) {
+            notifyIdle();
+        }
+    }
+
+    boolean cancel() {
+        boolean cancelled = false;
+        for (Invocation invocation : invocations) {
+            cancelled |= invocation.cancel();
+        }
+        return cancelled;
+    }
+
+    void reportProgress(double value) {
+        progress.set(doubleToLongBits(value));
+        scheduleUpdate();
+    }
+
+    private void end(@Nonnull Invocation invocation) {
+        if (invocations.remove(invocation)) {
+            scheduleUpdate();
+            if (invocations.isEmpty()) {
+                notifyIdle();
+            }
+        }
+    }
+
+    private void notifyIdle() {
+        Runnable callback;
+        while ((callback = idleCallbacks.poll()) != null) {
+            callback.run();
+        }
+    }
+
+    private void scheduleUpdate() {
+        if (!(action instanceof AbstractAction)) {
+            return;
+        }
+
+        if (uiThreadManager.isUIThread()) {
+            update.run();
+        } else if (updateScheduled.compareAndSet(false, true)) {
+            uiThreadManager.runInsideUIAsync(update);
+        }
+    }
+
+    @Nullable
+    private static Future<?> toFuture(@Nonnull CompletionStage<?> stage) {
+        try {
+            return stage.toCompletableFuture();
+        } catch (UnsupportedOperationException uoe) {
+            // stage cannot be cancelled
+            return null;
+        }
+    }
+
+    static final class Invocation {
+        private final boolean uiThread;
+        private final long triggeredAt;
+        private final long startedAt = System.nanoTime();
+        @GuardedBy("this")
+        private Thread worker;
+        @GuardedBy("this")
+        private Future<?> future;
+        @GuardedBy("this")
+        private boolean async;
+        @GuardedBy("this")
+        private boolean cancelled;
+
+        private Invocation(@Nonnull Thread worker, boolean uiThread, long triggeredAt) {
+            // never interrupt the UI thread
+            this.worker = uiThread ? null : worker;
+            this.uiThread = uiThread;
+            this.triggeredAt = triggeredAt;
+        }
+
+        boolean isUIThread() {
+            return uiThread;
+        }
+
+        /**
+         * Value of {@code System.nanoTime()} when the action was triggered.
+         */
+        long getTriggeredAt() {
+            return triggeredAt;
+        }
+
+        /**
+         * Value of {@code System.nanoTime()} when the action started executing.
+         */
+        long getStartedAt() {
+            return startedAt;
+        }
+
+        private synchronized void attach(@Nullable Future<?> future) {
+            this.async = true;
+            this.future = future;
+            if (cancelled && future != null) {
+                future.cancel(true);
+            }
+        }
+
+        /**
+         * Releases the worker thread, clearing any interruption caused by {@code cancel()}.
+         *
+         * @return <code>true</code> if the invocation continues asynchronously.
+         */
+        private synchronized boolean detach() {
+            if (cancelled && worker == Thread.currentThread()) {
+                Thread.interrupted();
+            }
+            worker = null;
+            return async;
+        }
+
+        private synchronized boolean cancel() {
+            if (cancelled) {
+                return false;
+            }
+            cancelled = true;
+            if (future != null) {
+                // interrupts nothing for a CompletableFuture, whatever completes it must check isCancelled()
+                future.cancel(true);
+            }
+            if (worker != null) {
+                worker.interrupt();
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.controller;
+
+import basilisk.core.BasiliskApplication;
+import basilisk.core.ExecutorServiceManager;
+import basilisk.core.controller.Action;
+import basilisk.core.controller.ActionExecutionStatus;
+import org.kordamp.basilisk.runtime.core.threading.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Records invocation counts, queueing delay, execution time and failures per action.
+ * <p>
+ * This handler is not registered by default, bind it as an {@code ActionHandler} to enable it, for example
+ * <pre>
+ * bind(ActionHandler.class)
+ *     .to(MetricsActionHandler.class)
+ *     .asSingleton();
+ * </pre>
+ * A summary is written to the log every {@code basilisk.controller.action.metrics.interval} seconds
+ * (60 by default); set a value of 0 or less to disable it.
+ * <p>
+ * Invocations that return a {@code CompletionStage} are measured until the stage completes. A stage that
+ * completes exceptionally counts as a failure, a cancelled stage counts as an aborted invocation.
+ *
+ * @author Andres Almiray
+ */
+public class MetricsActionHandler extends AbstractActionHandler {
+    public static final String KEY_METRICS_INTERVAL = "basilisk.controller.action.metrics.interval";
+
+    private static final Logger LOG = LoggerFactory.getLogger(MetricsActionHandler.class);
+    private static final long DEFAULT_INTERVAL = 60L;
+
+    private final BasiliskApplication application;
+    private final ExecutorServiceManager executorServiceManager;
+    private final ConcurrentMap<String, ActionMetrics> metrics = new ConcurrentHashMap<>();
+    private final AtomicBoolean reporting = new AtomicBoolean(false);
+
+    @Inject
+    public MetricsActionHandler(@Nonnull BasiliskApplication application, @Nonnull ExecutorServiceManager executorServiceManager) {
+        this.application = requireNonNull(application, "Argument 'application' must not be null");
+        this.executorServiceManager = requireNonNull(executorServiceManager, "Argument 'executorServiceManager' must not be null");
+    }
+
+    @Override
+    public void configure(@Nonnull Action action, @Nonnull Method method) {
+        metricsFor(action.getFullyQualifiedName());
+        startReporting();
+    }
+
+    @Nonnull
+    @Override
+    public Object[] before(@Nonnull Action action, @Nonnull Object[] args) {
+        ActionState.Invocation invocation = AbstractActionManager.currentInvocation();
+        if (invocation != null) {
+            metricsFor(action.getFullyQualifiedName()).started(invocation.getStartedAt() - invocation.getTriggeredAt());
+        }
+        return args;
+    }
+
+    @Nullable
+    @Override
+    public Object after(@Nonnull ActionExecutionStatus status, @Nonnull Action action, @Nonnull Object[] args, @Nullable Object result) {
+        ActionState.Invocation invocation = AbstractActionManager.currentInvocation();
+        if (invocation != null) {
+            ActionMetrics actionMetrics = metricsFor(action.getFullyQualifiedName());
+            if (status == ActionExecutionStatus.ABORTED) {
+                actionMetrics.aborted();
+            } else {
+                long methodTime = System.nanoTime() - invocation.getStartedAt();
+                actionMetrics.ran(methodTime, invocation.isUIThread());
+                if (result instanceof CompletionStage) {
+                    track(actionMetrics, invocation.getStartedAt(), (CompletionStage<?>) result);
+                } else {
+                    actionMetrics.finished(methodTime);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void track(@Nonnull final ActionMetrics actionMetrics, final long startedAt, @Nonnull CompletionStage<?> stage) {
+        stage.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object value, Throwable throwable) {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                if (cause instanceof CancellationException) {
+                    actionMetrics.aborted();
+                    return;
+                }
+                if (cause != null) {
+                    actionMetrics.failed();
+                }
+                actionMetrics.finished(System.nanoTime() - startedAt);
+            }
+        });
+    }
+
+    @Override
+    public boolean exception(@Nonnull Exception exception, @Nonnull Action action, @Nonnull Object[] args) {
+        metricsFor(action.getFullyQualifiedName()).failed();
+        return false;
+    }
+
+    /**
+     * Returns the metrics of the given action.
+     *
+     * @param actionName the fully qualified name of the action
+     *
+     * @return a snapshot of the action's metrics or {@code null} if the action is unknown.
+     */
+    @Nullable
+    public ActionMetricsSnapshot getSnapshot(@Nonnull String actionName) {
+        requireNonBlank(actionName, "Argument 'actionName' must not be blank");
+        ActionMetrics actionMetrics = metrics.get(actionName);
+        return actionMetrics != null ? actionMetrics.snapshot(actionName) : null;
+    }
+
+    /**
+     * Returns the metrics of all actions, sorted by fully qualified name.
+     */
+    @Nonnull
+    public Map<String, ActionMetricsSnapshot> getSnapshots() {
+        Map<String, ActionMetricsSnapshot> snapshots = new LinkedHashMap<>();
+        for (Map.Entry<String, ActionMetrics> entry : new TreeMap<>(metrics).entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+        }
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Discards all metrics recorded so far.
+     */
+    public void reset() {
+        metrics.clear();
+    }
+
+    @Nonnull
+    private ActionMetrics metricsFor(@Nonnull String actionName) {
+        ActionMetrics actionMetrics = metrics.get(actionName);
+        if (actionMetrics == null) {
+            actionMetrics = new ActionMetrics();
+            ActionMetrics existing = metrics.putIfAbsent(actionName, actionMetrics);
+            if (existing != null) {
+                actionMetrics = existing;
+            }
+        }
+        return actionMetrics;
+    }
+
+    private void startReporting() {
+        long interval = application.getConfiguration().getAsLong(KEY_METRICS_INTERVAL, DEFAULT_INTERVAL);
+        if (interval <= 0 || !reporting.compareAndSet(false, true)) {
+            return;
+        }
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("basilisk-action-metrics-thread-", true));
+        executorServiceManager.add(scheduler);
+        scheduler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                logSummary();
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+
+    private void logSummary() {
+        if (!LOG.isInfoEnabled()) {
+            return;
+        }
+        for (ActionMetricsSnapshot snapshot : getSnapshots().values()) {
+            if (snapshot.getInvocations() > 0) {
+                LOG.info("{}", snapshot);
+            }
+        }
+    }
+
+    private static final class ActionMetrics {
+        private final AtomicLong invocations = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong aborts = new AtomicLong();
+        private final AtomicLong totalQueueDelay = new AtomicLong();
+        private final AtomicLong maxQueueDelay = new AtomicLong();
+        private final AtomicLong totalExecutionTime = new AtomicLong();
+        private final AtomicLong maxExecutionTime = new AtomicLong();
+        private final AtomicLong uiThreadTime = new AtomicLong();
+        private final AtomicLong backgroundTime = new AtomicLong();
+
+        private void started(long queueDelay) {
+            invocations.incrementAndGet();
+            totalQueueDelay.addAndGet(queueDelay);
+            updateMax(maxQueueDelay, queueDelay);
+        }
+
+        private void ran(long methodTime, boolean uiThread) {
+            (uiThread ? uiThreadTime : backgroundTime).addAndGet(methodTime);
+        }
+
+        private void finished(long executionTime) {
+            totalExecutionTime.addAndGet(executionTime);
+            updateMax(maxExecutionTime, executionTime);
+        }
+
+        private void aborted() {
+            aborts.incrementAndGet();
+        }
+
+        private void failed() {
+            failures.incrementAndGet();
+        }
+
+        @Nonnull
+        private ActionMetricsSnapshot snapshot(@Nonnull String actionName) {
+            return new ActionMetricsSnapshot(actionName, invocations.get(), failures.get(), aborts.get(),
+                totalQueueDelay.get(), maxQueueDelay.get(), totalExecutionTime.get(), maxExecutionTime.get(),
+                uiThreadTime.get(), backgroundTime.get());
+        }
+
+        private static void updateMax(@Nonnull AtomicLong max, long value) {
+            long current = max.get();
+            while (value > current && !max.compareAndSet(current, value)) {
+                current = max.get();
+            }
+        }
+    }
+}
@@ -50,6 +50,11 @@ public class NoopActionManager implements ActionManager {
 
     }
 
+    @Override
+    public void releaseActions(@Nonnull BasiliskController controller) {
+
+    }
+
     @Nonnull
     @Override
     public String normalizeName(@Nonnull String actionName) {
@@ -90,6 +95,21 @@ public class NoopActionManager implements ActionManager {
 
     }
 
+    @Override
+    public boolean isActionRunning(@Nonnull Action action) {
+        return false;
+    }
+
+    @Override
+    public boolean cancelAction(@Nonnull Action action) {
+        return false;
+    }
+
+    @Override
+    public void reportActionProgress(@Nonnull Action action, double progress) {
+
+    }
+
     @Override
     public void addActionHandler(@Nonnull ActionHandler actionHandler) {
 
@@ -39,6 +39,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static basilisk.util.BasiliskClassUtils.requireState;
 import static basilisk.util.BasiliskClassUtils.setPropertyOrFieldValue;
@@ -62,6 +63,7 @@ public abstract class AbstractMVCGroup extends AbstractMVCHandler implements MVC
     protected MVCGroup parentGroup;
     private boolean alive;
     private final List<Object> injectedInstances = new ArrayList<>();
+    private final List<Runnable> destroyListeners = new CopyOnWriteArrayList<>();
 
     public AbstractMVCGroup(@Nonnull MVCGroupManager mvcGroupManager, @Nonnull MVCGroupConfiguration configuration, @Nullable String mvcId, @Nonnull Map<String, Object> members, @Nullable MVCGroup parentGroup) {
         super(mvcGroupManager);
@@ -150,6 +152,10 @@ public abstract class AbstractMVCGroup extends AbstractMVCHandler implements MVC
     @Override
     public void destroy() {
         if (isAlive()) {
+            for (Runnable listener : destroyListeners) {
+                listener.run();
+            }
+            destroyListeners.clear();
             List<String> childrenIds = new ArrayList<>(children.keySet());
             Collections.reverse(childrenIds);
             for (String id : childrenIds) {
@@ -175,6 +181,18 @@ public abstract class AbstractMVCGroup extends AbstractMVCHandler implements MVC
         children.remove(mvcId);
     }
 
+    @Override
+    public void addDestroyListener(@Nonnull Runnable listener) {
+        requireNonNull(listener, "Argument 'listener' must not be null");
+        destroyListeners.add(listener);
+    }
+
+    @Override
+    public void removeDestroyListener(@Nonnull Runnable listener) {
+        requireNonNull(listener, "Argument 'listener' must not be null");
+        destroyListeners.remove(listener);
+    }
+
     @Override
     public boolean isAlive() {
         synchronized (lock) {
@@ -114,6 +114,7 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         checkIdIsUnique(mvcId, configuration);
 
         LOG.debug("Building MVC group '{}' with name '{}'", configuration.getMvcType(), mvcId);
+        getApplication().getAddonManager().activateAddonsForMVCGroup(configuration.getMvcType());
         Map<String, Object> argsCopy = copyAndConfigureArguments(args, configuration, mvcId);
 
         // figure out what the classes are
@@ -663,6 +664,10 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
                 artifact.mvcGroupDestroy();
             }
 
+            if (artifact instanceof BasiliskController) {
+                getApplication().getActionManager().releaseActions((BasiliskController) artifact);
+            }
+
             // clear all parent* references
             for (String parentMemberName : new String[]{"parentModel", "parentView", "parentController", "parentGroup"}) {
                 setPropertyOrFieldValueNoException(member, parentMemberName, null);
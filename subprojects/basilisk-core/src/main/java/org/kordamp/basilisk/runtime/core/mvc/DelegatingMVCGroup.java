@@ -130,6 +130,16 @@ public abstract class DelegatingMVCGroup implements MVCGroup {
         delegate.notifyMVCGroupDestroyed(mvcId);
     }
 
+    @Override
+    public void addDestroyListener(@Nonnull Runnable listener) {
+        delegate.addDestroyListener(listener);
+    }
+
+    @Override
+    public void removeDestroyListener(@Nonnull Runnable listener) {
+        delegate.removeDestroyListener(listener);
+    }
+
     @Override
     @Nonnull
     public MVCGroup createMVCGroup(@Nonnull String mvcType) {
@@ -17,18 +17,35 @@ package org.kordamp.basilisk.runtime.core.threading;
 
 import basilisk.core.ExceptionHandler;
 import basilisk.core.ExecutorServiceManager;
+import basilisk.core.mvc.MVCGroup;
+import basilisk.core.threading.ParallelResultHandler;
+import basilisk.core.threading.TaskPriority;
 import basilisk.core.threading.UIThreadManager;
 import basilisk.exceptions.BasiliskException;
+import basilisk.exceptions.UIThreadDeadlockException;
+import basilisk.exceptions.UIThreadTimeoutException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static java.util.Objects.requireNonNull;
 
@@ -38,6 +55,14 @@ import static java.util.Objects.requireNonNull;
 public abstract class AbstractUIThreadManager implements UIThreadManager {
     protected static final String ERROR_RUNNABLE_NULL = "Argument 'runnable' must not be null";
     protected static final String ERROR_CALLABLE_NULL = "Argument 'callable' must not be null";
+    private static final String ERROR_PRIORITY_NULL = "Argument 'priority' must not be null";
+    private static final String ERROR_UNIT_NULL = "Argument 'unit' must not be null";
+    private static final String ERROR_UI_TASK = "An error occurred while executing a task inside the UI thread";
+    private static final long DEADLOCK_CHECK_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final ConcurrentMap<Thread, Future<?>> waitingThreads = new ConcurrentHashMap<>();
+    private volatile boolean deadlockDetection;
+    private volatile Thread uiThread;
 
     private ExecutorServiceManager executorServiceManager;
 
@@ -108,6 +133,50 @@ public abstract class AbstractUIThreadManager implements UIThreadManager {
     @Override
     public void runOutsideUIAsync(@Nonnull final Runnable runnable) {
         requireNonNull(runnable, ERROR_RUNNABLE_NULL);
+        runOutsideUIAsync(executorService, runnable);
+    }
+
+    @Override
+    public void runOutsideUI(@Nonnull TaskPriority priority, @Nonnull Runnable runnable) {
+        requireNonNull(priority, ERROR_PRIORITY_NULL);
+        requireNonNull(runnable, ERROR_RUNNABLE_NULL);
+        if (!isUIThread()) {
+            runnable.run();
+        } else {
+            submit(priority, runnable);
+        }
+    }
+
+    @Override
+    public void runOutsideUIAsync(@Nonnull TaskPriority priority, @Nonnull Runnable runnable) {
+        requireNonNull(priority, ERROR_PRIORITY_NULL);
+        requireNonNull(runnable, ERROR_RUNNABLE_NULL);
+        submit(priority, runnable);
+    }
+
+    private void submit(@Nonnull TaskPriority priority, @Nonnull final Runnable runnable) {
+        Runnable task = new Runnable() {
+            public void run() {
+                try {
+                    runnable.run();
+                } catch (Throwable throwable) {
+                    exceptionHandler.uncaughtException(Thread.currentThread(), throwable);
+                }
+            }
+        };
+
+        if (executorService instanceof PriorityThreadPoolExecutor) {
+            ((PriorityThreadPoolExecutor) executorService).execute(priority, task);
+        } else {
+            // the default executor has been replaced by one that knows nothing about lanes
+            executorService.submit(task);
+        }
+    }
+
+    @Override
+    public void runOutsideUIAsync(@Nonnull ExecutorService executorService, @Nonnull final Runnable runnable) {
+        requireNonNull(executorService, "Argument 'executorService' must not be null");
+        requireNonNull(runnable, ERROR_RUNNABLE_NULL);
 
         executorService.submit(new Runnable() {
             public void run() {
@@ -129,7 +198,193 @@ public abstract class AbstractUIThreadManager implements UIThreadManager {
         try {
             return ft.get();
         } catch (InterruptedException | ExecutionException e) {
-            throw new BasiliskException("An error occurred while executing a task inside the UI thread", e);
+            throw new BasiliskException(ERROR_UI_TASK, e);
+        }
+    }
+
+    @Override
+    public void runInsideUISync(@Nonnull final Runnable runnable, long timeout, @Nonnull TimeUnit unit) {
+        requireNonNull(runnable, ERROR_RUNNABLE_NULL);
+        runInsideUISync(new Callable<Void>() {
+            @Override
+            public Void call() {
+                try {
+                    runnable.run();
+                } catch (Throwable throwable) {
+                    exceptionHandler.uncaughtException(Thread.currentThread(), throwable);
+                }
+                return null;
+            }
+        }, timeout, unit);
+    }
+
+    @Nullable
+    @Override
+    public <R> R runInsideUISync(@Nonnull final Callable<R> callable, long timeout, @Nonnull TimeUnit unit) {
+        requireNonNull(callable, ERROR_CALLABLE_NULL);
+        requireNonNull(unit, ERROR_UNIT_NULL);
+
+        try {
+            if (isUIThread()) {
+                recordUIThread();
+                return callable.call();
+            }
+
+            FutureTask<R> ft = new FutureTask<>(new Callable<R>() {
+                @Override
+                public R call() throws Exception {
+                    recordUIThread();
+                    return callable.call();
+                }
+            });
+            runInsideUIAsync(ft);
+            return waitForUITask(ft, timeout, unit);
+        } catch (BasiliskException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BasiliskException(ERROR_UI_TASK, e);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public <R> Future<List<R>> runOutsideUIParallel(@Nonnull List<? extends Callable<? extends R>> tasks, @Nonnull ParallelResultHandler<R> handler) {
+        return startParallelExecution(null, tasks, handler);
+    }
+
+    @Nonnull
+    @Override
+    public <R> Future<List<R>> runOutsideUIParallel(@Nonnull MVCGroup owner, @Nonnull List<? extends Callable<? extends R>> tasks, @Nonnull ParallelResultHandler<R> handler) {
+        requireNonNull(owner, "Argument 'owner' must not be null");
+        return startParallelExecution(owner, tasks, handler);
+    }
+
+    @Nonnull
+    private <R> Future<List<R>> startParallelExecution(@Nullable MVCGroup owner, @Nonnull List<? extends Callable<? extends R>> tasks, @Nonnull ParallelResultHandler<R> handler) {
+        requireNonNull(tasks, "Argument 'tasks' must not be null");
+        requireNonNull(handler, "Argument 'handler' must not be null");
+        List<Callable<? extends R>> copy = new ArrayList<>(tasks.size());
+        for (Callable<? extends R> task : tasks) {
+            copy.add(requireNonNull(task, "Argument 'tasks' must not contain null elements"));
+        }
+        return new ParallelExecution<>(copy, handler, this, owner).start(executorService);
+    }
+
+    public boolean isDeadlockDetection() {
+        return deadlockDetection;
+    }
+
+    /**
+     * Enables or disables deadlock detection. When enabled, threads waiting for a task inside the UI thread
+     * are recorded and periodically check whether the UI thread is blocked on a lock held (directly or
+     * transitively) by one of them, failing with an {@code UIThreadDeadlockException} instead of waiting forever.
+     */
+    public void setDeadlockDetection(boolean deadlockDetection) {
+        this.deadlockDetection = deadlockDetection;
+    }
+
+    /**
+     * Records the current thread as the UI thread. Subclasses should call this method from
+     * tasks that run inside the UI thread, deadlock detection is not possible until the UI thread is known.
+     */
+    protected final void recordUIThread() {
+        Thread current = Thread.currentThread();
+        if (uiThread != current) {
+            uiThread = current;
+        }
+    }
+
+    /**
+     * Whether the UI thread has been recorded already.
+     */
+    protected final boolean isUIThreadRecorded() {
+        return uiThread != null;
+    }
+
+    /**
+     * Waits for a task posted to the UI thread to complete.
+     *
+     * @param task    the task to wait for
+     * @param timeout the maximum time to wait. Ignored if {@code unit} is null
+     * @param unit    the time unit of the timeout argument. Waits indefinitely if null
+     *
+     * @return the result of the task
+     *
+     * @throws UIThreadTimeoutException  if the task did not complete in time. The task is cancelled if it did not start yet
+     * @throws UIThreadDeadlockException if deadlock detection is enabled and the UI thread is blocked by a waiting thread
+     */
+    @Nullable
+    protected <R> R waitForUITask(@Nonnull Future<R> task, long timeout, @Nullable TimeUnit unit) throws InterruptedException, ExecutionException {
+        requireNonNull(task, "Argument 'task' must not be null");
+        if (!deadlockDetection) {
+            if (unit == null) {
+                return task.get();
+            }
+            try {
+                return task.get(timeout, unit);
+            } catch (TimeoutException e) {
+                task.cancel(false);
+                throw new UIThreadTimeoutException(timeout, unit);
+            }
+        }
+
+        long deadline = unit != null ? System.nanoTime() + unit.toNanos(timeout) : 0L;
+        Thread caller = Thread.currentThread();
+        waitingThreads.put(caller, task);
+        try {
+            while (true) {
+                long wait = DEADLOCK_CHECK_INTERVAL;
+                if (unit != null) {
+                    wait = Math.min(wait, deadline - System.nanoTime());
+                }
+                try {
+                    return task.get(Math.max(0L, wait), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (unit != null && deadline - System.nanoTime() <= 0) {
+                        task.cancel(false);
+                        throw new UIThreadTimeoutException(timeout, unit);
+                    }
+                    checkForDeadlock(caller, task);
+                }
+            }
+        } finally {
+            waitingThreads.remove(caller);
+        }
+    }
+
+    private void checkForDeadlock(@Nonnull Thread caller, @Nonnull Future<?> task) {
+        Thread ui = uiThread;
+        if (ui == null) {
+            return;
+        }
+
+        // follow the chain of lock owners starting at the UI thread
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        StringBuilder chain = new StringBuilder("UI thread '").append(ui.getName()).append("'");
+        Set<Long> visited = new HashSet<>();
+        ThreadInfo info = threadMXBean.getThreadInfo(ui.getId());
+        while (info != null && info.getLockOwnerId() != -1 && visited.add(info.getThreadId())) {
+            chain.append(" is blocked on ").append(info.getLockName())
+                .append(" held by '").append(info.getLockOwnerName()).append("'");
+            Thread waiter = findWaitingThread(info.getLockOwnerId());
+            if (waiter != null) {
+                task.cancel(false);
+                throw new UIThreadDeadlockException(chain.append(" which is waiting for UI task ")
+                    .append(waitingThreads.get(waiter))
+                    .append(waiter == caller ? "" : " (while '" + caller.getName() + "' waits for " + task + ")")
+                    .toString());
+            }
+            info = threadMXBean.getThreadInfo(info.getLockOwnerId());
+        }
+    }
+
+    @Nullable
+    private Thread findWaitingThread(long threadId) {
+        for (Map.Entry<Thread, Future<?>> entry : waitingThreads.entrySet()) {
+            if (entry.getKey().getId() == threadId) {
+                return entry.getKey();
+            }
         }
+        return null;
     }
 }
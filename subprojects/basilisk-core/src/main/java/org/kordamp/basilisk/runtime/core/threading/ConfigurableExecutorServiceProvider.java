@@ -0,0 +1,53 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.threading;
+
+import basilisk.core.configuration.Configuration;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Chooses the default {@code ExecutorService} based on configuration. Background tasks run on virtual threads
+ * when {@code basilisk.threading.virtual} is set to {@code true}, otherwise a pool of platform threads is used.
+ * Only the latter honors {@code TaskPriority} lanes, virtual threads start every task right away.
+ *
+ * @author Andres Almiray
+ * @see VirtualThreadExecutorServiceProvider
+ * @see DefaultExecutorServiceProvider
+ */
+public class ConfigurableExecutorServiceProvider implements Provider<ExecutorService> {
+    public static final String KEY_VIRTUAL_THREADS = "basilisk.threading.virtual";
+
+    private final Configuration configuration;
+
+    @Inject
+    public ConfigurableExecutorServiceProvider(@Nonnull Configuration configuration) {
+        this.configuration = requireNonNull(configuration, "Argument 'configuration' must not be null");
+    }
+
+    @Override
+    public ExecutorService get() {
+        if (configuration.getAsBoolean(KEY_VIRTUAL_THREADS, false)) {
+            return new VirtualThreadExecutorServiceProvider().get();
+        }
+        return new DefaultExecutorServiceProvider().get();
+    }
+}
@@ -17,17 +17,19 @@ package org.kordamp.basilisk.runtime.core.threading;
 
 import javax.inject.Provider;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Provides a fixed size pool that honors {@code TaskPriority} lanes.
+ *
  * @author Andres Almiray
+ * @see PriorityThreadPoolExecutor
  */
 public class DefaultExecutorServiceProvider implements Provider<ExecutorService> {
     @Override
     public ExecutorService get() {
-        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new DefaultThreadFactory());
+        return new PriorityThreadPoolExecutor(Runtime.getRuntime().availableProcessors(), new DefaultThreadFactory());
     }
 
     private static class DefaultThreadFactory implements ThreadFactory {
@@ -46,7 +48,7 @@ public class DefaultExecutorServiceProvider implements Provider<ExecutorService>
         }
 
         public Thread newThread(Runnable r) {
-            Thread t = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
+            Thread t = new Thread(group, NamedThreadFactory.managed(r), namePrefix + threadNumber.getAndIncrement(), 0);
             if (t.isDaemon()) t.setDaemon(false);
             if (t.getPriority() != Thread.NORM_PRIORITY) t.setPriority(Thread.NORM_PRIORITY);
             return t;
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.threading;
+
+import basilisk.core.ExecutorPoolConfiguration;
+import basilisk.core.ExecutorPoolMetrics;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@code ThreadPoolExecutor} that keeps track of how long tasks wait in the queue and how long they take to run.
+ *
+ * @author Andres Almiray
+ */
+public class ManagedThreadPoolExecutor extends ThreadPoolExecutor {
+    private final String name;
+    private final AtomicLong completedTasks = new AtomicLong();
+    private final AtomicLong rejectedTasks = new AtomicLong();
+    private final AtomicLong totalQueueTime = new AtomicLong();
+    private final AtomicLong maxQueueTime = new AtomicLong();
+    private final AtomicLong totalExecutionTime = new AtomicLong();
+    private final AtomicLong maxExecutionTime = new AtomicLong();
+
+    public ManagedThreadPoolExecutor(@Nonnull String name, @Nonnull ExecutorPoolConfiguration configuration) {
+        super(requireNonNull(configuration, "Argument 'configuration' must not be null").getCoreSize(),
+            configuration.getMaxSize(),
+            configuration.getKeepAlive(),
+            TimeUnit.MILLISECONDS,
+            createQueue(configuration.getQueueCapacity()),
+            new NamedThreadFactory("basilisk-" + requireNonBlank(name, "Argument 'name' must not be blank") + "-thread-"));
+        this.name = name;
+        setRejectedExecutionHandler(new CountingRejectedExecutionHandler(createRejectedExecutionHandler(configuration.getRejectionPolicy())));
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+        requireNonNull(command, "Argument 'command' must not be null");
+        super.execute(command instanceof TimedTask ? command : new TimedTask(command));
+    }
+
+    @Nonnull
+    public ExecutorPoolMetrics getMetrics() {
+        return new ExecutorPoolMetrics(name, getPoolSize(), getActiveCount(), getQueue().size(),
+            completedTasks.get(), rejectedTasks.get(),
+            totalQueueTime.get(), maxQueueTime.get(),
+            totalExecutionTime.get(), maxExecutionTime.get());
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + super.toString();
+    }
+
+    @Nonnull
+    private static BlockingQueue<Runnable> createQueue(int capacity) {
+        if (capacity == ExecutorPoolConfiguration.UNBOUNDED) {
+            return new LinkedBlockingQueue<>();
+        } else if (capacity == 0) {
+            return new SynchronousQueue<>();
+        }
+        return new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Nonnull
+    private static RejectedExecutionHandler createRejectedExecutionHandler(@Nonnull ExecutorPoolConfiguration.RejectionPolicy policy) {
+        switch (policy) {
+            case CALLER_RUNS:
+                return new CallerRunsPolicy();
+            case DISCARD:
+                return new DiscardPolicy();
+            case DISCARD_OLDEST:
+                return new DiscardOldestPolicy();
+            case ABORT:
+            default:
+                return new AbortPolicy();
+        }
+    }
+
+    private static void updateMax(@Nonnull AtomicLong max, long value) {
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    private final class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+        private final RejectedExecutionHandler delegate;
+
+        private CountingRejectedExecutionHandler(@Nonnull RejectedExecutionHandler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            rejectedTasks.incrementAndGet();
+            delegate.rejectedExecution(r, executor);
+        }
+    }
+
+    private final class TimedTask implements Runnable {
+        private final Runnable delegate;
+        private final long submittedAt = System.nanoTime();
+
+        private TimedTask(@Nonnull Runnable delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            long queueTime = startedAt - submittedAt;
+            totalQueueTime.addAndGet(queueTime);
+            updateMax(maxQueueTime, queueTime);
+            try {
+                delegate.run();
+            } finally {
+                long executionTime = System.nanoTime() - startedAt;
+                totalExecutionTime.addAndGet(executionTime);
+                updateMax(maxExecutionTime, executionTime);
+                completedTasks.incrementAndGet();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.threading;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+
+/**
+ * Creates threads named after a common prefix followed by a sequence number. Threads created by
+ * Basilisk's executors are flagged, see {@link #isManagedThread()}.
+ *
+ * @author Andres Almiray
+ */
+public class NamedThreadFactory implements ThreadFactory {
+    private static final ThreadLocal<Boolean> MANAGED = new ThreadLocal<>();
+
+    private final ThreadGroup group;
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
+    private final String namePrefix;
+    private final boolean daemon;
+
+    public NamedThreadFactory(@Nonnull String namePrefix) {
+        this(namePrefix, false);
+    }
+
+    public NamedThreadFactory(@Nonnull String namePrefix, boolean daemon) {
+        this.namePrefix = requireNonBlank(namePrefix, "Argument 'namePrefix' must not be blank");
+        this.daemon = daemon;
+        group = Thread.currentThread().getThreadGroup();
+    }
+
+    /**
+     * Whether the current thread belongs to an executor created by Basilisk. Such threads must not
+     * wait for their own executor to terminate.
+     */
+    public static boolean isManagedThread() {
+        return MANAGED.get() != null;
+    }
+
+    @Nonnull
+    static Runnable managed(@Nonnull final Runnable runnable) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                MANAGED.set(Boolean.TRUE);
+                runnable.run();
+            }
+        };
+    }
+
+    public Thread newThread(Runnable r) {
+        Thread t = new Thread(group, managed(r), namePrefix + threadNumber.getAndIncrement(), 0);
+        if (t.isDaemon() != daemon) t.setDaemon(daemon);
+        if (t.getPriority() != Thread.NORM_PRIORITY) t.setPriority(Thread.NORM_PRIORITY);
+        return t;
+    }
+}
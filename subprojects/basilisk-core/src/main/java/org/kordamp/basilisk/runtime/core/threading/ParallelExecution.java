@@ -0,0 +1,228 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.threading;
+
+import basilisk.core.mvc.MVCGroup;
+import basilisk.core.threading.ParallelResultHandler;
+import basilisk.core.threading.UIThreadManager;
+import basilisk.exceptions.ParallelExecutionException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a group of tasks in parallel and hands all their results to a {@code ParallelResultHandler}
+ * with a single hop to the UI thread.
+ *
+ * @author Andres Almiray
+ */
+final class ParallelExecution<R> implements Future<List<R>> {
+    private final List<? extends Callable<? extends R>> tasks;
+    private final ParallelResultHandler<R> handler;
+    private final UIThreadManager uiThreadManager;
+    private final MVCGroup owner;
+    private final Object[] results;
+    private final Throwable[] failures;
+    private final List<Future<?>> futures = new ArrayList<>();
+    private final AtomicInteger remaining;
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+    private final CountDownLatch done = new CountDownLatch(1);
+    private final Runnable cancelOnDestroy = new Runnable() {
+        @Override
+        public void run() {
+            cancel(true);
+        }
+    };
+    private volatile boolean cancelled;
+
+    ParallelExecution(@Nonnull List<? extends Callable<? extends R>> tasks, @Nonnull ParallelResultHandler<R> handler,
+                      @Nonnull UIThreadManager uiThreadManager, @Nullable MVCGroup owner) {
+        this.tasks = tasks;
+        this.handler = handler;
+        this.uiThreadManager = uiThreadManager;
+        this.owner = owner;
+        this.results = new Object[tasks.size()];
+        this.failures = new Throwable[tasks.size()];
+        this.remaining = new AtomicInteger(tasks.size());
+    }
+
+    @Nonnull
+    ParallelExecution<R> start(@Nonnull ExecutorService executorService) {
+        if (owner != null) {
+            owner.addDestroyListener(cancelOnDestroy);
+            // destroy listeners are never called once the group is gone
+            if (!owner.isAlive()) {
+                cancel(true);
+                return this;
+            }
+        }
+        if (tasks.isEmpty()) {
+            complete();
+            return this;
+        }
+
+        synchronized (futures) {
+            for (int i = 0; i < tasks.size(); i++) {
+                if (cancelled) {
+                    break;
+                }
+                final int index = i;
+                try {
+                    futures.add(executorService.submit(new Runnable() {
+                        @Override
+                        public void run() {
+                            execute(index);
+                        }
+                    }));
+                } catch (RuntimeException e) {
+                    // e.g. the executor is shut down or rejected the task
+                    reject(index, e);
+                    break;
+                }
+            }
+        }
+        return this;
+    }
+
+    private void reject(int from, @Nonnull Throwable cause) {
+        for (int i = from; i < failures.length; i++) {
+            failures[i] = cause;
+        }
+        if (remaining.addAndGet(from - failures.length) == 0) {
+            complete();
+        }
+    }
+
+    private void execute(int index) {
+        try {
+            if (!cancelled) {
+                results[index] = tasks.get(index).call();
+            }
+        } catch (Throwable throwable) {
+            failures[index] = throwable;
+        } finally {
+            if (remaining.decrementAndGet() == 0) {
+                complete();
+            }
+        }
+    }
+
+    private void complete() {
+        if (!completed.compareAndSet(false, true)) {
+            return;
+        }
+        if (owner != null) {
+            owner.removeDestroyListener(cancelOnDestroy);
+        }
+        done.countDown();
+        if (cancelled) {
+            return;
+        }
+
+        final List<R> values = values();
+        final ParallelExecutionException failure = failure();
+        uiThreadManager.runInsideUIAsync(new Runnable() {
+            @Override
+            public void run() {
+                handler.handle(values, failure);
+            }
+        });
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private List<R> values() {
+        return Collections.unmodifiableList((List<R>) Arrays.asList(results.clone()));
+    }
+
+    @Nullable
+    private ParallelExecutionException failure() {
+        Map<Integer, Throwable> errors = new LinkedHashMap<>();
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null) {
+                errors.put(i, failures[i]);
+            }
+        }
+        return errors.isEmpty() ? null : new ParallelExecutionException(failures.length, errors);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (completed.get()) {
+            return false;
+        }
+        cancelled = true;
+        synchronized (futures) {
+            for (Future<?> future : futures) {
+                future.cancel(mayInterruptIfRunning);
+            }
+        }
+        complete();
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+        return done.getCount() == 0;
+    }
+
+    @Override
+    public List<R> get() throws InterruptedException, ExecutionException {
+        done.await();
+        return result();
+    }
+
+    @Override
+    public List<R> get(long timeout, @Nonnull TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!done.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return result();
+    }
+
+    @Nonnull
+    private List<R> result() throws ExecutionException {
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        ParallelExecutionException failure = failure();
+        if (failure != null) {
+            throw new ExecutionException(failure);
+        }
+        return values();
+    }
+}
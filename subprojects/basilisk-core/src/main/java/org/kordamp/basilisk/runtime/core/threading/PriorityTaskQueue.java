@@ -0,0 +1,357 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.threading;
+
+import basilisk.core.threading.TaskPriority;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Unbounded queue with one FIFO lane per {@code TaskPriority}. Tasks are taken in lane order, except when the
+ * oldest task of a lower lane has been waiting longer than the starvation threshold. At most {@code maxBulk}
+ * bulk tasks may run at the same time, keeping threads available for the other lanes.
+ *
+ * @author Andres Almiray
+ */
+final class PriorityTaskQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+    private static final TaskPriority[] LANES = TaskPriority.values();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final long starvationThreshold;
+    private final int maxBulk;
+    @GuardedBy("lock")
+    private final List<ArrayDeque<Entry>> lanes = new ArrayList<>();
+    @GuardedBy("lock")
+    private int size;
+    @GuardedBy("lock")
+    private int runningBulk;
+
+    PriorityTaskQueue(long starvationThreshold, @Nonnull TimeUnit unit, int maxBulk) {
+        this.starvationThreshold = unit.toNanos(starvationThreshold);
+        this.maxBulk = Math.max(1, maxBulk);
+        for (int i = 0; i < LANES.length; i++) {
+            lanes.add(new ArrayDeque<Entry>());
+        }
+    }
+
+    @Override
+    public boolean offer(@Nonnull Runnable runnable) {
+        requireNonNull(runnable, "Argument 'runnable' must not be null");
+        TaskPriority priority = runnable instanceof PrioritizedTask ? ((PrioritizedTask) runnable).getPriority() : TaskPriority.NORMAL;
+        lock.lock();
+        try {
+            lanes.get(priority.ordinal()).addLast(new Entry(runnable));
+            size++;
+            available.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(@Nonnull Runnable runnable) {
+        offer(runnable);
+    }
+
+    @Override
+    public boolean offer(@Nonnull Runnable runnable, long timeout, @Nonnull TimeUnit unit) {
+        return offer(runnable);
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            Runnable runnable;
+            while ((runnable = dequeue()) == null) {
+                available.await();
+            }
+            return runnable;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            Runnable runnable;
+            while ((runnable = dequeue()) == null) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = available.awaitNanos(nanos);
+            }
+            return runnable;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            for (ArrayDeque<Entry> lane : lanes) {
+                if (!lane.isEmpty()) {
+                    return lane.peekFirst().runnable;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        lock.lock();
+        try {
+            for (ArrayDeque<Entry> lane : lanes) {
+                for (Iterator<Entry> it = lane.iterator(); it.hasNext(); ) {
+                    if (it.next().runnable.equals(o)) {
+                        it.remove();
+                        size--;
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<Runnable> iterator() {
+        // weakly consistent snapshot, as required by ThreadPoolExecutor.purge()
+        return snapshot().iterator();
+    }
+
+    @Override
+    public int drainTo(@Nonnull Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@Nonnull Collection<? super Runnable> c, int maxElements) {
+        requireNonNull(c, "Argument 'c' must not be null");
+        lock.lock();
+        try {
+            int drained = 0;
+            for (ArrayDeque<Entry> lane : lanes) {
+                while (drained < maxElements && !lane.isEmpty()) {
+                    c.add(lane.pollFirst().runnable);
+                    size--;
+                    drained++;
+                }
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that a bulk task started running without going through this queue.
+     */
+    void bulkStarted() {
+        lock.lock();
+        try {
+            runningBulk++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void bulkCompleted() {
+        lock.lock();
+        try {
+            runningBulk--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Nonnull
+    private List<Runnable> snapshot() {
+        lock.lock();
+        try {
+            List<Runnable> runnables = new ArrayList<>(size);
+            for (ArrayDeque<Entry> lane : lanes) {
+                for (Entry entry : lane) {
+                    runnables.add(entry.runnable);
+                }
+            }
+            return runnables;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Nullable
+    @GuardedBy("lock")
+    private Runnable dequeue() {
+        if (size == 0) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        ArrayDeque<Entry> selected = null;
+
+        // the longest waiting task of a lower lane goes first once it has waited long enough
+        long longestWait = starvationThreshold;
+        for (int i = 1; i < LANES.length; i++) {
+            ArrayDeque<Entry> lane = lanes.get(i);
+            if (lane.isEmpty() || !canRun(LANES[i])) {
+                continue;
+            }
+            long wait = now - lane.peekFirst().enqueuedAt;
+            if (wait >= longestWait) {
+                longestWait = wait;
+                selected = lane;
+            }
+        }
+
+        if (selected == null) {
+            for (int i = 0; i < LANES.length; i++) {
+                if (!lanes.get(i).isEmpty() && canRun(LANES[i])) {
+                    selected = lanes.get(i);
+                    break;
+                }
+            }
+        }
+
+        if (selected == null) {
+            return null;
+        }
+
+        Runnable runnable = selected.pollFirst().runnable;
+        size--;
+        if (runnable instanceof PrioritizedTask && ((PrioritizedTask) runnable).getPriority() == TaskPriority.BULK) {
+            ((PrioritizedTask) runnable).markStarted();
+            runningBulk++;
+        }
+        return runnable;
+    }
+
+    @GuardedBy("lock")
+    private boolean canRun(@Nonnull TaskPriority priority) {
+        return priority != TaskPriority.BULK || runningBulk < maxBulk;
+    }
+
+    private static final class Entry {
+        private final Runnable runnable;
+        private final long enqueuedAt = System.nanoTime();
+
+        private Entry(@Nonnull Runnable runnable) {
+            this.runnable = runnable;
+        }
+    }
+
+    /**
+     * A task bound to a lane.
+     */
+    static final class PrioritizedTask implements Runnable {
+        private final TaskPriority priority;
+        private final Runnable delegate;
+        private final PriorityTaskQueue queue;
+        private volatile boolean started;
+
+        PrioritizedTask(@Nonnull TaskPriority priority, @Nonnull Runnable delegate, @Nonnull PriorityTaskQueue queue) {
+            this.priority = requireNonNull(priority, "Argument 'priority' must not be null");
+            this.delegate = requireNonNull(delegate, "Argument 'delegate' must not be null");
+            this.queue = queue;
+        }
+
+        @Nonnull
+        TaskPriority getPriority() {
+            return priority;
+        }
+
+        private void markStarted() {
+            started = true;
+        }
+
+        @Override
+        public void run() {
+            if (priority != TaskPriority.BULK) {
+                delegate.run();
+                return;
+            }
+
+            if (!started) {
+                // handed directly to a new thread by the executor
+                queue.bulkStarted();
+            }
+            try {
+                delegate.run();
+            } finally {
+                queue.bulkCompleted();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.threading;
+
+import basilisk.core.threading.TaskPriority;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A fixed size thread pool that orders pending tasks by {@code TaskPriority}. Tasks submitted without a priority
+ * use {@code TaskPriority.NORMAL}. A queued task that waited longer than the starvation threshold runs next
+ * regardless of its lane, and bulk tasks never take the last available thread. Pools have at least
+ * {@code MIN_POOL_SIZE} threads so that a thread is always left for the other lanes.
+ *
+ * @author Andres Almiray
+ */
+public class PriorityThreadPoolExecutor extends ThreadPoolExecutor {
+    public static final long DEFAULT_STARVATION_THRESHOLD = 2000L;
+    public static final int MIN_POOL_SIZE = 2;
+
+    private final PriorityTaskQueue queue;
+
+    public PriorityThreadPoolExecutor(int poolSize, @Nonnull ThreadFactory threadFactory) {
+        this(poolSize, DEFAULT_STARVATION_THRESHOLD, TimeUnit.MILLISECONDS, threadFactory);
+    }
+
+    public PriorityThreadPoolExecutor(int poolSize, long starvationThreshold, @Nonnull TimeUnit unit, @Nonnull ThreadFactory threadFactory) {
+        super(poolSizeOf(poolSize), poolSizeOf(poolSize), 0L, TimeUnit.MILLISECONDS,
+            new PriorityTaskQueue(starvationThreshold, unit, poolSizeOf(poolSize) - 1), threadFactory);
+        this.queue = (PriorityTaskQueue) getQueue();
+        // every task must go through the queue for lanes and bulk limits to apply
+        prestartAllCoreThreads();
+    }
+
+    /**
+     * Executes the given task in the given lane.
+     */
+    public void execute(@Nonnull TaskPriority priority, @Nonnull Runnable command) {
+        requireNonNull(command, "Argument 'command' must not be null");
+        execute(new PriorityTaskQueue.PrioritizedTask(priority, command, queue));
+    }
+
+    /**
+     * Submits the given task for execution in the given lane.
+     */
+    @Nonnull
+    public Future<?> submit(@Nonnull TaskPriority priority, @Nonnull Runnable task) {
+        requireNonNull(task, "Argument 'task' must not be null");
+        FutureTask<Object> future = new FutureTask<>(task, null);
+        execute(priority, future);
+        return future;
+    }
+
+    /**
+     * Submits the given task for execution in the given lane.
+     */
+    @Nonnull
+    public <T> Future<T> submit(@Nonnull TaskPriority priority, @Nonnull Callable<T> task) {
+        requireNonNull(task, "Argument 'task' must not be null");
+        FutureTask<T> future = new FutureTask<>(task);
+        execute(priority, future);
+        return future;
+    }
+
+    private static int poolSizeOf(int poolSize) {
+        // bulk tasks may take all threads but one
+        return Math.max(MIN_POOL_SIZE, poolSize);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.threading;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Provider;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Provides an {@code ExecutorService} that runs each task in a new virtual thread, suitable for background
+ * work that spends most of its time blocked on I/O. Falls back to the pool created by
+ * {@code DefaultExecutorServiceProvider} if the current runtime does not support virtual threads.
+ * <p>
+ * Framework code does not keep state in thread locals across tasks (the application's locale is global and
+ * contexts belong to their owners, not to threads) thus switching to virtual threads does not change its behavior.
+ * Application code that caches values in thread locals should be reviewed though, as virtual threads are never reused.
+ * <p>
+ * Every task starts right away in its own virtual thread, there is no queue to order thus {@code TaskPriority}
+ * lanes have no effect on this executor.
+ *
+ * @author Andres Almiray
+ */
+public class VirtualThreadExecutorServiceProvider implements Provider<ExecutorService> {
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadExecutorServiceProvider.class);
+
+    @Override
+    public ExecutorService get() {
+        if (VirtualThreads.isSupported()) {
+            LOG.info("Background tasks run on virtual threads. Task priorities are ignored");
+            return VirtualThreads.newVirtualThreadPerTaskExecutor("basilisk-virtual-thread-");
+        }
+        LOG.info("Virtual threads are not supported by this runtime. Using platform threads instead");
+        return new DefaultExecutorServiceProvider().get();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.threading;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+
+/**
+ * Creates executors that start a new virtual thread per task, on runtimes that support them.
+ * Virtual threads are looked up reflectively, as the framework is compiled against older runtimes.
+ *
+ * @author Andres Almiray
+ */
+public final class VirtualThreads {
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builderClass.getMethod("name", String.class, long.class);
+            factory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ClassNotFoundException | NoSuchMethodException | SecurityException e) {
+            // virtual threads are not available
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+        // prevent instantiation
+    }
+
+    /**
+     * Whether the current runtime provides virtual threads.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task. Falls back to a cached
+     * pool of platform threads if the current runtime does not support virtual threads.
+     *
+     * @param namePrefix prefix used to name the executor's threads
+     *
+     * @return a new {@code ExecutorService}
+     */
+    @Nonnull
+    public static ExecutorService newVirtualThreadPerTaskExecutor(@Nonnull String namePrefix) {
+        requireNonBlank(namePrefix, "Argument 'namePrefix' must not be blank");
+        if (isSupported()) {
+            try {
+                Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 1L);
+                final ThreadFactory threadFactory = (ThreadFactory) FACTORY.invoke(builder);
+                return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        return threadFactory.newThread(NamedThreadFactory.managed(r));
+                    }
+                });
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                LOG.warn("Could not create a virtual thread executor. Falling back to platform threads", e);
+            }
+        }
+        return Executors.newCachedThreadPool(new NamedThreadFactory(namePrefix));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.warmup;
+
+import basilisk.core.warmup.WarmupTask;
+
+import javax.annotation.Nonnull;
+
+import static basilisk.util.AnnotationUtils.nameFor;
+
+/**
+ * Base implementation of the {@code WarmupTask} interface. The name of the task is taken from its
+ * {@code @Named} annotation, or its simple class name if the annotation is missing.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public abstract class AbstractWarmupTask implements WarmupTask {
+    @Nonnull
+    @Override
+    public String getName() {
+        return nameFor(this, true);
+    }
+
+    /**
+     * Signals the current task to stop early if warmup has been cancelled.
+     *
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    protected void checkCancelled() throws InterruptedException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "[" + getName() + "]";
+    }
+}
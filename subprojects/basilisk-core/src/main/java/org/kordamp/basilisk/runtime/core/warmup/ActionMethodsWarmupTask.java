@@ -0,0 +1,53 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.warmup;
+
+import basilisk.core.BasiliskApplication;
+import basilisk.core.artifact.BasiliskClass;
+import basilisk.core.artifact.BasiliskControllerClass;
+
+import javax.annotation.Nonnull;
+import javax.inject.Named;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static basilisk.core.artifact.BasiliskControllerClass.TYPE;
+
+/**
+ * Resolves the reflective metadata (parameter types and annotations) of all controller action methods.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+@Named("actionMethods")
+public class ActionMethodsWarmupTask extends AbstractWarmupTask {
+    @Override
+    public void execute(@Nonnull BasiliskApplication application) throws Exception {
+        for (BasiliskClass basiliskClass : application.getArtifactManager().getClassesOfType(TYPE)) {
+            Set<String> actionNames = new HashSet<>(Arrays.asList(((BasiliskControllerClass) basiliskClass).getActionNames()));
+            for (Method method : basiliskClass.getClazz().getMethods()) {
+                checkCancelled();
+                if (actionNames.contains(method.getName())) {
+                    method.getGenericParameterTypes();
+                    method.getParameterAnnotations();
+                    method.getAnnotations();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.warmup;
+
+import basilisk.core.BasiliskApplication;
+import basilisk.core.ExecutorServiceManager;
+import basilisk.core.threading.UIThreadManager;
+import basilisk.core.warmup.WarmupManager;
+import basilisk.core.warmup.WarmupTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static basilisk.core.BasiliskExceptionHandler.sanitize;
+import static basilisk.util.AnnotationUtils.sortByDependencies;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs all {@code WarmupTask}s bound in the {@code Injector} on a single, low priority daemon thread.
+ * <p>
+ * Before each task the manager posts a probe to the UI thread and waits for it to run. If the probe takes
+ * longer than {@code basilisk.warmup.yield.threshold} milliseconds (default {@code 16}) the UI thread is
+ * considered busy and the manager backs off before trying again. Warmup can be disabled by setting
+ * {@code basilisk.warmup.enabled} to {@code false}.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class DefaultWarmupManager implements WarmupManager {
+    public static final String KEY_WARMUP_ENABLED = "basilisk.warmup.enabled";
+    public static final String KEY_WARMUP_YIELD_THRESHOLD = "basilisk.warmup.yield.threshold";
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultWarmupManager.class);
+    private static final long DEFAULT_YIELD_THRESHOLD = 16L;
+    private static final long YIELD_TIMEOUT = 1000L;
+    private static final int MAX_YIELD_ATTEMPTS = 10;
+
+    private final BasiliskApplication application;
+    private final ExecutorServiceManager executorServiceManager;
+    private final Map<String, Long> durations = Collections.synchronizedMap(new LinkedHashMap<String, Long>());
+    private final Object lock = new Object[0];
+    @GuardedBy("lock")
+    private ExecutorService executorService;
+    @GuardedBy("lock")
+    private Future<?> future;
+    private volatile boolean cancelled;
+
+    @Inject
+    public DefaultWarmupManager(@Nonnull BasiliskApplication application, @Nonnull ExecutorServiceManager executorServiceManager) {
+        this.application = requireNonNull(application, "Argument 'application' must not be null");
+        this.executorServiceManager = requireNonNull(executorServiceManager, "Argument 'executorServiceManager' must not be null");
+    }
+
+    @Override
+    public void start() {
+        if (!application.getConfiguration().getAsBoolean(KEY_WARMUP_ENABLED, true)) {
+            LOG.debug("Warmup is disabled");
+            return;
+        }
+
+        synchronized (lock) {
+            if (executorService != null || cancelled) {
+                return;
+            }
+
+            final List<WarmupTask> tasks = resolveTasks();
+            if (tasks.isEmpty()) {
+                return;
+            }
+
+            executorService = executorServiceManager.add(Executors.newSingleThreadExecutor(new WarmupThreadFactory()));
+            future = executorService.submit(new Runnable() {
+                @Override
+                public void run() {
+                    runTasks(tasks);
+                }
+            });
+            executorService.shutdown();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        synchronized (lock) {
+            if (future != null) {
+                future.cancel(true);
+            }
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        synchronized (lock) {
+            return future != null && !future.isDone();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Map<String, Long> getDurations() {
+        synchronized (durations) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(durations));
+        }
+    }
+
+    @Nonnull
+    protected List<WarmupTask> resolveTasks() {
+        Collection<WarmupTask> instances = application.getInjector().getInstances(WarmupTask.class);
+        return new ArrayList<>(sortByDependencies(instances, "", "warmup task").values());
+    }
+
+    protected void runTasks(@Nonnull List<WarmupTask> tasks) {
+        long start = System.currentTimeMillis();
+        LOG.debug("Running {} warmup tasks", tasks.size());
+
+        for (WarmupTask task : tasks) {
+            if (cancelled || Thread.currentThread().isInterrupted()) {
+                LOG.debug("Warmup was cancelled");
+                return;
+            }
+
+            try {
+                yieldToUIThread();
+                long taskStart = System.currentTimeMillis();
+                task.execute(application);
+                long duration = System.currentTimeMillis() - taskStart;
+                durations.put(task.getName(), duration);
+                LOG.debug("Warmup task '{}' completed in {}ms", task.getName(), duration);
+            } catch (InterruptedException e) {
+                LOG.debug("Warmup was cancelled while running '{}'", task.getName());
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                LOG.warn("Warmup task '" + task.getName() + "' failed", sanitize(e));
+            }
+        }
+
+        LOG.debug("Warmup completed in {}ms", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Blocks until the UI thread is able to service requests within the configured threshold.
+     *
+     * @throws InterruptedException if the current thread was interrupted while waiting.
+     */
+    protected void yieldToUIThread() throws InterruptedException {
+        UIThreadManager uiThreadManager = application.getUIThreadManager();
+        if (uiThreadManager.isUIThread()) {
+            return;
+        }
+
+        long threshold = application.getConfiguration().getAsLong(KEY_WARMUP_YIELD_THRESHOLD, DEFAULT_YIELD_THRESHOLD);
+        for (int attempt = 0; attempt < MAX_YIELD_ATTEMPTS; attempt++) {
+            final CountDownLatch latch = new CountDownLatch(1);
+            long start = System.currentTimeMillis();
+            uiThreadManager.runInsideUIAsync(new Runnable() {
+                @Override
+                public void run() {
+                    latch.countDown();
+                }
+            });
+
+            if (!latch.await(YIELD_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+
+            long elapsed = System.currentTimeMillis() - start;
+            if (elapsed <= threshold) {
+                return;
+            }
+            Thread.sleep(elapsed);
+        }
+    }
+
+    private static class WarmupThreadFactory implements ThreadFactory {
+        private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "basilisk-warmup-thread-" + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        }
+    }
+}
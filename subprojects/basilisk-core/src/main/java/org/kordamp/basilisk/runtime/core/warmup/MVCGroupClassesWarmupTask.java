@@ -0,0 +1,50 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.warmup;
+
+import basilisk.core.BasiliskApplication;
+import basilisk.core.mvc.MVCGroupConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.inject.Named;
+
+/**
+ * Loads and initializes the member classes of all declared MVC groups.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+@Named("mvcGroupClasses")
+public class MVCGroupClassesWarmupTask extends AbstractWarmupTask {
+    private static final Logger LOG = LoggerFactory.getLogger(MVCGroupClassesWarmupTask.class);
+
+    @Override
+    public void execute(@Nonnull BasiliskApplication application) throws Exception {
+        ClassLoader classLoader = application.getApplicationClassLoader().get();
+        for (MVCGroupConfiguration configuration : application.getMvcGroupManager().getConfigurations().values()) {
+            for (String className : configuration.getMembers().values()) {
+                checkCancelled();
+                try {
+                    Class.forName(className, true, classLoader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    LOG.debug("Could not load class {} of MVC group {}", className, configuration.getMvcType());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.warmup;
+
+import basilisk.core.BasiliskApplication;
+import basilisk.core.i18n.MessageSource;
+
+import javax.annotation.Nonnull;
+import javax.inject.Named;
+import java.util.Enumeration;
+import java.util.ResourceBundle;
+
+/**
+ * Loads the application's message bundles for the current locale.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+@Named("messageSource")
+public class MessageSourceWarmupTask extends AbstractWarmupTask {
+    @Override
+    public void execute(@Nonnull BasiliskApplication application) throws Exception {
+        MessageSource messageSource = application.getMessageSource();
+        // resolving any key loads the bundles for the given locale
+        messageSource.getMessage(getClass().getName(), application.getLocale(), (String) null);
+
+        ResourceBundle bundle = messageSource.asResourceBundle();
+        Enumeration<String> keys = bundle.getKeys();
+        while (keys.hasMoreElements()) {
+            checkCancelled();
+            keys.nextElement();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.warmup;
+
+import basilisk.core.BasiliskApplication;
+import basilisk.core.event.EventHandler;
+import basilisk.core.warmup.WarmupManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Shuts down the application once it has reached the {@code READY} phase and all warmup tasks have
+ * completed, when the {@code basilisk.training.run} System property is set to {@code true}.
+ * <p>
+ * Training runs are used by build tools to record the classes loaded during startup, for example to
+ * generate a class list and a class data sharing archive. The maximum time to wait for warmup tasks may be
+ * set with the {@code basilisk.training.run.timeout} System property, in milliseconds (default {@code 30000}).
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+@Named("trainingRun")
+public class TrainingRunEventHandler implements EventHandler {
+    public static final String KEY_TRAINING_RUN = "basilisk.training.run";
+    public static final String KEY_TRAINING_RUN_TIMEOUT = "basilisk.training.run.timeout";
+
+    private static final Logger LOG = LoggerFactory.getLogger(TrainingRunEventHandler.class);
+    private static final long DEFAULT_TIMEOUT = 30000L;
+
+    private final WarmupManager warmupManager;
+
+    @Inject
+    public TrainingRunEventHandler(@Nonnull WarmupManager warmupManager) {
+        this.warmupManager = requireNonNull(warmupManager, "Argument 'warmupManager' must not be null");
+    }
+
+    public void onReadyEnd(@Nonnull final BasiliskApplication application) {
+        if (!Boolean.getBoolean(KEY_TRAINING_RUN)) {
+            return;
+        }
+
+        LOG.info("Training run is enabled. Application will shutdown once warmup completes");
+        warmupManager.start();
+        application.getUIThreadManager().runOutsideUIAsync(new Runnable() {
+            @Override
+            public void run() {
+                awaitWarmup();
+                application.getUIThreadManager().runInsideUIAsync(new Runnable() {
+                    @Override
+                    public void run() {
+                        application.shutdown();
+                    }
+                });
+            }
+        });
+    }
+
+    protected void awaitWarmup() {
+        long timeout = Long.getLong(KEY_TRAINING_RUN_TIMEOUT, DEFAULT_TIMEOUT);
+        long deadline = System.currentTimeMillis() + timeout;
+        try {
+            while (warmupManager.isRunning() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (warmupManager.isRunning()) {
+            LOG.warn("Warmup did not complete within {}ms", timeout);
+        }
+    }
+}
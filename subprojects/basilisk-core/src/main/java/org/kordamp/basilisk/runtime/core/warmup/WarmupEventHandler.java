@@ -0,0 +1,50 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.warmup;
+
+import basilisk.core.BasiliskApplication;
+import basilisk.core.event.EventHandler;
+import basilisk.core.warmup.WarmupManager;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Starts warmup once the application is ready and cancels it when the application shuts down.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+@Named("warmup")
+public class WarmupEventHandler implements EventHandler {
+    private final WarmupManager warmupManager;
+
+    @Inject
+    public WarmupEventHandler(@Nonnull WarmupManager warmupManager) {
+        this.warmupManager = requireNonNull(warmupManager, "Argument 'warmupManager' must not be null");
+    }
+
+    public void onReadyEnd(@Nonnull BasiliskApplication application) {
+        warmupManager.start();
+    }
+
+    public void onShutdownStart(@Nonnull BasiliskApplication application) {
+        warmupManager.cancel();
+    }
+}
@@ -49,6 +49,27 @@ public abstract class AbstractCompositeResourceBundleBuilder implements Composit
 
         initialize();
 
+        List<ResourceBundle> bundles = new ArrayList<>();
+        for (String bundleName : resolveBundleNames(basename, locale)) {
+            bundles.addAll(loadBundlesFor(bundleName));
+        }
+        if (bundles.size() == 0) {
+            throw new IllegalArgumentException("There are no ResourceBundle resources matching " + basename.replace('.', '/'));
+        }
+
+        return new CompositeResourceBundle(bundles);
+    }
+
+    /**
+     * Calculates the names of all bundles that may contribute to the composite bundle, in order of precedence.
+     *
+     * @param basename the base name of the bundle
+     * @param locale   the target locale
+     *
+     * @return an ordered list of bundle names.
+     */
+    @Nonnull
+    protected List<String> resolveBundleNames(@Nonnull String basename, @Nonnull Locale locale) {
         String[] combinations = {
             locale.getLanguage() + "_" + locale.getCountry() + "_" + locale.getVariant(),
             locale.getLanguage() + "_" + locale.getCountry(),
@@ -56,17 +77,13 @@ public abstract class AbstractCompositeResourceBundleBuilder implements Composit
         };
 
         basename = basename.replace('.', '/');
-        List<ResourceBundle> bundles = new ArrayList<>();
+        List<String> names = new ArrayList<>();
         for (String suffix : combinations) {
             if (suffix.endsWith("_")) { continue; }
-            bundles.addAll(loadBundlesFor(basename + "_" + suffix));
+            names.add(basename + "_" + suffix);
         }
-        bundles.addAll(loadBundlesFor(basename));
-        if (bundles.size() == 0) {
-            throw new IllegalArgumentException("There are no ResourceBundle resources matching " + basename);
-        }
-
-        return new CompositeResourceBundle(bundles);
+        names.add(basename);
+        return names;
     }
 
     protected abstract void initialize();
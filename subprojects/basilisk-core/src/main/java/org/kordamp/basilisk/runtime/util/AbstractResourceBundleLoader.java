@@ -23,8 +23,10 @@ import javax.annotation.Nullable;
 import javax.inject.Inject;
 import java.net.URL;
 import java.util.List;
+import java.util.Map;
 
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -61,4 +63,27 @@ public abstract class AbstractResourceBundleLoader implements ResourceBundleLoad
         requireNonBlank(suffix, ERROR_SUFFIX_BLANK);
         return resourceHandler.getResources(fileName + suffix);
     }
+
+    /**
+     * Resolves the resources that contribute to the bundles returned by {@code load(name)}.
+     * Snapshots of bundles loaded by this loader can only be cached if this method returns a non-null value.
+     *
+     * @param name the name of the bundle
+     *
+     * @return the contributing resources or {@code null} if they can not be determined.
+     */
+    @Nullable
+    protected List<URL> resolveResources(@Nonnull String name) {
+        return null;
+    }
+
+    /**
+     * Returns the conditional block values (environment, platform, etc) applied when reading bundles.
+     *
+     * @return a {@code Map} with conditional block values. Never returns {@code null}.
+     */
+    @Nonnull
+    protected Map<String, String> getConditionalBlockValues() {
+        return emptyMap();
+    }
 }
@@ -22,12 +22,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
@@ -77,6 +80,21 @@ public class ClassResourceBundleLoader extends AbstractResourceBundleLoader {
         return bundles;
     }
 
+    @Nullable
+    @Override
+    protected List<URL> resolveResources(@Nonnull String name) {
+        // the bytecode of the bundle class stands in for its contents. Values computed at runtime
+        // or taken from other classes are not tracked
+        URL resource = getResourceAsURL(name, CLASS_SUFFIX);
+        return resource != null ? Collections.singletonList(resource) : Collections.<URL>emptyList();
+    }
+
+    @Nonnull
+    @Override
+    protected Map<String, String> getConditionalBlockValues() {
+        return resourceBundleReader.getConditionalBlockValues();
+    }
+
     @Nonnull
     protected Class<?> loadClass(String className) throws ClassNotFoundException {
         return getResourceHandler().classloader().loadClass(className);
@@ -15,34 +15,133 @@
  */
 package org.kordamp.basilisk.runtime.util;
 
+import basilisk.core.env.BasiliskEnvironment;
 import basilisk.core.injection.Injector;
 import basilisk.util.ResourceBundleLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Provider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static basilisk.util.AnnotationUtils.sortByDependencies;
+import static basilisk.util.BasiliskNameUtils.isBlank;
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Builds {@code CompositeResourceBundle}s out of all {@code ResourceBundleLoader}s bound in the injector.
+ * <p>
+ * Merged bundles may be cached on disk by setting the {@code basilisk.resourcebundle.cache.dir} System property
+ * to a writable directory. Cached snapshots are discarded whenever the contents of any contributing resource,
+ * the active conditional blocks (environment, platform, etc) or the Basilisk version change. Bundles loaded by
+ * custom loaders that do not extend {@code AbstractResourceBundleLoader}, or that can not report their resources,
+ * are never cached. Bundles backed by a {@code ResourceBundle} class, such as {@code Config}, are tracked by the
+ * contents of their {@code .class} file; values they compute at runtime or read from other classes are not.
+ *
  * @author Andres Almiray
  */
 public class DefaultCompositeResourceBundleBuilder extends AbstractCompositeResourceBundleBuilder {
+    public static final String KEY_CACHE_DIR = "basilisk.resourcebundle.cache.dir";
     protected static final String ERROR_INJECTOR_NULL = "Argument 'injector' must not be null";
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultCompositeResourceBundleBuilder.class);
+
     private final Provider<Injector> injector;
     private final Map<String, ResourceBundleLoader> loaders = new ConcurrentHashMap<>();
+    private final ResourceBundleSnapshotCache snapshotCache;
 
     @Inject
     public DefaultCompositeResourceBundleBuilder(@Nonnull Provider<Injector> injector) {
         this.injector = requireNonNull(injector, ERROR_INJECTOR_NULL);
+        this.snapshotCache = resolveSnapshotCache();
+    }
+
+    @Override
+    @Nonnull
+    public ResourceBundle create(@Nonnull String basename, @Nonnull Locale locale) {
+        if (snapshotCache == null) {
+            return super.create(basename, locale);
+        }
+
+        requireNonBlank(basename, ERROR_BASENAME_BLANK);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        initialize();
+
+        String name = basename + "_" + locale;
+        String fingerprint = fingerprint(basename, locale);
+        if (fingerprint != null) {
+            ResourceBundle snapshot = snapshotCache.read(name, fingerprint);
+            if (snapshot != null) {
+                LOG.debug("Resolved {} from snapshot", name);
+                return snapshot;
+            }
+        }
+
+        ResourceBundle bundle = super.create(basename, locale);
+        if (fingerprint != null) {
+            snapshotCache.write(name, fingerprint, bundle);
+        }
+        return bundle;
+    }
+
+    @Nullable
+    protected ResourceBundleSnapshotCache resolveSnapshotCache() {
+        String directory = System.getProperty(KEY_CACHE_DIR);
+        return isBlank(directory) ? null : new ResourceBundleSnapshotCache(new File(directory));
+    }
+
+    /**
+     * Calculates a fingerprint for the composite bundle identified by the given basename and locale.
+     *
+     * @param basename the base name of the bundle
+     * @param locale   the target locale
+     *
+     * @return a fingerprint or {@code null} if the bundle can not be cached.
+     */
+    @Nullable
+    protected String fingerprint(@Nonnull String basename, @Nonnull Locale locale) {
+        List<String> discriminators = new ArrayList<>();
+        List<URL> resources = new ArrayList<>();
+        discriminators.add(BasiliskEnvironment.getBasiliskVersion());
+        discriminators.add(basename);
+        discriminators.add(locale.toString());
+
+        for (String bundleName : resolveBundleNames(basename, locale)) {
+            for (Map.Entry<String, ResourceBundleLoader> e : loaders.entrySet()) {
+                if (!(e.getValue() instanceof AbstractResourceBundleLoader)) {
+                    return null;
+                }
+                AbstractResourceBundleLoader loader = (AbstractResourceBundleLoader) e.getValue();
+                List<URL> urls = loader.resolveResources(bundleName);
+                if (urls == null) {
+                    return null;
+                }
+                discriminators.add(e.getKey() + ":" + bundleName + ":" + urls.size());
+                discriminators.add(new TreeMap<>(loader.getConditionalBlockValues()).toString());
+                resources.addAll(urls);
+            }
+        }
+
+        try {
+            return ResourceBundleSnapshotCache.fingerprint(discriminators, resources);
+        } catch (IOException e) {
+            LOG.debug("Could not calculate fingerprint for {}_{}", basename, locale, e);
+            return null;
+        }
     }
 
     protected void initialize() {
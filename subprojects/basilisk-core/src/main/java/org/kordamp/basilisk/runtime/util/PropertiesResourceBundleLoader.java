@@ -20,13 +20,16 @@ import basilisk.util.PropertiesReader;
 import basilisk.util.PropertiesResourceBundle;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
 
@@ -69,4 +72,17 @@ public class PropertiesResourceBundleLoader extends AbstractResourceBundleLoader
         }
         return bundles;
     }
+
+    @Nullable
+    @Override
+    protected List<URL> resolveResources(@Nonnull String name) {
+        List<URL> resources = getResources(name, PROPERTIES_SUFFIX);
+        return resources != null ? resources : Collections.<URL>emptyList();
+    }
+
+    @Nonnull
+    @Override
+    protected Map<String, String> getConditionalBlockValues() {
+        return propertiesReader.getConditionalBlockValues();
+    }
 }
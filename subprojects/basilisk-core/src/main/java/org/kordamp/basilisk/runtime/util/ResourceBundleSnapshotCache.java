@@ -0,0 +1,411 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import static basilisk.util.BasiliskNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Stores flattened snapshots of merged {@code ResourceBundle}s on disk.
+ * <p>
+ * Every snapshot is stored alongside a fingerprint that identifies the resources it was created from.
+ * A snapshot is only returned when its fingerprint matches the expected one. Bundles with values other
+ * than {@code String}, {@code Number}, {@code Boolean}, {@code Character}, or {@code List}s and {@code Map}s
+ * of those types cannot be stored.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class ResourceBundleSnapshotCache {
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceBundleSnapshotCache.class);
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int MAGIC = 0xBA51115C;
+    private static final int FORMAT_VERSION = 1;
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_BOOLEAN = 2;
+    private static final byte TYPE_BYTE = 3;
+    private static final byte TYPE_SHORT = 4;
+    private static final byte TYPE_INTEGER = 5;
+    private static final byte TYPE_LONG = 6;
+    private static final byte TYPE_FLOAT = 7;
+    private static final byte TYPE_DOUBLE = 8;
+    private static final byte TYPE_BIG_INTEGER = 9;
+    private static final byte TYPE_BIG_DECIMAL = 10;
+    private static final byte TYPE_CHARACTER = 11;
+    private static final byte TYPE_LIST = 12;
+    private static final byte TYPE_MAP = 13;
+
+    private final File directory;
+
+    public ResourceBundleSnapshotCache(@Nonnull File directory) {
+        this.directory = requireNonNull(directory, "Argument 'directory' must not be null");
+    }
+
+    @Nonnull
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Reads a previously stored snapshot.
+     *
+     * @param name        the name of the snapshot
+     * @param fingerprint the expected fingerprint
+     *
+     * @return the stored bundle or {@code null} if there is no snapshot, it is stale, or it could not be read.
+     */
+    @Nullable
+    public ResourceBundle read(@Nonnull String name, @Nonnull String fingerprint) {
+        requireNonBlank(name, "Argument 'name' must not be blank");
+        requireNonBlank(fingerprint, "Argument 'fingerprint' must not be blank");
+
+        File file = snapshotFile(name);
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !fingerprint.equals(readString(in))) {
+                LOG.debug("Snapshot {} is stale", file);
+                return null;
+            }
+
+            int size = in.readInt();
+            Map<String, Object> entries = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                entries.put(readString(in), readValue(in));
+            }
+            LOG.debug("Read {} entries from snapshot {}", size, file);
+            return new SnapshotResourceBundle(entries);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Could not read resource bundle snapshot " + file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores a snapshot of the given bundle. Failures are logged and otherwise ignored.
+     *
+     * @param name        the name of the snapshot
+     * @param fingerprint the fingerprint of the resources the bundle was created from
+     * @param bundle      the bundle to be stored
+     *
+     * @return {@code true} if the snapshot was stored, {@code false} otherwise.
+     */
+    public boolean write(@Nonnull String name, @Nonnull String fingerprint, @Nonnull ResourceBundle bundle) {
+        requireNonBlank(name, "Argument 'name' must not be blank");
+        requireNonBlank(fingerprint, "Argument 'fingerprint' must not be blank");
+        requireNonNull(bundle, "Argument 'bundle' must not be null");
+
+        Map<String, Object> entries = new LinkedHashMap<>();
+        Enumeration<String> keys = bundle.getKeys();
+        while (keys.hasMoreElements()) {
+            String key = keys.nextElement();
+            Object value;
+            try {
+                value = bundle.getObject(key);
+            } catch (MissingResourceException e) {
+                value = null;
+            }
+            if (!isSupported(value)) {
+                LOG.debug("Skipping snapshot of {}. Key '{}' has an unsupported value of type {}", name, key, value.getClass().getName());
+                return false;
+            }
+            entries.put(key, value);
+        }
+
+        File file = snapshotFile(name);
+        File tmp = null;
+        try {
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                LOG.warn("Could not create resource bundle snapshot directory {}", directory);
+                return false;
+            }
+
+            tmp = File.createTempFile(file.getName(), ".tmp", directory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, fingerprint);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Object> entry : entries.entrySet()) {
+                    writeString(out, entry.getKey());
+                    writeValue(out, entry.getValue());
+                }
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            LOG.debug("Wrote {} entries to snapshot {}", entries.size(), file);
+            return true;
+        } catch (IOException e) {
+            LOG.warn("Could not write resource bundle snapshot " + file, e);
+            if (tmp != null && tmp.exists() && !tmp.delete()) {
+                tmp.deleteOnExit();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Calculates a fingerprint out of a set of discriminator values and the contents of the given resources.
+     *
+     * @param discriminators values that affect how resources are read
+     * @param resources      the resources to be read
+     *
+     * @return a fingerprint
+     *
+     * @throws IOException if any resource could not be read
+     */
+    @Nonnull
+    public static String fingerprint(@Nonnull Collection<String> discriminators, @Nonnull Collection<URL> resources) throws IOException {
+        MessageDigest digest = newMessageDigest();
+        for (String discriminator : discriminators) {
+            digest.update(String.valueOf(discriminator).getBytes(UTF_8));
+            digest.update((byte) 0);
+        }
+
+        byte[] buffer = new byte[8192];
+        for (URL resource : resources) {
+            digest.update(resource.toExternalForm().getBytes(UTF_8));
+            digest.update((byte) 0);
+            try (InputStream in = resource.openStream()) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            digest.update((byte) 0);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b & 0xff));
+        }
+        return sb.toString();
+    }
+
+    @Nonnull
+    protected File snapshotFile(@Nonnull String name) {
+        return new File(directory, name.replaceAll("[^A-Za-z0-9_.-]", "_") + SNAPSHOT_SUFFIX);
+    }
+
+    @Nonnull
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isSupported(@Nullable Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Character ||
+            value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long ||
+            value instanceof Float || value instanceof Double || value instanceof BigInteger || value instanceof BigDecimal) {
+            return true;
+        } else if (value instanceof List) {
+            for (Object element : (List<?>) value) {
+                if (!isSupported(element)) { return false; }
+            }
+            return true;
+        } else if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!(entry.getKey() instanceof String) || !isSupported(entry.getValue())) { return false; }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static void writeString(@Nonnull DataOutputStream out, @Nonnull String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Nonnull
+    private static String readString(@Nonnull DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static void writeValue(@Nonnull DataOutputStream out, @Nullable Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(TYPE_BIG_INTEGER);
+            writeString(out, value.toString());
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(TYPE_BIG_DECIMAL);
+            writeString(out, value.toString());
+        } else if (value instanceof Character) {
+            out.writeByte(TYPE_CHARACTER);
+            out.writeChar((Character) value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(TYPE_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(TYPE_MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, (String) entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported value type " + value.getClass().getName());
+        }
+    }
+
+    @Nullable
+    private static Object readValue(@Nonnull DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return readString(in);
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_BYTE:
+                return in.readByte();
+            case TYPE_SHORT:
+                return in.readShort();
+            case TYPE_INTEGER:
+                return in.readInt();
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_FLOAT:
+                return in.readFloat();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_BIG_INTEGER:
+                return new BigInteger(readString(in));
+            case TYPE_BIG_DECIMAL:
+                return new BigDecimal(readString(in));
+            case TYPE_CHARACTER:
+                return in.readChar();
+            case TYPE_LIST:
+                int listSize = in.readInt();
+                List<Object> list = new ArrayList<>(listSize);
+                for (int i = 0; i < listSize; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            case TYPE_MAP:
+                int mapSize = in.readInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < mapSize; i++) {
+                    map.put(readString(in), readValue(in));
+                }
+                return map;
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    /**
+     * A {@code ResourceBundle} that exposes the exact keys and values captured by a snapshot.
+     */
+    protected static class SnapshotResourceBundle extends ResourceBundle {
+        private final Map<String, Object> entries;
+
+        protected SnapshotResourceBundle(@Nonnull Map<String, Object> entries) {
+            this.entries = requireNonNull(entries, "Argument 'entries' must not be null");
+        }
+
+        @Nullable
+        @Override
+        protected Object handleGetObject(@Nonnull String key) {
+            return entries.get(requireNonBlank(key, "Argument 'key' must not be blank"));
+        }
+
+        @Nonnull
+        @Override
+        public Enumeration<String> getKeys() {
+            return Collections.enumeration(entries.keySet());
+        }
+
+        @Override
+        protected Set<String> handleKeySet() {
+            return entries.keySet();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.xml.parsers.DocumentBuilder;
@@ -33,6 +34,7 @@ import javax.xml.parsers.ParserConfigurationException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -91,6 +93,19 @@ public class XmlResourceBundleLoader extends AbstractResourceBundleLoader {
         return bundles;
     }
 
+    @Nullable
+    @Override
+    protected List<URL> resolveResources(@Nonnull String name) {
+        List<URL> resources = getResources(name, XML_SUFFIX);
+        return resources != null ? resources : Collections.<URL>emptyList();
+    }
+
+    @Nonnull
+    @Override
+    protected Map<String, String> getConditionalBlockValues() {
+        return resourceBundleReader.getConditionalBlockValues();
+    }
+
     @Nonnull
     private ResourceBundle toResourceBundle(@Nonnull Document document) {
         document.getDocumentElement().normalize();
@@ -248,6 +248,201 @@ class ContextSpec extends Specification {
         !ctx1.hasKey('bar')
     }
 
+    def "Inherited values follow changes made anywhere in the parent chain"() {
+        given:
+        Context root = new DefaultContext()
+        Context middle = new DefaultContext(root)
+        Context leaf = new DefaultContext(new DefaultContext(middle))
+        root['key'] = 'root'
+
+        expect:
+        leaf['key'] == 'root'
+        !leaf.containsKey('missing')
+
+        when:
+        middle['key'] = 'middle'
+        root['missing'] = 'found'
+
+        then:
+        leaf['key'] == 'middle'
+        leaf['missing'] == 'found'
+
+        when:
+        middle.remove('key')
+        root.remove('missing')
+
+        then:
+        leaf['key'] == 'root'
+        !leaf.containsKey('missing')
+
+        when:
+        root.destroy()
+
+        then:
+        !leaf.containsKey('key')
+    }
+
+    def "Inherited values are only cached when every parent reports its changes"() {
+        given:
+        Context silent = new SilentContext()
+        Context middle = new DefaultContext(silent)
+        Context leaf = new DefaultContext(middle)
+
+        when:
+        silent.put('key', 'first')
+
+        then:
+        leaf.get('key') == 'first'
+
+        when:
+        silent.put('key', 'second')
+
+        then:
+        middle.get('key') == 'second'
+        leaf.get('key') == 'second'
+    }
+
+    def "Typed keys share storage with their names"() {
+        given:
+        ContextKey<String> name = ContextKey.of('spec.typed.name', String)
+        ContextKey<Integer> count = ContextKey.of('spec.typed.count', Integer)
+        Context parent = new DefaultContext()
+        Context child = new DefaultContext(parent)
+        parent['spec.typed.count'] = 1
+
+        expect:
+        ContextKey.of('spec.typed.name', Object).index == name.index
+        count.index != name.index
+        child.get(count) == 1
+        child.containsKey(count)
+        !child.hasKey(count)
+        !child.containsKey(name)
+
+        when:
+        child.put(name, 'basilisk')
+        child.put(count, 2)
+
+        then:
+        child['spec.typed.name'] == 'basilisk'
+        child.get(count) == 2
+        parent.get(count) == 1
+        child.keySet().containsAll(['spec.typed.name', 'spec.typed.count'])
+
+        when:
+        child['spec.typed.name'] = 42
+        child.get(name)
+
+        then:
+        thrown(ClassCastException)
+
+        when:
+        Integer removed = child.remove(count)
+
+        then:
+        removed == 2
+        child.get(count) == 1
+        !child.hasKey('spec.typed.count')
+    }
+
+    def "Inherited values of typed keys follow changes made in the parent chain"() {
+        given:
+        ContextKey<String> key = ContextKey.of('spec.inherited.key', String)
+        Context root = new DefaultContext()
+        Context leaf = new DefaultContext(new DefaultContext(root))
+        root.put(key, 'root')
+
+        expect:
+        leaf.get(key) == 'root'
+        leaf.containsKey(key)
+
+        when:
+        root['spec.inherited.key'] = 'updated'
+
+        then:
+        leaf.get(key) == 'updated'
+
+        when:
+        root.remove(key)
+
+        then:
+        leaf.get(key) == null
+        !leaf.containsKey(key)
+
+        when:
+        root.put(key, 'again')
+        root.destroy()
+
+        then:
+        !leaf.containsKey(key)
+    }
+
+    def "Values stored before their key is declared can be read with the key"() {
+        given:
+        ContextKey<String> early = ContextKey.of('spec.early.key', String)
+        Context context = new DefaultContext()
+        context['spec.late.key'] = 'early'
+
+        when:
+        ContextKey<String> late = ContextKey.of('spec.late.key', String)
+
+        then:
+        context.get(late) == 'early'
+        context.hasKey(late)
+        context.get(early) == null
+        !context.hasKey(early)
+
+        when:
+        context.put(late, 'typed')
+
+        then:
+        context.get(late) == 'typed'
+        context['spec.late.key'] == 'typed'
+    }
+
+    def "Keys declared past the index limit are stored by name"() {
+        given:
+        List<ContextKey<String>> keys = (0..ContextKey.MAX_INDEXED_KEYS).collect { ContextKey.of('spec.limit.key' + it, String) }
+        ContextKey<String> last = keys[-1]
+        Context context = new DefaultContext()
+
+        when:
+        keys.each { context.put(it, it.name) }
+
+        then:
+        last.index == ContextKey.NO_INDEX
+        ContextKey.indexOf(last.name) == ContextKey.NO_INDEX
+        last == ContextKey.of(last.name, String)
+        keys.every { context.get(it) == it.name && context[it.name] == it.name }
+        context.keySet().containsAll(keys*.name)
+
+        when:
+        context.remove(last)
+
+        then:
+        !context.containsKey(last)
+    }
+
+    def "Null values shadow parent values"() {
+        given:
+        Context parent = new DefaultContext()
+        Context child = new DefaultContext(parent)
+        parent['key'] = 'parent'
+
+        when:
+        child['key'] = null
+
+        then:
+        child.hasKey('key')
+        child.containsKey('key')
+        child['key'] == null
+
+        when:
+        child.remove('key')
+
+        then:
+        child['key'] == 'parent'
+    }
+
     def "Inject contextual members"() {
         given:
         Bean bean = new Bean()
@@ -260,6 +455,18 @@ class ContextSpec extends Specification {
         bean.@bar == 'bar'
     }
 
+    static class SilentContext extends DefaultContext {
+        @Override
+        protected boolean supportsCaching() {
+            false
+        }
+
+        @Override
+        protected void keyChanged(String key) {
+            // changes are not reported to child contexts
+        }
+    }
+
     static class Bean {
         @Contextual @Named('foo')
         private String foo
@@ -227,6 +227,117 @@ class ObservableContextSpec extends Specification {
         listener3.contextEvent == null
     }
 
+    void "Batched changes are coalesced into a single notification"() {
+        given:
+        ObservableContext parent = new DefaultObservableContext()
+        ObservableContext child = new DefaultObservableContext(parent)
+        parent.put('shared', 'initial')
+        child.put('local', 'initial')
+        TestBatchContextEventListener batchListener = new TestBatchContextEventListener()
+        TestContextEventListener listener = new TestContextEventListener()
+        child.addContextEventListener(batchListener)
+        child.addContextEventListener(listener)
+
+        when:
+        child.batch {
+            child.put('key', 'one')
+            child.put('key', 'two')
+            child.put('local', 'updated')
+            child.put('local', 'initial')
+            child.put('transient', 'value')
+            child.remove('transient')
+            parent.put('shared', 'updated')
+            assert !batchListener.batches
+        }
+
+        then:
+        batchListener.batches.size() == 1
+        batchListener.batches[0] == [
+            new ObservableContext.ContextEvent(ObservableContext.ContextEvent.Type.ADD, 'key', null, 'two'),
+            new ObservableContext.ContextEvent(ObservableContext.ContextEvent.Type.UPDATE, 'shared', 'initial', 'updated')
+        ]
+        listener.contextEvent == new ObservableContext.ContextEvent(ObservableContext.ContextEvent.Type.UPDATE, 'shared', 'initial', 'updated')
+
+        when:
+        parent.batch {
+            parent.put('shared', 'batched')
+            parent.put('other', 'value')
+        }
+
+        then:
+        batchListener.batches.size() == 2
+        batchListener.batches[1] == [
+            new ObservableContext.ContextEvent(ObservableContext.ContextEvent.Type.UPDATE, 'shared', 'updated', 'batched'),
+            new ObservableContext.ContextEvent(ObservableContext.ContextEvent.Type.ADD, 'other', null, 'value')
+        ]
+    }
+
+    void "Changes made by other threads are not held back by a batch"() {
+        given:
+        ObservableContext context = new DefaultObservableContext()
+        TestBatchContextEventListener batchListener = new TestBatchContextEventListener()
+        context.addContextEventListener(batchListener)
+
+        when:
+        context.batch {
+            context.put('batched', 'value')
+            Thread thread = new Thread({ context.put('other', 'value') } as Runnable)
+            thread.start()
+            thread.join()
+            assert batchListener.batches == [
+                [new ObservableContext.ContextEvent(ObservableContext.ContextEvent.Type.ADD, 'other', null, 'value')]
+            ]
+        }
+
+        then:
+        batchListener.batches.size() == 2
+        batchListener.batches[1] == [
+            new ObservableContext.ContextEvent(ObservableContext.ContextEvent.Type.ADD, 'batched', null, 'value')
+        ]
+    }
+
+    void "Parent events are only observed while a child has listeners"() {
+        given:
+        ObservableContext parent = new DefaultObservableContext()
+        ObservableContext child = new DefaultObservableContext(parent)
+        ObservableContext grandChild = new DefaultObservableContext(child)
+
+        expect:
+        parent.contextEventListeners.size() == 0
+        child.contextEventListeners.size() == 0
+
+        when:
+        TestContextEventListener listener = new TestContextEventListener()
+        grandChild.addContextEventListener(listener)
+        parent.put('key', 'value')
+
+        then:
+        parent.contextEventListeners.size() == 1
+        child.contextEventListeners.size() == 1
+        listener.contextEvent == new ObservableContext.ContextEvent(ObservableContext.ContextEvent.Type.ADD, 'key', null, 'value')
+
+        when:
+        grandChild.removeContextEventListener(listener)
+
+        then:
+        parent.contextEventListeners.size() == 0
+        child.contextEventListeners.size() == 0
+    }
+
+    private static class TestBatchContextEventListener implements ObservableContext.BatchContextEventListener {
+        List<List<ObservableContext.ContextEvent>> batches = []
+
+        @Override
+        void contextChanged(@Nonnull ObservableContext.ContextEvent contextEvent) {
+            batches << [contextEvent]
+        }
+
+        @Override
+        void contextBatchChanged(@Nonnull List<ObservableContext.ContextEvent> contextEvents) {
+            batches << new ArrayList<>(contextEvents)
+        }
+    }
+
     private static class TestContextEventListener implements ObservableContext.ContextEventListener {
         ObservableContext.ContextEvent contextEvent
 
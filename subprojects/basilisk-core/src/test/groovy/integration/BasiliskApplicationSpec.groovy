@@ -18,6 +18,7 @@ package integration
 import basilisk.core.ApplicationBootstrapper
 import basilisk.core.ApplicationEvent
 import basilisk.core.BasiliskApplication
+import basilisk.core.ExecutorServiceManager
 import basilisk.core.LifecycleHandler
 import basilisk.core.ShutdownHandler
 import basilisk.core.addon.BasiliskAddon
@@ -29,6 +30,7 @@ import basilisk.core.artifact.BasiliskModelClass
 import basilisk.core.artifact.BasiliskServiceClass
 import basilisk.core.artifact.BasiliskView
 import basilisk.core.artifact.BasiliskViewClass
+import basilisk.core.controller.Action
 import basilisk.core.controller.ActionHandler
 import basilisk.core.controller.ActionManager
 import basilisk.core.env.ApplicationPhase
@@ -43,6 +45,7 @@ import spock.lang.Stepwise
 
 import javax.annotation.Nonnull
 import javax.annotation.Nullable
+import java.util.concurrent.TimeUnit
 
 import static basilisk.util.AnnotationUtils.named
 import static basilisk.util.AnnotationUtils.typed
@@ -104,7 +107,7 @@ class BasiliskApplicationSpec extends Specification {
 
         expect:
         controllerClass.eventNames == []
-        controllerClass.actionNames == ['abort', 'contextualFailure', 'contextualSuccess', 'handleException', 'sayHello', 'throwException']
+        controllerClass.actionNames == ['abort', 'compute', 'contextualFailure', 'contextualSuccess', 'fetch', 'handleException', 'sayHello', 'throwException']
     }
 
     def 'Check artifact model'() {
@@ -232,6 +235,58 @@ class BasiliskApplicationSpec extends Specification {
         !handler.update
     }
 
+    def 'Invoke sayHello Action with an event argument'() {
+        given:
+        InvokeActionHandler handler = application.injector.getInstance(ActionHandler)
+        MVCGroup group = application.mvcGroupManager.findGroup('integration')
+        invokables << group.view
+
+        when:
+        group.controller.invokeAction('sayHello', new EventObject(this))
+
+        then:
+        handler.before
+        handler.after
+        !handler.exception
+    }
+
+    def 'Asynchronous action stays running until cancelled'() {
+        given:
+        MVCGroup group = application.mvcGroupManager.findGroup('integration')
+        Action action = group.controller.actionFor('fetch')
+
+        when:
+        group.controller.invokeAction('fetch')
+
+        then:
+        action.running
+
+        when:
+        boolean cancelled = action.cancel()
+
+        then:
+        cancelled
+        group.controller.fetchResult.cancelled
+        !action.running
+        !action.cancel()
+    }
+
+    def 'Cancelling an asynchronous action does not interrupt its work'() {
+        given:
+        MVCGroup group = application.mvcGroupManager.findGroup('integration')
+        Action action = group.controller.actionFor('compute')
+
+        when:
+        group.controller.invokeAction('compute')
+        boolean cancelled = action.cancel()
+        group.controller.computeGate.countDown()
+
+        then:
+        cancelled
+        !action.running
+        group.controller.computeOutcome.get(5, TimeUnit.SECONDS) == 'cancelled'
+    }
+
     def 'Invoke handleException Action'() {
         given:
         InvokeActionHandler handler = application.injector.getInstance(ActionHandler)
@@ -280,13 +335,38 @@ class BasiliskApplicationSpec extends Specification {
         BasiliskController controller = application.mvcGroupManager.findGroup('integration').controller
 
         expect:
-        application.actionManager.actionsFor(controller).keySet() == (['abort', 'contextualFailure', 'contextualSuccess', 'handleException', 'sayHello', 'throwException'] as Set)
+        application.actionManager.actionsFor(controller).keySet() == (['abort', 'compute', 'contextualFailure', 'contextualSuccess', 'fetch', 'handleException', 'sayHello', 'throwException'] as Set)
         application.actionManager.normalizeName('fooAction') == 'foo'
         application.actionManager.normalizeName('foo') == 'foo'
         application.actionManager.actionFor(controller, 'sayHello')
         !application.actionManager.actionFor(controller, 'unknown')
     }
 
+    def 'Actions are released when their group is destroyed'() {
+        given:
+        MVCGroup group = application.mvcGroupManager.createMVCGroup('integration', 'integration-released')
+        BasiliskController controller = group.controller
+
+        expect:
+        application.actionManager.actionFor(controller, 'sayHello')
+
+        when:
+        group.destroy()
+
+        then:
+        !application.actionManager.actionsFor(controller)
+        !application.actionManager.actionFor(controller, 'sayHello')
+    }
+
+    def 'Verify named executors'() {
+        given:
+        ExecutorServiceManager executorServiceManager = application.injector.getInstance(ExecutorServiceManager)
+
+        expect:
+        executorServiceManager.executorServiceNames.contains('io')
+        executorServiceManager.getExecutorService('io')
+    }
+
     def 'Verify AddonManager'() {
         expect:
         application.addonManager.addons.size() == 2
@@ -41,6 +41,11 @@ public class Config extends AbstractMapResourceBundle {
                         .e("color", "#0000FF"))
                 )
             )
+            .e("basilisk", CollectionUtils.map()
+                .e("executor", CollectionUtils.map()
+                    .e("io", CollectionUtils.map()
+                        .e("type", "fixed")
+                        .e("size", 2))))
             .e("keys", CollectionUtils.map()
                 .e("key1", "value1"));
     }
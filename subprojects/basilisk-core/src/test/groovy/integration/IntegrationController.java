@@ -22,10 +22,16 @@ import org.kordamp.basilisk.runtime.core.artifact.AbstractBasiliskController;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 
 public class IntegrationController extends AbstractBasiliskController {
     private IntegrationModel model;
     private String key;
+    private final CompletableFuture<String> fetchResult = new CompletableFuture<>();
+    private final CompletableFuture<String> computeResult = new CompletableFuture<>();
+    private final CompletableFuture<String> computeOutcome = new CompletableFuture<>();
+    private final CountDownLatch computeGate = new CountDownLatch(1);
 
     @Inject
     private IntegrationService sampleService;
@@ -65,6 +71,38 @@ public class IntegrationController extends AbstractBasiliskController {
         // empty
     }
 
+    public CompletableFuture<String> fetch() {
+        return fetchResult;
+    }
+
+    public CompletableFuture<String> getFetchResult() {
+        return fetchResult;
+    }
+
+    public CompletableFuture<String> compute() {
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    computeGate.await();
+                    computeOutcome.complete(computeResult.isCancelled() ? "cancelled" : "completed");
+                    computeResult.complete("done");
+                } catch (InterruptedException e) {
+                    computeOutcome.complete("interrupted");
+                }
+            }
+        }).start();
+        return computeResult;
+    }
+
+    public CompletableFuture<String> getComputeOutcome() {
+        return computeOutcome;
+    }
+
+    public CountDownLatch getComputeGate() {
+        return computeGate;
+    }
+
     public String getKey() {
         return key;
     }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package integration;
+
+import basilisk.core.threading.UIThreadManager;
+import org.kordamp.basilisk.runtime.core.threading.DefaultUIThreadManager;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.CountDownLatch;
+
+public class UIThreadShutdownApplication extends TestBasiliskApplication {
+    private final CountDownLatch shutdownLatch = new CountDownLatch(1);
+    private volatile Thread uiThread;
+    private volatile Thread afterShutdownThread;
+    private UIThreadManager uiThreadManager;
+
+    public UIThreadShutdownApplication() {
+        super(EMPTY_ARGS);
+    }
+
+    public void setUIThread(Thread uiThread) {
+        this.uiThread = uiThread;
+    }
+
+    public CountDownLatch getShutdownLatch() {
+        return shutdownLatch;
+    }
+
+    public Thread getAfterShutdownThread() {
+        return afterShutdownThread;
+    }
+
+    @Nonnull
+    @Override
+    public synchronized UIThreadManager getUIThreadManager() {
+        if (uiThreadManager == null) {
+            uiThreadManager = new DefaultUIThreadManager() {
+                @Override
+                public boolean isUIThread() {
+                    return Thread.currentThread() == uiThread;
+                }
+            };
+            getInjector().injectMembers(uiThreadManager);
+        }
+        return uiThreadManager;
+    }
+
+    @Override
+    protected void afterShutdown() {
+        afterShutdownThread = Thread.currentThread();
+        shutdownLatch.countDown();
+    }
+}
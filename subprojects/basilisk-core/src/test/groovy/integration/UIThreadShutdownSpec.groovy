@@ -0,0 +1,105 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package integration
+
+import basilisk.core.ApplicationBootstrapper
+import basilisk.core.ExecutorServiceManager
+import basilisk.core.env.ApplicationPhase
+import org.kordamp.basilisk.runtime.core.DefaultApplicationBootstrapper
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+class UIThreadShutdownSpec extends Specification {
+    def 'Shutdown started inside the UI thread releases resources before afterShutdown'() {
+        given:
+        UIThreadShutdownApplication application = new UIThreadShutdownApplication()
+        ApplicationBootstrapper bootstrapper = new DefaultApplicationBootstrapper(application)
+        bootstrapper.bootstrap()
+        bootstrapper.run()
+
+        ExecutorService pool = Executors.newSingleThreadExecutor()
+        application.injector.getInstance(ExecutorServiceManager).add(pool)
+        CountDownLatch started = new CountDownLatch(1)
+        AtomicBoolean finished = new AtomicBoolean(false)
+        pool.submit {
+            started.countDown()
+            Thread.sleep(200)
+            finished.set(true)
+        }
+        started.await()
+        application.setUIThread(Thread.currentThread())
+
+        when:
+        boolean result = application.shutdown()
+
+        then:
+        result
+        ApplicationPhase.SHUTDOWN == application.phase
+        application.shutdownLatch.await(10, TimeUnit.SECONDS)
+        application.afterShutdownThread.name == 'basilisk-shutdown-thread'
+        finished.get()
+        pool.terminated
+    }
+
+    def 'Shutdown started inside a pool thread does not wait for its own executor'() {
+        given:
+        UIThreadShutdownApplication application = new UIThreadShutdownApplication()
+        ApplicationBootstrapper bootstrapper = new DefaultApplicationBootstrapper(application)
+        bootstrapper.bootstrap()
+        bootstrapper.run()
+        CountDownLatch returned = new CountDownLatch(1)
+        AtomicBoolean result = new AtomicBoolean(false)
+        AtomicBoolean interrupted = new AtomicBoolean(false)
+        long start = System.nanoTime()
+
+        when:
+        application.UIThreadManager.runOutsideUIAsync {
+            result.set(application.shutdown())
+            interrupted.set(Thread.currentThread().interrupted)
+            returned.countDown()
+        }
+
+        then:
+        returned.await(10, TimeUnit.SECONDS)
+        application.shutdownLatch.await(10, TimeUnit.SECONDS)
+        result.get()
+        !interrupted.get()
+        application.afterShutdownThread.name == 'basilisk-shutdown-thread'
+        // well below the default shutdown timeout
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < ExecutorServiceManager.DEFAULT_SHUTDOWN_TIMEOUT
+    }
+
+    def 'Shutdown started outside the UI thread runs afterShutdown in place'() {
+        given:
+        UIThreadShutdownApplication application = new UIThreadShutdownApplication()
+        ApplicationBootstrapper bootstrapper = new DefaultApplicationBootstrapper(application)
+        bootstrapper.bootstrap()
+        bootstrapper.run()
+
+        when:
+        boolean result = application.shutdown()
+
+        then:
+        result
+        application.shutdownLatch.count == 0
+        application.afterShutdownThread.is(Thread.currentThread())
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.kordamp.basilisk.runtime.core
 
+import basilisk.core.ExecutorPoolConfiguration
+import basilisk.core.ExecutorPoolMetrics
 import basilisk.core.ExecutorServiceManager
 import com.google.guiceberry.GuiceBerryModule
 import com.google.guiceberry.junit4.GuiceBerryRule
@@ -24,8 +26,12 @@ import org.junit.Rule
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.ExecutorService
 import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
 
 @Unroll
 class ExecutorServiceManagerSpec extends Specification {
@@ -59,6 +65,122 @@ class ExecutorServiceManagerSpec extends Specification {
         s3.shutdown
     }
 
+    def 'Register and find named executors'() {
+        given:
+        ExecutorService io = Executors.newFixedThreadPool(1)
+
+        when:
+        executorServiceManager.register('io', io)
+
+        then:
+        executorServiceManager.getExecutorService('io').is(io)
+        executorServiceManager.executorServices.contains(io)
+        executorServiceManager.executorServiceNames == (['io'] as Set)
+        !executorServiceManager.getExecutorService('cpu')
+
+        cleanup:
+        executorServiceManager.shutdownAll()
+    }
+
+    def 'Virtual executor is always available'() {
+        when:
+        ExecutorService virtual = executorServiceManager.getExecutorService(ExecutorServiceManager.VIRTUAL)
+
+        then:
+        virtual
+        virtual.submit(new Callable<String>() {
+            @Override
+            String call() throws Exception {
+                'done'
+            }
+        }).get() == 'done'
+        executorServiceManager.getExecutorService(ExecutorServiceManager.VIRTUAL).is(virtual)
+
+        cleanup:
+        executorServiceManager.shutdownAll()
+    }
+
+    def 'Managed pools report their state'() {
+        given:
+        CountDownLatch release = new CountDownLatch(1)
+        ExecutorService pool = executorServiceManager.createPool('bounded',
+            new ExecutorPoolConfiguration(1, 1, 1, 0L, ExecutorPoolConfiguration.RejectionPolicy.ABORT))
+
+        when:
+        pool.submit { release.await() }
+        pool.submit { 'queued' }
+        pool.submit { 'rejected' }
+
+        then:
+        thrown(RejectedExecutionException)
+        executorServiceManager.getExecutorService('bounded').is(pool)
+
+        when:
+        ExecutorPoolMetrics busy = executorServiceManager.getPoolMetrics('bounded')
+        release.countDown()
+        ExecutorPoolMetrics idle = executorServiceManager.getPoolMetrics('bounded')
+        long deadline = System.currentTimeMillis() + 5000
+        while (idle.completedTaskCount < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10)
+            idle = executorServiceManager.getPoolMetrics('bounded')
+        }
+
+        then:
+        busy.queuedCount == 1
+        busy.rejectedTaskCount == 1
+        idle.completedTaskCount == 2
+        idle.queuedCount == 0
+        !executorServiceManager.getPoolMetrics('unknown')
+
+        cleanup:
+        executorServiceManager.shutdownAll()
+    }
+
+    def 'Orderly shutdown interrupts tasks that do not complete in time'() {
+        given:
+        CountDownLatch started = new CountDownLatch(1)
+        boolean interrupted = false
+        ExecutorService slow = executorServiceManager.createPool('slow', ExecutorPoolConfiguration.fixed(1))
+        ExecutorService quick = executorServiceManager.createPool('quick', ExecutorPoolConfiguration.fixed(1))
+        slow.submit {
+            started.countDown()
+            try {
+                Thread.sleep(10000)
+            } catch (InterruptedException e) {
+                interrupted = true
+            }
+        }
+        quick.submit { 'done' }
+        started.await()
+
+        when:
+        Collection<ExecutorService> stragglers = executorServiceManager.shutdownAll(100, TimeUnit.MILLISECONDS)
+
+        then:
+        stragglers.empty
+        interrupted
+        slow.terminated
+        quick.terminated
+    }
+
+    def 'Discarding the oldest task requires a queue'() {
+        when:
+        new ExecutorPoolConfiguration(1, 1, 0, 0L, ExecutorPoolConfiguration.RejectionPolicy.DISCARD_OLDEST)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        ExecutorService pool = executorServiceManager.createPool('direct',
+            new ExecutorPoolConfiguration(1, 1, 0, 0L, ExecutorPoolConfiguration.RejectionPolicy.DISCARD))
+
+        then:
+        pool
+
+        cleanup:
+        executorServiceManager.shutdownAll()
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
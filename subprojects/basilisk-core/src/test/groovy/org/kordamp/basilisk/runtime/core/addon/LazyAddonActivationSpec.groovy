@@ -0,0 +1,280 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.addon
+
+import basilisk.core.BasiliskApplication
+import basilisk.core.addon.BasiliskAddon
+import basilisk.core.addon.LazyAddon
+import basilisk.core.event.EventRouter
+import basilisk.core.injection.Injector
+import basilisk.core.mvc.MVCGroupManager
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import javax.inject.Named
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class LazyAddonActivationSpec extends Specification {
+    private final FirstLazyAddon first = new FirstLazyAddon()
+    private final SecondLazyAddon second = new SecondLazyAddon()
+    private final GroupedLazyAddon grouped = new GroupedLazyAddon()
+    private final AlsoGroupedLazyAddon alsoGrouped = new AlsoGroupedLazyAddon()
+    private final ListLazyAddon list = new ListLazyAddon()
+    private final AlsoListLazyAddon alsoList = new AlsoListLazyAddon()
+    private DefaultAddonManager addonManager
+
+    void setup() {
+        Injector injector = Stub(Injector) {
+            getInstances(BasiliskAddon) >> [first, second, grouped, alsoGrouped, list, alsoList]
+        }
+        BasiliskApplication application = Stub(BasiliskApplication) {
+            getInjector() >> injector
+            getEventRouter() >> Stub(EventRouter)
+            getMvcGroupManager() >> Stub(MVCGroupManager)
+        }
+        addonManager = new DefaultAddonManager(application)
+        addonManager.initialize()
+    }
+
+    void 'Lazy addons are not initialized until activated'() {
+        expect:
+        !addonManager.isAddonActive('first')
+        first.initializations == 0
+
+        when:
+        addonManager.activateAddon('first')
+        addonManager.activateAddon('first')
+
+        then:
+        addonManager.isAddonActive('first')
+        first.initializations == 1
+        !addonManager.isAddonActive('second')
+    }
+
+    void 'Lazy addons are initialized when looked up'() {
+        when:
+        BasiliskAddon addon = addonManager.findAddon('first')
+
+        then:
+        addon.is(first)
+        addonManager.isAddonActive('first')
+        first.initializations == 1
+        !addonManager.findAddon('unknown')
+    }
+
+    void 'Addons may activate other addons from another thread while initializing'() {
+        given:
+        first.onInit = {
+            Thread thread = new Thread({ addonManager.activateAddon('second') } as Runnable)
+            thread.start()
+            thread.join(5000)
+        }
+
+        when:
+        addonManager.activateAddon('first')
+
+        then:
+        addonManager.isAddonActive('first')
+        addonManager.isAddonActive('second')
+        second.initializations == 1
+    }
+
+    void 'Concurrent activations wait for the addon to be initialized'() {
+        given:
+        CountDownLatch initializing = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+        first.onInit = {
+            initializing.countDown()
+            release.await()
+        }
+        Thread activator = new Thread({ addonManager.activateAddon('first') } as Runnable)
+        activator.start()
+        initializing.await(5, TimeUnit.SECONDS)
+
+        when:
+        Thread waiter = new Thread({ addonManager.activateAddon('first') } as Runnable)
+        waiter.start()
+        waiter.join(200)
+
+        then:
+        waiter.alive
+        !addonManager.isAddonActive('first')
+
+        when:
+        release.countDown()
+        activator.join(5000)
+        waiter.join(5000)
+
+        then:
+        !waiter.alive
+        addonManager.isAddonActive('first')
+        first.initializations == 1
+    }
+
+    void 'All addons sharing an MVC group trigger are activated'() {
+        when:
+        addonManager.activateAddonsForMVCGroup('shared')
+
+        then:
+        addonManager.isAddonActive('grouped')
+        addonManager.isAddonActive('alsoGrouped')
+        grouped.initializations == 1
+        alsoGrouped.initializations == 1
+    }
+
+    void 'All addons sharing a service trigger are activated'() {
+        when:
+        addonManager.activateAddonsForType(ArrayList)
+
+        then:
+        addonManager.isAddonActive('list')
+        addonManager.isAddonActive('alsoList')
+        list.initializations == 1
+        alsoList.initializations == 1
+    }
+
+    void 'Concurrent MVC group triggers wait for the addon to be initialized'() {
+        given:
+        CountDownLatch initializing = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+        grouped.onInit = {
+            initializing.countDown()
+            release.await()
+        }
+        Thread activator = new Thread({ addonManager.activateAddonsForMVCGroup('solo') } as Runnable)
+        activator.start()
+        initializing.await(5, TimeUnit.SECONDS)
+
+        when:
+        Thread waiter = new Thread({ addonManager.activateAddonsForMVCGroup('solo') } as Runnable)
+        waiter.start()
+        waiter.join(200)
+
+        then:
+        waiter.alive
+        !addonManager.isAddonActive('grouped')
+
+        when:
+        release.countDown()
+        activator.join(5000)
+        waiter.join(5000)
+
+        then:
+        !waiter.alive
+        addonManager.isAddonActive('grouped')
+        grouped.initializations == 1
+    }
+
+    void 'Concurrent service triggers wait for the addon to be initialized'() {
+        given:
+        CountDownLatch initializing = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+        list.onInit = {
+            initializing.countDown()
+            release.await()
+        }
+        Thread activator = new Thread({ addonManager.activateAddonsForType(ArrayList) } as Runnable)
+        activator.start()
+        initializing.await(5, TimeUnit.SECONDS)
+
+        when:
+        Thread waiter = new Thread({ addonManager.activateAddonsForType(LinkedList) } as Runnable)
+        waiter.start()
+        waiter.join(200)
+
+        then:
+        waiter.alive
+        !addonManager.isAddonActive('list')
+
+        when:
+        release.countDown()
+        activator.join(5000)
+        waiter.join(5000)
+
+        then:
+        !waiter.alive
+        addonManager.isAddonActive('list')
+        addonManager.isAddonActive('alsoList')
+        list.initializations == 1
+        alsoList.initializations == 1
+    }
+
+    void 'Failed activations are retried by the next trigger'() {
+        given:
+        grouped.onInit = { throw new IllegalStateException('boom') }
+
+        when:
+        addonManager.activateAddonsForMVCGroup('solo')
+
+        then:
+        thrown(IllegalStateException)
+        !addonManager.isAddonActive('grouped')
+
+        when:
+        grouped.onInit = null
+        addonManager.activateAddonsForMVCGroup('solo')
+
+        then:
+        addonManager.isAddonActive('grouped')
+        grouped.initializations == 2
+    }
+
+    private static abstract class CountingLazyAddon extends AbstractBasiliskAddon {
+        int initializations
+        Closure onInit
+
+        @Override
+        void init(@Nonnull BasiliskApplication application) {
+            initializations++
+            onInit?.call()
+        }
+    }
+
+    @Named('first')
+    @LazyAddon(mvcGroups = false)
+    private static class FirstLazyAddon extends CountingLazyAddon {}
+
+    @Named('second')
+    @LazyAddon(mvcGroups = false)
+    private static class SecondLazyAddon extends CountingLazyAddon {}
+
+    @Named('grouped')
+    @LazyAddon
+    private static class GroupedLazyAddon extends CountingLazyAddon {
+        @Override
+        Map<String, Map<String, Object>> getMvcGroups() {
+            [shared: [model: 'SharedModel'], solo: [model: 'SoloModel']]
+        }
+    }
+
+    @Named('alsoGrouped')
+    @LazyAddon
+    private static class AlsoGroupedLazyAddon extends CountingLazyAddon {
+        @Override
+        Map<String, Map<String, Object>> getMvcGroups() {
+            [shared: [model: 'SharedModel']]
+        }
+    }
+
+    @Named('list')
+    @LazyAddon(mvcGroups = false, services = [List])
+    private static class ListLazyAddon extends CountingLazyAddon {}
+
+    @Named('alsoList')
+    @LazyAddon(mvcGroups = false, services = [List])
+    private static class AlsoListLazyAddon extends CountingLazyAddon {}
+}
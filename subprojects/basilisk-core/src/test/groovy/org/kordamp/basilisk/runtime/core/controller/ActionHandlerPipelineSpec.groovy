@@ -0,0 +1,64 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.controller
+
+import basilisk.core.controller.Action
+import basilisk.core.controller.ActionHandler
+import basilisk.core.controller.SelectiveActionHandler
+import spock.lang.Specification
+
+import java.lang.reflect.Method
+
+class ActionHandlerPipelineSpec extends Specification {
+    private static final Method METHOD = Object.getMethod('toString')
+
+    void 'Adding handlers creates new pipelines'() {
+        given:
+        ActionHandler first = new AbstractActionHandler()
+        ActionHandler second = new AbstractActionHandler()
+
+        when:
+        ActionHandlerPipeline one = ActionHandlerPipeline.EMPTY.with(first)
+        ActionHandlerPipeline two = one.with(second)
+
+        then:
+        ActionHandlerPipeline.EMPTY.size() == 0
+        one.size() == 1
+        two.size() == 2
+        two.get(0).is(first)
+        two.get(1).is(second)
+        two.with(first).is(two)
+    }
+
+    void 'Specialized pipeline skips handlers that do not apply'() {
+        given:
+        Action action = Stub(Action)
+        ActionHandler common = new AbstractActionHandler()
+        SelectiveActionHandler applies = Stub(SelectiveActionHandler) { appliesTo(action, METHOD) >> true }
+        SelectiveActionHandler skipped = Stub(SelectiveActionHandler) { appliesTo(action, METHOD) >> false }
+        ActionHandlerPipeline pipeline = ActionHandlerPipeline.EMPTY.with(common).with(skipped).with(applies)
+
+        when:
+        ActionHandlerPipeline specialized = pipeline.specializeFor(action, METHOD)
+
+        then:
+        specialized.size() == 2
+        specialized.get(0).is(common)
+        specialized.get(1).is(applies)
+        specialized.isDerivedFrom(pipeline)
+        !specialized.isDerivedFrom(pipeline.with(new AbstractActionHandler()))
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.controller
+
+import basilisk.core.controller.Action
+import basilisk.core.threading.UIThreadManager
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+class ActionInvocationGateSpec extends Specification {
+    private final List<Runnable> dispatched = []
+    private final ActionInvocationGate.Dispatcher dispatcher = new ActionInvocationGate.Dispatcher() {
+        @Override
+        void dispatch(Runnable runnable) {
+            dispatched << runnable
+        }
+    }
+
+    void 'Throttle drops triggers received within the period'() {
+        given:
+        ActionInvocationGate gate = ActionInvocationGate.throttle(Stub(Action), dispatcher, 60_000L)
+
+        when:
+        3.times { gate.submit({} as Runnable) }
+
+        then:
+        dispatched.size() == 1
+    }
+
+    void 'Debounce only dispatches the latest trigger'() {
+        given:
+        List<String> calls = []
+        Runnable fire = null
+        ScheduledExecutorService scheduler = Mock(ScheduledExecutorService)
+        UIThreadManager uiThreadManager = Mock(UIThreadManager)
+        ActionInvocationGate gate = ActionInvocationGate.debounce(Stub(Action), dispatcher, 100L, scheduler, uiThreadManager)
+
+        when:
+        gate.submit({ calls << 'first' } as Runnable)
+        gate.submit({ calls << 'second' } as Runnable)
+
+        then:
+        2 * scheduler.schedule(_, 100L, TimeUnit.MILLISECONDS) >> { Runnable r, long d, TimeUnit u -> fire = r; Stub(ScheduledFuture) }
+
+        when:
+        fire.run()
+
+        then:
+        1 * uiThreadManager.runOutsideUIAsync(_) >> { Runnable r -> r.run() }
+        dispatched.size() == 1
+
+        when:
+        dispatched[0].run()
+
+        then:
+        calls == ['second']
+    }
+
+    void 'Drop while running disables the action until the execution finishes'() {
+        given:
+        Action action = Mock(Action)
+        UIThreadManager uiThreadManager = Stub(UIThreadManager) { isUIThread() >> true }
+        ActionInvocationGate gate = ActionInvocationGate.dropWhileRunning(action, dispatcher, uiThreadManager, new ActionState(action, uiThreadManager))
+
+        when:
+        gate.submit({} as Runnable)
+        gate.submit({} as Runnable)
+
+        then:
+        1 * action.isEnabled() >> true
+        1 * action.setEnabled(false)
+        dispatched.size() == 1
+
+        when:
+        dispatched[0].run()
+        gate.submit({} as Runnable)
+
+        then:
+        1 * action.setEnabled(true)
+        dispatched.size() == 2
+    }
+
+    void 'Drop while running waits for asynchronous results to complete'() {
+        given:
+        Action action = Mock(Action)
+        UIThreadManager uiThreadManager = Stub(UIThreadManager) { isUIThread() >> true }
+        ActionState state = new ActionState(action, uiThreadManager)
+        ActionInvocationGate gate = ActionInvocationGate.dropWhileRunning(action, dispatcher, uiThreadManager, state)
+        CompletableFuture<String> result = new CompletableFuture<>()
+        Runnable task = {
+            ActionState.Invocation invocation = state.begin(System.nanoTime())
+            state.track(invocation, result)
+            state.finish(invocation)
+        } as Runnable
+
+        when:
+        gate.submit(task)
+        dispatched[0].run()
+        gate.submit(task)
+
+        then:
+        1 * action.isEnabled() >> true
+        1 * action.setEnabled(false)
+        0 * action.setEnabled(true)
+        dispatched.size() == 1
+        state.running
+
+        when:
+        result.complete('done')
+        gate.submit(task)
+
+        then:
+        1 * action.setEnabled(true)
+        dispatched.size() == 2
+    }
+
+    void 'Drop while running recovers when the execution cannot be dispatched'() {
+        given:
+        Action action = Mock(Action)
+        UIThreadManager uiThreadManager = Stub(UIThreadManager) { isUIThread() >> true }
+        ActionInvocationGate.Dispatcher rejecting = new ActionInvocationGate.Dispatcher() {
+            @Override
+            void dispatch(Runnable runnable) {
+                throw new RejectedExecutionException()
+            }
+        }
+        ActionInvocationGate gate = ActionInvocationGate.dropWhileRunning(action, rejecting, uiThreadManager, new ActionState(action, uiThreadManager))
+
+        when:
+        gate.submit({} as Runnable)
+
+        then:
+        thrown(RejectedExecutionException)
+        1 * action.isEnabled() >> true
+        1 * action.setEnabled(false)
+        1 * action.setEnabled(true)
+
+        when:
+        gate.submit({} as Runnable)
+
+        then:
+        thrown(RejectedExecutionException)
+        1 * action.isEnabled() >> true
+        1 * action.setEnabled(false)
+        1 * action.setEnabled(true)
+    }
+
+    void 'Coalesce latest runs the last pending trigger after the current execution'() {
+        given:
+        List<String> calls = []
+        ActionInvocationGate gate = ActionInvocationGate.coalesceLatest(Stub(Action), dispatcher, new ActionState(Stub(Action), Stub(UIThreadManager)))
+
+        when:
+        gate.submit({ calls << 'first' } as Runnable)
+        gate.submit({ calls << 'second' } as Runnable)
+        gate.submit({ calls << 'third' } as Runnable)
+
+        then:
+        dispatched.size() == 1
+
+        when:
+        dispatched[0].run()
+        gate.submit({ calls << 'fourth' } as Runnable)
+
+        then:
+        calls == ['first', 'third']
+        dispatched.size() == 2
+    }
+
+    void 'Coalesce latest waits for asynchronous results to complete'() {
+        given:
+        List<String> calls = []
+        Action action = Stub(Action)
+        ActionState state = new ActionState(action, Stub(UIThreadManager))
+        ActionInvocationGate gate = ActionInvocationGate.coalesceLatest(action, dispatcher, state)
+        CompletableFuture<String> result = new CompletableFuture<>()
+        Runnable task = {
+            calls << 'async'
+            ActionState.Invocation invocation = state.begin(System.nanoTime())
+            state.track(invocation, result)
+            state.finish(invocation)
+        } as Runnable
+
+        when:
+        gate.submit(task)
+        dispatched[0].run()
+        gate.submit({ calls << 'second' } as Runnable)
+        gate.submit({ calls << 'third' } as Runnable)
+
+        then:
+        calls == ['async']
+        dispatched.size() == 1
+        state.running
+
+        when:
+        result.complete('done')
+
+        then:
+        dispatched.size() == 2
+
+        when:
+        dispatched[1].run()
+        gate.submit({ calls << 'fourth' } as Runnable)
+
+        then:
+        calls == ['async', 'third']
+        dispatched.size() == 3
+    }
+
+    void 'Coalesce latest recovers when the execution cannot be dispatched'() {
+        given:
+        List<String> calls = []
+        AtomicBoolean reject = new AtomicBoolean(true)
+        ActionInvocationGate.Dispatcher rejecting = new ActionInvocationGate.Dispatcher() {
+            @Override
+            void dispatch(Runnable runnable) {
+                if (reject.get()) {
+                    throw new RejectedExecutionException()
+                }
+                dispatched << runnable
+            }
+        }
+        ActionInvocationGate gate = ActionInvocationGate.coalesceLatest(Stub(Action), rejecting, new ActionState(Stub(Action), Stub(UIThreadManager)))
+
+        when:
+        gate.submit({ calls << 'first' } as Runnable)
+
+        then:
+        thrown(RejectedExecutionException)
+
+        when:
+        reject.set(false)
+        gate.submit({ calls << 'second' } as Runnable)
+
+        then:
+        dispatched.size() == 1
+
+        when:
+        dispatched[0].run()
+
+        then:
+        calls == ['second']
+    }
+}
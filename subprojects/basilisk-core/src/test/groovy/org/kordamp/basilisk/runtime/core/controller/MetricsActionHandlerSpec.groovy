@@ -0,0 +1,128 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.controller
+
+import basilisk.core.BasiliskApplication
+import basilisk.core.ExecutorServiceManager
+import basilisk.core.configuration.Configuration
+import basilisk.core.controller.Action
+import basilisk.core.controller.ActionExecutionStatus
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+class MetricsActionHandlerSpec extends Specification {
+    private static final Object[] ARGS = new Object[0]
+
+    private Action action = Stub(Action) { getFullyQualifiedName() >> 'com.acme.SampleController.click' }
+    private ExecutorServiceManager executorServiceManager = Mock(ExecutorServiceManager)
+    private MetricsActionHandler handler
+
+    void setup() {
+        Configuration configuration = Stub(Configuration) {
+            getAsLong(MetricsActionHandler.KEY_METRICS_INTERVAL, _ as Long) >> 0L
+        }
+        BasiliskApplication application = Stub(BasiliskApplication) { getConfiguration() >> configuration }
+        handler = new MetricsActionHandler(application, executorServiceManager)
+    }
+
+    void cleanup() {
+        AbstractActionManager.CURRENT_INVOCATION.remove()
+    }
+
+    void 'Records queue delay and execution time of invocations'() {
+        given:
+        invoking(false, 5_000_000L)
+        handler.configure(action, Object.getMethod('toString'))
+
+        when:
+        handler.before(action, ARGS)
+        handler.after(ActionExecutionStatus.OK, action, ARGS, null)
+        handler.before(action, ARGS)
+        handler.after(ActionExecutionStatus.ABORTED, action, ARGS, null)
+        ActionMetricsSnapshot snapshot = handler.getSnapshot(action.fullyQualifiedName)
+
+        then:
+        0 * executorServiceManager.add(_)
+        snapshot.invocations == 2
+        snapshot.aborts == 1
+        snapshot.failures == 0
+        snapshot.maxQueueDelay >= 5_000_000L
+        snapshot.totalExecutionTime > 0
+        snapshot.backgroundTime == snapshot.totalExecutionTime
+        snapshot.uiThreadTime == 0
+    }
+
+    void 'Asynchronous invocations are measured until their result completes'() {
+        given:
+        invoking(true, 0L)
+        CompletableFuture<String> completed = new CompletableFuture<>()
+        CompletableFuture<String> failed = new CompletableFuture<>()
+        CompletableFuture<String> cancelled = new CompletableFuture<>()
+
+        when:
+        [completed, failed, cancelled].each { result ->
+            handler.before(action, ARGS)
+            handler.after(ActionExecutionStatus.OK, action, ARGS, result)
+        }
+        ActionMetricsSnapshot pending = handler.getSnapshot(action.fullyQualifiedName)
+
+        then:
+        pending.invocations == 3
+        pending.totalExecutionTime == 0
+        pending.uiThreadTime > 0
+
+        when:
+        Thread.sleep(20)
+        completed.complete('done')
+        failed.completeExceptionally(new IllegalStateException())
+        cancelled.cancel(true)
+        ActionMetricsSnapshot snapshot = handler.getSnapshot(action.fullyQualifiedName)
+
+        then:
+        snapshot.failures == 1
+        snapshot.aborts == 1
+        snapshot.maxExecutionTime >= 20_000_000L
+        snapshot.uiThreadTime == pending.uiThreadTime
+        snapshot.backgroundTime == 0
+    }
+
+    void 'Records failures'() {
+        given:
+        invoking(true, 0L)
+
+        when:
+        handler.before(action, ARGS)
+        boolean handled = handler.exception(new IllegalStateException(), action, ARGS)
+        ActionMetricsSnapshot snapshot = handler.snapshots[action.fullyQualifiedName]
+
+        then:
+        !handled
+        snapshot.invocations == 1
+        snapshot.failures == 1
+        snapshot.failureRate == 1d
+
+        when:
+        handler.reset()
+
+        then:
+        !handler.getSnapshot(action.fullyQualifiedName)
+    }
+
+    private static void invoking(boolean uiThread, long queueDelay) {
+        AbstractActionManager.CURRENT_INVOCATION.set(new ActionState.Invocation(Thread.currentThread(), uiThread, System.nanoTime() - queueDelay))
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.controller
+
+import basilisk.core.BasiliskApplication
+import basilisk.core.artifact.BasiliskController
+import basilisk.core.controller.ActionFactory
+import basilisk.core.controller.ActionMetadataFactory
+import basilisk.core.threading.TaskPriority
+import basilisk.transform.Threading
+import spock.lang.Specification
+import spock.lang.Unroll
+
+@Unroll
+class TaskPriorityResolutionSpec extends Specification {
+    void 'Action #actionName of a #controllerClass.simpleName runs with #priority priority'() {
+        given:
+        AbstractActionManager actionManager = new DefaultActionManager(Stub(BasiliskApplication), Stub(ActionFactory), Stub(ActionMetadataFactory))
+        BasiliskController controller = Stub(BasiliskController) { getTypeClass() >> controllerClass }
+
+        expect:
+        actionManager.resolveTaskPriority(controller, actionName) == priority
+
+        where:
+        controllerClass | actionName    | priority
+        BulkController  | 'inherited'   | TaskPriority.BULK
+        BulkController  | 'normal'      | TaskPriority.NORMAL
+        BulkController  | 'policyOnly'  | TaskPriority.NORMAL
+        BulkController  | 'interactive' | TaskPriority.INTERACTIVE
+        PlainController | 'inherited'   | TaskPriority.NORMAL
+        PlainController | 'bulk'        | TaskPriority.BULK
+    }
+
+    @Threading(priority = TaskPriority.BULK)
+    static class BulkController {
+        void inherited() {}
+
+        @Threading(priority = TaskPriority.NORMAL)
+        void normal() {}
+
+        @Threading(Threading.Policy.OUTSIDE_UITHREAD_ASYNC)
+        void policyOnly() {}
+
+        @Threading(priority = TaskPriority.INTERACTIVE)
+        void interactive() {}
+    }
+
+    static class PlainController {
+        void inherited() {}
+
+        @Threading(priority = TaskPriority.BULK)
+        void bulk() {}
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.threading
+
+import basilisk.core.mvc.MVCGroup
+import basilisk.core.threading.ParallelResultHandler
+import basilisk.exceptions.ParallelExecutionException
+import basilisk.exceptions.UIThreadDeadlockException
+import basilisk.exceptions.UIThreadTimeoutException
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import java.util.concurrent.Callable
+import java.util.concurrent.CancellationException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.FutureTask
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.locks.ReentrantLock
+
+class AbstractUIThreadManagerSpec extends Specification {
+    private SingleThreadUIThreadManager uiThreadManager = new SingleThreadUIThreadManager()
+    private ExecutorService background = Executors.newFixedThreadPool(2)
+
+    void setup() {
+        def field = AbstractUIThreadManager.getDeclaredField('executorService')
+        field.accessible = true
+        field.set(uiThreadManager, background)
+    }
+
+    void cleanup() {
+        uiThreadManager.ui.shutdownNow()
+        background.shutdownNow()
+    }
+
+    void 'Timed runInsideUISync returns the result of the callable'() {
+        expect:
+        'ok' == uiThreadManager.runInsideUISync(new Callable<String>() {
+            @Override
+            String call() throws Exception {
+                assert uiThreadManager.UIThread
+                'ok'
+            }
+        }, 1, TimeUnit.SECONDS)
+    }
+
+    void 'Timed runInsideUISync fails when the UI thread is busy'() {
+        given:
+        CountDownLatch release = new CountDownLatch(1)
+        uiThreadManager.runInsideUIAsync { release.await() }
+
+        when:
+        uiThreadManager.runInsideUISync(new Callable<String>() {
+            @Override
+            String call() throws Exception {
+                'late'
+            }
+        }, 50, TimeUnit.MILLISECONDS)
+
+        then:
+        thrown(UIThreadTimeoutException)
+
+        cleanup:
+        release.countDown()
+    }
+
+    void 'Waiting on the UI thread while holding a lock it needs fails fast'() {
+        given:
+        uiThreadManager.deadlockDetection = true
+        uiThreadManager.runInsideUISync(new Callable<Object>() {
+            @Override
+            Object call() throws Exception {
+                null
+            }
+        }, 1, TimeUnit.SECONDS)
+        ReentrantLock lock = new ReentrantLock()
+        lock.lock()
+        uiThreadManager.runInsideUIAsync { lock.lock(); lock.unlock() }
+
+        when:
+        uiThreadManager.runInsideUISync(new Callable<String>() {
+            @Override
+            String call() throws Exception {
+                'never'
+            }
+        }, 10, TimeUnit.SECONDS)
+
+        then:
+        UIThreadDeadlockException e = thrown(UIThreadDeadlockException)
+        e.message.contains(Thread.currentThread().name)
+
+        cleanup:
+        lock.unlock()
+    }
+
+    void 'Parallel tasks deliver all results and failures in a single UI callback'() {
+        given:
+        CountDownLatch delivered = new CountDownLatch(1)
+        List<String> results = null
+        ParallelExecutionException failure = null
+        boolean insideUI = false
+
+        when:
+        Future<List<String>> future = uiThreadManager.runOutsideUIParallel([
+            new Callable<String>() { String call() { 'one' } },
+            new Callable<String>() { String call() { throw new IllegalStateException('two') } },
+            new Callable<String>() { String call() { 'three' } }
+        ], new ParallelResultHandler<String>() {
+            @Override
+            void handle(List<String> r, ParallelExecutionException f) {
+                insideUI = uiThreadManager.UIThread
+                results = r
+                failure = f
+                delivered.countDown()
+            }
+        })
+        delivered.await(5, TimeUnit.SECONDS)
+
+        then:
+        insideUI
+        results == ['one', null, 'three']
+        failure.failures.keySet() == [1] as Set
+        failure.cause instanceof IllegalStateException
+        future.done
+    }
+
+    void 'Parallel tasks are cancelled when the owning group is destroyed'() {
+        given:
+        Runnable destroyListener = null
+        MVCGroup group = Mock(MVCGroup) {
+            isAlive() >> true
+            addDestroyListener(_) >> { args -> destroyListener = args[0] }
+        }
+        CountDownLatch started = new CountDownLatch(1)
+        boolean handled = false
+
+        when:
+        Future<List<String>> future = uiThreadManager.runOutsideUIParallel(group, [
+            new Callable<String>() {
+                String call() {
+                    started.countDown()
+                    Thread.sleep(10000)
+                    'late'
+                }
+            }
+        ], new ParallelResultHandler<String>() {
+            @Override
+            void handle(List<String> r, ParallelExecutionException f) {
+                handled = true
+            }
+        })
+        started.await(5, TimeUnit.SECONDS)
+        destroyListener.run()
+        future.get()
+
+        then:
+        thrown(CancellationException)
+        future.cancelled
+        !handled
+    }
+
+    void 'Parallel tasks that cannot be submitted are reported as failures'() {
+        given:
+        CountDownLatch delivered = new CountDownLatch(1)
+        List<String> results = null
+        ParallelExecutionException failure = null
+        background.shutdown()
+
+        when:
+        Future<List<String>> future = uiThreadManager.runOutsideUIParallel([
+            new Callable<String>() { String call() { 'one' } },
+            new Callable<String>() { String call() { 'two' } }
+        ], new ParallelResultHandler<String>() {
+            @Override
+            void handle(List<String> r, ParallelExecutionException f) {
+                results = r
+                failure = f
+                delivered.countDown()
+            }
+        })
+        delivered.await(5, TimeUnit.SECONDS)
+
+        then:
+        results == [null, null]
+        failure.failures.keySet() == [0, 1] as Set
+        failure.cause instanceof RejectedExecutionException
+        future.done
+
+        when:
+        future.get(1, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof ParallelExecutionException
+    }
+
+    void 'Parallel tasks owned by a destroyed group are cancelled right away'() {
+        given:
+        MVCGroup group = Mock(MVCGroup) {
+            isAlive() >> false
+        }
+        boolean handled = false
+
+        when:
+        Future<List<String>> future = uiThreadManager.runOutsideUIParallel(group, [
+            new Callable<String>() { String call() { 'never' } }
+        ], new ParallelResultHandler<String>() {
+            @Override
+            void handle(List<String> r, ParallelExecutionException f) {
+                handled = true
+            }
+        })
+        future.get(1, TimeUnit.SECONDS)
+
+        then:
+        thrown(CancellationException)
+        future.cancelled
+        !handled
+    }
+
+    private static class SingleThreadUIThreadManager extends AbstractUIThreadManager {
+        private final ExecutorService ui = Executors.newSingleThreadExecutor()
+        private volatile Thread thread
+
+        SingleThreadUIThreadManager() {
+            ui.submit { thread = Thread.currentThread() }.get()
+        }
+
+        @Override
+        boolean isUIThread() {
+            Thread.currentThread().is(thread)
+        }
+
+        @Override
+        void runInsideUIAsync(@Nonnull Runnable runnable) {
+            ui.execute(runnable)
+        }
+
+        @Override
+        void runInsideUISync(@Nonnull Runnable runnable) {
+            FutureTask<Void> task = new FutureTask<>(runnable, null)
+            ui.execute(task)
+            waitForUITask(task, 0L, null)
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.threading
+
+import basilisk.core.configuration.Configuration
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+
+@Unroll
+class ConfigurableExecutorServiceProviderSpec extends Specification {
+    void 'Default executor runs tasks when virtual threads are #description'() {
+        given:
+        Configuration configuration = Stub(Configuration) {
+            getAsBoolean(ConfigurableExecutorServiceProvider.KEY_VIRTUAL_THREADS, false) >> virtual
+        }
+        ExecutorService executorService = new ConfigurableExecutorServiceProvider(configuration).get()
+
+        when:
+        boolean isVirtual = executorService.submit(new Callable<Boolean>() {
+            @Override
+            Boolean call() throws Exception {
+                Thread.currentThread().name.startsWith('basilisk-virtual-thread-')
+            }
+        }).get()
+
+        then:
+        isVirtual == (virtual && VirtualThreads.supported)
+
+        cleanup:
+        executorService.shutdownNow()
+
+        where:
+        virtual | description
+        true    | 'enabled'
+        false   | 'disabled'
+    }
+}
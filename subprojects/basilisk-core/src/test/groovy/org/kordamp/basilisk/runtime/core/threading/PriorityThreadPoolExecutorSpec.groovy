@@ -0,0 +1,116 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.threading
+
+import basilisk.core.threading.TaskPriority
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class PriorityThreadPoolExecutorSpec extends Specification {
+    private PriorityThreadPoolExecutor executor
+
+    void cleanup() {
+        executor?.shutdownNow()
+    }
+
+    void 'Queued tasks run in lane order'() {
+        given:
+        executor = new PriorityThreadPoolExecutor(2, new NamedThreadFactory('test-priority-'))
+        CountDownLatch release = new CountDownLatch(1)
+        CountDownLatch hold = new CountDownLatch(1)
+        Queue<String> order = new ConcurrentLinkedQueue<>()
+        executor.execute { release.await() }
+        executor.execute { hold.await() }
+
+        when:
+        executor.execute(TaskPriority.BULK) { order << 'bulk' }
+        executor.execute { order << 'normal' }
+        executor.execute(TaskPriority.INTERACTIVE) { order << 'interactive' }
+        // queued tasks are drained by a single thread
+        release.countDown()
+        executor.submit(TaskPriority.BULK, { 'done' } as Runnable).get(5, TimeUnit.SECONDS)
+        hold.countDown()
+
+        then:
+        order as List == ['interactive', 'normal', 'bulk']
+    }
+
+    void 'Tasks waiting too long run regardless of their lane'() {
+        given:
+        executor = new PriorityThreadPoolExecutor(2, 50, TimeUnit.MILLISECONDS, new NamedThreadFactory('test-priority-'))
+        CountDownLatch release = new CountDownLatch(1)
+        CountDownLatch hold = new CountDownLatch(1)
+        Queue<String> order = new ConcurrentLinkedQueue<>()
+        executor.execute { release.await() }
+        executor.execute { hold.await() }
+
+        when:
+        executor.execute(TaskPriority.BULK) { order << 'bulk' }
+        Thread.sleep(100)
+        executor.execute(TaskPriority.INTERACTIVE) { order << 'interactive' }
+        release.countDown()
+        executor.submit(TaskPriority.BULK, { 'done' } as Runnable).get(5, TimeUnit.SECONDS)
+        hold.countDown()
+
+        then:
+        order as List == ['bulk', 'interactive']
+    }
+
+    void 'Bulk tasks leave a thread available for other lanes'() {
+        given:
+        executor = new PriorityThreadPoolExecutor(2, new NamedThreadFactory('test-priority-'))
+        CountDownLatch release = new CountDownLatch(1)
+        CountDownLatch interactive = new CountDownLatch(1)
+        boolean secondBulkStarted = false
+        executor.execute(TaskPriority.BULK) { release.await() }
+        executor.execute(TaskPriority.BULK) { secondBulkStarted = true }
+
+        when:
+        executor.execute(TaskPriority.INTERACTIVE) { interactive.countDown() }
+        boolean ran = interactive.await(5, TimeUnit.SECONDS)
+
+        then:
+        ran
+        !secondBulkStarted
+
+        when:
+        release.countDown()
+        executor.submit(TaskPriority.BULK, { 'done' } as Runnable).get(5, TimeUnit.SECONDS)
+
+        then:
+        secondBulkStarted
+    }
+
+    void 'Single threaded pools still keep a thread for other lanes'() {
+        given:
+        executor = new PriorityThreadPoolExecutor(1, new NamedThreadFactory('test-priority-'))
+        CountDownLatch release = new CountDownLatch(1)
+        CountDownLatch interactive = new CountDownLatch(1)
+        executor.execute(TaskPriority.BULK) { release.await() }
+
+        when:
+        executor.execute(TaskPriority.INTERACTIVE) { interactive.countDown() }
+        boolean ran = interactive.await(5, TimeUnit.SECONDS)
+        release.countDown()
+
+        then:
+        executor.corePoolSize == PriorityThreadPoolExecutor.MIN_POOL_SIZE
+        ran
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.core.warmup
+
+import basilisk.core.BasiliskApplication
+import basilisk.core.configuration.Configuration
+import basilisk.core.injection.Injector
+import basilisk.core.threading.UIThreadManager
+import basilisk.core.warmup.WarmupTask
+import basilisk.inject.DependsOn
+import org.kordamp.basilisk.runtime.core.DefaultExecutorServiceManager
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import javax.inject.Named
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class DefaultWarmupManagerSpec extends Specification {
+    private final List<String> executed = [].asSynchronized()
+
+    def 'Tasks run in dependency order and report their duration'() {
+        given:
+        WarmupTask second = new SecondTask(executed)
+        WarmupTask failing = new FailingTask()
+        WarmupTask first = new FirstTask(executed)
+        DefaultWarmupManager warmupManager = new DefaultWarmupManager(application([second, failing, first], true), new DefaultExecutorServiceManager())
+
+        when:
+        warmupManager.start()
+        awaitCompletion(warmupManager)
+
+        then:
+        executed == ['first', 'second']
+        warmupManager.durations.keySet() == ['first', 'second'] as Set
+    }
+
+    def 'Tasks do not run when warmup is disabled'() {
+        given:
+        DefaultWarmupManager warmupManager = new DefaultWarmupManager(application([new FirstTask(executed)], false), new DefaultExecutorServiceManager())
+
+        when:
+        warmupManager.start()
+
+        then:
+        !warmupManager.running
+        executed.empty
+        warmupManager.durations.isEmpty()
+    }
+
+    def 'Cancel stops pending tasks'() {
+        given:
+        CountDownLatch started = new CountDownLatch(1)
+        WarmupTask blocking = new BlockingTask(started)
+        DefaultWarmupManager warmupManager = new DefaultWarmupManager(application([blocking, new SecondTask(executed)], true), new DefaultExecutorServiceManager())
+
+        when:
+        warmupManager.start()
+        started.await(5, TimeUnit.SECONDS)
+        warmupManager.cancel()
+        awaitCompletion(warmupManager)
+
+        then:
+        executed.empty
+        warmupManager.durations.isEmpty()
+    }
+
+    private BasiliskApplication application(List<WarmupTask> tasks, boolean enabled) {
+        Configuration configuration = Stub(Configuration)
+        configuration.getAsBoolean(DefaultWarmupManager.KEY_WARMUP_ENABLED, true) >> enabled
+        configuration.getAsLong(DefaultWarmupManager.KEY_WARMUP_YIELD_THRESHOLD, _ as Long) >> 1000L
+
+        UIThreadManager uiThreadManager = Stub(UIThreadManager)
+        uiThreadManager.runInsideUIAsync(_ as Runnable) >> { Runnable runnable -> runnable.run() }
+
+        Injector injector = Stub(Injector)
+        injector.getInstances(WarmupTask) >> tasks
+
+        BasiliskApplication application = Stub(BasiliskApplication)
+        application.configuration >> configuration
+        application.UIThreadManager >> uiThreadManager
+        application.injector >> injector
+        application
+    }
+
+    private static void awaitCompletion(DefaultWarmupManager warmupManager) {
+        long timeout = System.currentTimeMillis() + 5000
+        while (warmupManager.running && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10)
+        }
+    }
+
+    @Named('first')
+    private static class FirstTask extends AbstractWarmupTask {
+        private final List<String> executed
+
+        FirstTask(List<String> executed) {
+            this.executed = executed
+        }
+
+        @Override
+        void execute(@Nonnull BasiliskApplication application) throws Exception {
+            executed << name
+        }
+    }
+
+    @Named('second')
+    @DependsOn('first')
+    private static class SecondTask extends AbstractWarmupTask {
+        private final List<String> executed
+
+        SecondTask(List<String> executed) {
+            this.executed = executed
+        }
+
+        @Override
+        void execute(@Nonnull BasiliskApplication application) throws Exception {
+            executed << name
+        }
+    }
+
+    @Named('failing')
+    private static class FailingTask extends AbstractWarmupTask {
+        @Override
+        void execute(@Nonnull BasiliskApplication application) throws Exception {
+            throw new IllegalStateException('boom')
+        }
+    }
+
+    @Named('blocking')
+    private static class BlockingTask extends AbstractWarmupTask {
+        private final CountDownLatch started
+
+        BlockingTask(CountDownLatch started) {
+            this.started = started
+        }
+
+        @Override
+        void execute(@Nonnull BasiliskApplication application) throws Exception {
+            started.countDown()
+            Thread.sleep(10000)
+        }
+    }
+}
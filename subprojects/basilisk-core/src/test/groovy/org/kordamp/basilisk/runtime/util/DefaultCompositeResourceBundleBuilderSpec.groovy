@@ -30,6 +30,7 @@ import com.google.guiceberry.GuiceBerryModule
 import com.google.guiceberry.junit4.GuiceBerryRule
 import com.google.inject.AbstractModule
 import org.junit.Rule
+import org.junit.rules.TemporaryFolder
 import org.kordamp.basilisk.runtime.core.DefaultApplicationClassLoader
 import org.kordamp.basilisk.runtime.core.env.EnvironmentProvider
 import org.kordamp.basilisk.runtime.core.env.MetadataProvider
@@ -47,13 +48,20 @@ import static org.mockito.Mockito.mock
 
 @Unroll
 class DefaultCompositeResourceBundleBuilderSpec extends Specification {
+    private static final String CLASS_BUNDLE = 'org.kordamp.basilisk.runtime.util.ClassBundle'
+
     @Rule
     final GuiceBerryRule guiceBerry = new GuiceBerryRule(TestModule)
+    @Rule
+    final TemporaryFolder folder = new TemporaryFolder()
 
     @Inject private CompositeResourceBundleBuilder bundleBuilder
     @Inject private Provider<Injector> injector
     @Inject @Named('class') private ResourceBundleLoader resourceBundleLoader1
     @Inject @Named('properties') private ResourceBundleLoader resourceBundleLoader2
+    @Inject private Instantiator instantiator
+    @Inject private PropertiesReader propertiesReader
+    @Inject private ResourceBundleReader resourceBundleReader
 
     def 'Create throws #exception'() {
         given:
@@ -89,6 +97,87 @@ class DefaultCompositeResourceBundleBuilderSpec extends Specification {
             'org.kordamp.basilisk.runtime.util.BrokenBundle']
     }
 
+    def 'Snapshots are reused for bundles backed by a class'() {
+        given:
+        File sources = folder.newFolder('sources')
+        File snapshots = folder.newFolder('snapshots')
+        writeProperties(sources, 'cached = first')
+        CompositeResourceBundleBuilder builder = createCachingBuilder(sources, snapshots)
+
+        when:
+        ResourceBundle loaded = builder.create(CLASS_BUNDLE, Locale.ENGLISH)
+        ResourceBundle cached = builder.create(CLASS_BUNDLE, Locale.ENGLISH)
+
+        then:
+        !(loaded instanceof ResourceBundleSnapshotCache.SnapshotResourceBundle)
+        cached instanceof ResourceBundleSnapshotCache.SnapshotResourceBundle
+        cached.getString('keys.bar') == 'bar'
+        cached.getString('cached') == 'first'
+        cached.keySet() == loaded.keySet()
+    }
+
+    def 'Bundles are loaded when there is no snapshot'() {
+        given:
+        File sources = folder.newFolder('sources')
+        File snapshots = folder.newFolder('snapshots')
+        writeProperties(sources, 'cached = first')
+        CompositeResourceBundleBuilder builder = createCachingBuilder(sources, snapshots)
+        builder.create(CLASS_BUNDLE, Locale.ENGLISH)
+
+        when:
+        snapshots.listFiles()*.delete()
+        ResourceBundle bundle = builder.create(CLASS_BUNDLE, Locale.ENGLISH)
+
+        then:
+        !(bundle instanceof ResourceBundleSnapshotCache.SnapshotResourceBundle)
+        bundle.getString('keys.bar') == 'bar'
+        bundle.getString('cached') == 'first'
+        snapshots.listFiles().length == 1
+    }
+
+    def 'Snapshots are discarded when a source changes'() {
+        given:
+        File sources = folder.newFolder('sources')
+        File snapshots = folder.newFolder('snapshots')
+        writeProperties(sources, 'cached = first')
+        CompositeResourceBundleBuilder builder = createCachingBuilder(sources, snapshots)
+        builder.create(CLASS_BUNDLE, Locale.ENGLISH)
+
+        when:
+        writeProperties(sources, 'cached = second')
+        ResourceBundle reloaded = builder.create(CLASS_BUNDLE, Locale.ENGLISH)
+        ResourceBundle cached = builder.create(CLASS_BUNDLE, Locale.ENGLISH)
+
+        then:
+        !(reloaded instanceof ResourceBundleSnapshotCache.SnapshotResourceBundle)
+        reloaded.getString('cached') == 'second'
+        cached instanceof ResourceBundleSnapshotCache.SnapshotResourceBundle
+        cached.getString('cached') == 'second'
+    }
+
+    private static void writeProperties(File sources, String contents) {
+        File file = new File(sources, CLASS_BUNDLE.replace('.', '/') + '.properties')
+        file.parentFile.mkdirs()
+        file.text = contents
+    }
+
+    private CompositeResourceBundleBuilder createCachingBuilder(File sources, File snapshots) {
+        ClassLoader classLoader = new URLClassLoader([sources.toURI().toURL()] as URL[], getClass().classLoader)
+        ResourceHandler resourceHandler = new DefaultResourceHandler({ classLoader } as ApplicationClassLoader)
+        List<ResourceBundleLoader> loaders = [
+            new ClassResourceBundleLoader(instantiator, resourceHandler, resourceBundleReader),
+            new PropertiesResourceBundleLoader(resourceHandler, propertiesReader)
+        ]
+        Injector cachingInjector = [getInstances: { Class type -> loaders }] as Injector
+
+        System.setProperty(DefaultCompositeResourceBundleBuilder.KEY_CACHE_DIR, snapshots.absolutePath)
+        try {
+            return new DefaultCompositeResourceBundleBuilder({ cachingInjector } as Provider<Injector>)
+        } finally {
+            System.clearProperty(DefaultCompositeResourceBundleBuilder.KEY_CACHE_DIR)
+        }
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.util
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+
+class ResourceBundleSnapshotCacheSpec extends Specification {
+    @Rule
+    final TemporaryFolder folder = new TemporaryFolder()
+
+    def 'Snapshot round trip preserves keys and values'() {
+        given:
+        ResourceBundleSnapshotCache cache = new ResourceBundleSnapshotCache(folder.newFolder('snapshots'))
+        ResourceBundle bundle = new MapBundle([
+            string : 'value',
+            integer: 42,
+            long   : 42L,
+            double : 3.14d,
+            decimal: 1.5G,
+            boolean: true,
+            list   : ['a', 1, null],
+            map    : [key: [nested: 'value']]
+        ])
+
+        when:
+        boolean written = cache.write('bundle', 'abc', bundle)
+        ResourceBundle snapshot = cache.read('bundle', 'abc')
+
+        then:
+        written
+        snapshot.keySet() == bundle.keySet()
+        bundle.keySet().every { snapshot.getObject(it) == bundle.getObject(it) }
+    }
+
+    def 'Stale or missing snapshots are not returned'() {
+        given:
+        ResourceBundleSnapshotCache cache = new ResourceBundleSnapshotCache(folder.newFolder('snapshots'))
+        cache.write('bundle', 'abc', new MapBundle([key: 'value']))
+
+        expect:
+        !cache.read('bundle', 'xyz')
+        !cache.read('other', 'abc')
+    }
+
+    def 'Bundles with unsupported values are not written'() {
+        given:
+        ResourceBundleSnapshotCache cache = new ResourceBundleSnapshotCache(folder.newFolder('snapshots'))
+
+        expect:
+        !cache.write('bundle', 'abc', new MapBundle([key: new Object()]))
+        !cache.read('bundle', 'abc')
+    }
+
+    def 'Corrupt snapshots are ignored'() {
+        given:
+        File directory = folder.newFolder('snapshots')
+        ResourceBundleSnapshotCache cache = new ResourceBundleSnapshotCache(directory)
+        new File(directory, 'bundle.snapshot').bytes = [1, 2, 3] as byte[]
+
+        expect:
+        !cache.read('bundle', 'abc')
+    }
+
+    def 'Fingerprint changes with resource contents'() {
+        given:
+        File file = folder.newFile('bundle.properties')
+        file.text = 'key = value'
+        String first = ResourceBundleSnapshotCache.fingerprint(['dev'], [file.toURI().toURL()])
+
+        when:
+        file.text = 'key = other'
+        String second = ResourceBundleSnapshotCache.fingerprint(['dev'], [file.toURI().toURL()])
+
+        then:
+        first != second
+        second == ResourceBundleSnapshotCache.fingerprint(['dev'], [file.toURI().toURL()])
+        second != ResourceBundleSnapshotCache.fingerprint(['prod'], [file.toURI().toURL()])
+    }
+
+    private static class MapBundle extends ResourceBundle {
+        private final Map<String, Object> entries
+
+        MapBundle(Map<String, Object> entries) {
+            this.entries = entries
+        }
+
+        @Override
+        protected Object handleGetObject(String key) {
+            entries[key]
+        }
+
+        @Override
+        Enumeration<String> getKeys() {
+            Collections.enumeration(entries.keySet())
+        }
+    }
+}
@@ -29,6 +29,7 @@ import basilisk.util.AnnotationUtils;
 import com.google.inject.AbstractModule;
 import com.google.inject.Key;
 import com.google.inject.Module;
+import com.google.inject.Provider;
 import com.google.inject.TypeLiteral;
 import com.google.inject.binder.AnnotatedBindingBuilder;
 import com.google.inject.binder.LinkedBindingBuilder;
@@ -41,7 +42,9 @@ import javax.inject.Singleton;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static com.google.inject.util.Providers.guicify;
 import static java.util.Objects.requireNonNull;
@@ -63,11 +66,19 @@ public class GuiceInjector implements Injector<com.google.inject.Injector> {
     private boolean closed;
 
     public GuiceInjector(@Nonnull InstanceTracker instanceTracker) {
+        this(instanceTracker, instanceTracker.getInjector());
+    }
+
+    GuiceInjector(@Nonnull InstanceTracker instanceTracker, @Nonnull com.google.inject.Injector delegate) {
         this.instanceTracker = requireNonNull(instanceTracker, ERROR_INSTANCE_TRACKER_NULL);
-        this.delegate = requireNonNull(instanceTracker.getInjector(), ERROR_DELEGATE_NULL);
+        this.delegate = requireNonNull(delegate, ERROR_DELEGATE_NULL);
     }
 
     static Module moduleFromBindings(@Nonnull final Iterable<Binding<?>> bindings) {
+        return moduleFromBindings(bindings, Collections.<Class<?>, Provider<?>>emptyMap());
+    }
+
+    static Module moduleFromBindings(@Nonnull final Iterable<Binding<?>> bindings, @Nonnull final Map<Class<?>, Provider<?>> staticProviders) {
         return new AbstractModule() {
             @Override
             protected void configure() {
@@ -100,7 +111,13 @@ public class GuiceInjector implements Injector<com.google.inject.Injector> {
             @SuppressWarnings("unchecked")
             private void handleTargetBinding(@Nonnull TargetBinding<?> binding) {
                 LinkedBindingBuilder lbuilder = handleBinding(binding);
-                if (binding.getSource() != binding.getTarget()) {
+                Provider<?> staticProvider = staticProviders.get(binding.getTarget());
+                if (staticProvider != null) {
+                    ScopedBindingBuilder sbuilder = lbuilder.toProvider(staticProvider);
+                    if (binding.isSingleton()) {
+                        sbuilder.in(Singleton.class);
+                    }
+                } else if (binding.getSource() != binding.getTarget()) {
                     ScopedBindingBuilder sbuilder = lbuilder.to(binding.getTarget());
                     if (binding.isSingleton()) {
                         sbuilder.in(Singleton.class);
@@ -23,15 +23,21 @@ import basilisk.core.env.ApplicationPhase;
 import basilisk.core.injection.Binding;
 import basilisk.core.injection.Injector;
 import basilisk.core.injection.InjectorFactory;
+import basilisk.core.injection.StaticFactory;
+import basilisk.core.injection.TargetBinding;
+import basilisk.core.warmup.WarmupTask;
 import basilisk.exceptions.FieldException;
 import basilisk.exceptions.NewInstanceException;
 import basilisk.inject.Contextual;
+import basilisk.util.ServiceLoaderUtils;
 import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Module;
+import com.google.inject.Stage;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.AbstractMatcher;
 import com.google.inject.matcher.Matchers;
+import com.google.inject.name.Names;
 import com.google.inject.spi.InjectionListener;
 import com.google.inject.spi.ProvisionListener;
 import com.google.inject.spi.TypeEncounter;
@@ -43,7 +49,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
-import javax.annotation.PostConstruct;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.lang.reflect.AnnotatedElement;
@@ -54,10 +60,13 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Set;
 
 import static basilisk.util.AnnotationUtils.annotationsOfMethodParameter;
 import static basilisk.util.AnnotationUtils.findAnnotation;
@@ -65,8 +74,8 @@ import static basilisk.util.AnnotationUtils.namesFor;
 import static basilisk.util.AnnotationUtils.sortByDependencies;
 import static basilisk.util.BasiliskClassUtils.getAllDeclaredFields;
 import static basilisk.util.BasiliskClassUtils.getPropertyDescriptors;
-import static basilisk.util.BasiliskClassUtils.invokeAnnotatedMethod;
 import static basilisk.util.BasiliskClassUtils.setFieldValue;
+import static basilisk.util.BasiliskNameUtils.isBlank;
 import static com.google.inject.util.Providers.guicify;
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
@@ -77,8 +86,29 @@ import static org.kordamp.basilisk.runtime.injection.GuiceInjector.moduleFromBin
  */
 @ServiceProviderFor(InjectorFactory.class)
 public class GuiceInjectorFactory implements InjectorFactory {
+    /**
+     * Name of the System property used to configure the {@code Stage} of the Guice injector.
+     * Accepted values are {@code development}, {@code production} and {@code tool}.
+     */
+    public static final String KEY_GUICE_STAGE = "basilisk.guice.stage";
+
+    /**
+     * Name of the System property used to disable generated static factories. Static factories are used
+     * by default whenever they are listed in the index written by the annotation processor.
+     */
+    public static final String KEY_STATIC_INJECTION = "basilisk.injection.static";
+
     private static final Logger LOG = LoggerFactory.getLogger(GuiceInjectorFactory.class);
 
+    private Set<String> staticFactoryNames;
+
+    private final ClassValue<List<InjectionPoint>> contextualInjectionPoints = new ClassValue<List<InjectionPoint>>() {
+        @Override
+        protected List<InjectionPoint> computeValue(Class<?> type) {
+            return resolveContextualInjectionPoints(type);
+        }
+    };
+
     @Nonnull
     @Override
     public GuiceInjector createInjector(@Nonnull BasiliskApplication application, @Nonnull Iterable<Binding<?>> bindings) {
@@ -107,10 +137,19 @@ public class GuiceInjectorFactory implements InjectorFactory {
             public void afterInjection(Object injectee) {
                 resolveContextualInjections(injectee, application);
                 resolveConfigurationInjections(injectee, application);
-                invokeAnnotatedMethod(injectee, PostConstruct.class);
+                LifecycleDescriptor.of(injectee.getClass()).invokePostConstruct(injectee);
             }
         };
 
+        final InjectionListener<Object> staticFactoryListener = new InjectionListener<Object>() {
+            @Override
+            public void afterInjection(Object injectee) {
+                if (injectee instanceof BasiliskArtifact) {
+                    injectionListener.afterInjection((BasiliskArtifact) injectee);
+                }
+                postConstructorInjectorListener.afterInjection(injectee);
+            }
+        };
 
         final InstanceTracker instanceTracker = new InstanceTracker();
         Module injectorModule = new AbstractModule() {
@@ -120,6 +159,11 @@ public class GuiceInjectorFactory implements InjectorFactory {
                     .toProvider(guicify(injectorProvider))
                     .in(Singleton.class);
 
+                bind(WarmupTask.class)
+                    .annotatedWith(Names.named("injector"))
+                    .to(InjectorWarmupTask.class)
+                    .in(Singleton.class);
+
                 bindListener(new AbstractMatcher<TypeLiteral<?>>() {
                                  public boolean matches(TypeLiteral<?> typeLiteral) {
                                      return BasiliskArtifact.class.isAssignableFrom(typeLiteral.getRawType());
@@ -154,7 +198,7 @@ public class GuiceInjectorFactory implements InjectorFactory {
 
         Collection<Module> modules = new ArrayList<>();
         modules.add(injectorModule);
-        modules.add(moduleFromBindings(bindings));
+        modules.add(moduleFromBindings(bindings, createStaticProviders(bindings, instanceTracker, staticFactoryListener)));
 
         List<Module> loadedModules = new ArrayList<>();
         ServiceLoader<Module> moduleLoader = ServiceLoader.load(Module.class, getClass().getClassLoader());
@@ -165,24 +209,140 @@ public class GuiceInjectorFactory implements InjectorFactory {
         Map<String, Module> sortedModules = sortByDependencies(loadedModules, "Module", "module");
         modules.addAll(sortedModules.values());
 
-        com.google.inject.Injector injector = Guice.createInjector(modules);
+        Stage stage = resolveStage();
+        LOG.debug("Creating Guice injector in stage {}", stage);
+        com.google.inject.Injector injector = Guice.createInjector(stage, modules);
         instanceTracker.setInjector(injector);
         return new GuiceInjector(instanceTracker);
     }
 
+    @Nonnull
+    private Map<Class<?>, com.google.inject.Provider<?>> createStaticProviders(@Nonnull Iterable<Binding<?>> bindings, @Nonnull InstanceTracker instanceTracker, @Nonnull InjectionListener<Object> injectionListener) {
+        Map<Class<?>, com.google.inject.Provider<?>> providers = new LinkedHashMap<>();
+        if (!Boolean.parseBoolean(System.getProperty(KEY_STATIC_INJECTION, "true"))) {
+            return providers;
+        }
+
+        for (Binding<?> binding : bindings) {
+            if (binding instanceof TargetBinding) {
+                Class<?> target = ((TargetBinding<?>) binding).getTarget();
+                if (!providers.containsKey(target)) {
+                    StaticFactory<?> factory = resolveStaticFactory(target);
+                    if (factory != null) {
+                        LOG.trace("Instances of {} will be created by {}", target.getName(), factory);
+                        providers.put(target, createStaticProvider(factory, instanceTracker, injectionListener));
+                    }
+                }
+            }
+        }
+        return providers;
+    }
+
+    @Nonnull
+    private static <T> com.google.inject.Provider<T> createStaticProvider(@Nonnull StaticFactory<T> factory, @Nonnull InstanceTracker instanceTracker, @Nonnull InjectionListener<Object> injectionListener) {
+        return new StaticFactoryProvider<>(factory, instanceTracker, injectionListener);
+    }
+
+    /**
+     * Locates the {@code StaticFactory} generated at compile time for the given type.
+     * Types without a generated factory are created reflectively by Guice. Only factories listed
+     * by {@link #resolveStaticFactoryNames()} are loaded.
+     *
+     * @param type the binding target
+     *
+     * @return a {@code StaticFactory} for the given type, or {@code null} if none is available.
+     */
+    @Nullable
+    protected StaticFactory<?> resolveStaticFactory(@Nonnull Class<?> type) {
+        if (!BasiliskArtifact.class.isAssignableFrom(type)) {
+            return null;
+        }
+
+        if (staticFactoryNames == null) {
+            staticFactoryNames = resolveStaticFactoryNames();
+        }
+        String factoryClassName = type.getName() + StaticFactory.CLASS_NAME_SUFFIX;
+        if (!staticFactoryNames.contains(factoryClassName)) {
+            return null;
+        }
+
+        try {
+            Class<?> factoryClass = Class.forName(factoryClassName, true, type.getClassLoader());
+            if (StaticFactory.class.isAssignableFrom(factoryClass)) {
+                StaticFactory<?> factory = (StaticFactory<?>) factoryClass.getDeclaredConstructor().newInstance();
+                if (factory.getType() == type) {
+                    return factory;
+                }
+            }
+        } catch (ClassNotFoundException e) {
+            LOG.debug("Static factory {} is listed but could not be found", factoryClassName);
+        } catch (InvocationTargetException e) {
+            LOG.warn("Could not instantiate static factory " + factoryClassName, e.getTargetException());
+        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | LinkageError e) {
+            LOG.warn("Could not instantiate static factory " + factoryClassName, e);
+        }
+        return null;
+    }
+
+    /**
+     * Reads the names of all generated {@code StaticFactory} classes from {@code META-INF/injection/basilisk.core.injection.StaticFactory}.
+     *
+     * @return the fully qualified class names of all available static factories. Never returns {@code null}.
+     */
+    @Nonnull
+    protected Set<String> resolveStaticFactoryNames() {
+        final Set<String> names = new LinkedHashSet<>();
+        ServiceLoaderUtils.load(getClass().getClassLoader(), StaticFactory.INDEX_PATH, StaticFactory.class, new ServiceLoaderUtils.LineProcessor() {
+            @Override
+            public void process(@Nonnull ClassLoader classLoader, @Nonnull Class<?> type, @Nonnull String line) {
+                names.add(line.trim());
+            }
+        });
+        return names;
+    }
+
+    @Nonnull
+    protected Stage resolveStage() {
+        String stageName = System.getProperty(KEY_GUICE_STAGE);
+        if (isBlank(stageName)) {
+            return Stage.DEVELOPMENT;
+        }
+
+        try {
+            return Stage.valueOf(stageName.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unknown Guice stage '{}'. Using {} instead", stageName, Stage.DEVELOPMENT);
+            return Stage.DEVELOPMENT;
+        }
+    }
+
     protected void resolveContextualInjections(@Nonnull Object injectee, @Nonnull BasiliskApplication application) {
         if (application.getPhase() == ApplicationPhase.INITIALIZE || injectee instanceof BasiliskArtifact) {
             // skip
             return;
         }
 
+        for (InjectionPoint ip : contextualInjectionPoints.get(injectee.getClass())) {
+            ip.apply(application.getContext(), injectee);
+        }
+    }
+
+    /**
+     * Resolves all contextual injection points of the given class. Invoked once per class.
+     *
+     * @param klass the type to inspect
+     *
+     * @return a list of contextual injection points. Never returns null.
+     */
+    @Nonnull
+    protected List<InjectionPoint> resolveContextualInjectionPoints(@Nonnull Class<?> klass) {
         Map<String, Field> fields = new LinkedHashMap<>();
-        for (Field field : getAllDeclaredFields(injectee.getClass())) {
+        for (Field field : getAllDeclaredFields(klass)) {
             fields.put(field.getName(), field);
         }
 
         Map<String, InjectionPoint> injectionPoints = new LinkedHashMap<>();
-        for (PropertyDescriptor descriptor : getPropertyDescriptors(injectee.getClass())) {
+        for (PropertyDescriptor descriptor : getPropertyDescriptors(klass)) {
             Method method = descriptor.getWriteMethod();
             if (method == null || isInjectable(method)) { continue; }
             boolean nullable = method.getAnnotation(Nonnull.class) == null && findAnnotation(annotationsOfMethodParameter(method, 0), Nonnull.class) == null;
@@ -195,7 +355,7 @@ public class GuiceInjectorFactory implements InjectorFactory {
             injectionPoints.put(descriptor.getName(), new MethodInjectionPoint(descriptor.getName(), nullable, method, type));
         }
 
-        for (Field field : getAllDeclaredFields(injectee.getClass())) {
+        for (Field field : getAllDeclaredFields(klass)) {
             if (Modifier.isStatic(field.getModifiers()) || isInjectable(field)) { continue; }
             if (!injectionPoints.containsKey(field.getName())) {
                 boolean nullable = field.getAnnotation(Nonnull.class) == null;
@@ -204,9 +364,14 @@ public class GuiceInjectorFactory implements InjectorFactory {
             }
         }
 
+        // only contextual injection points have an effect
+        List<InjectionPoint> contextual = new ArrayList<>();
         for (InjectionPoint ip : injectionPoints.values()) {
-            ip.apply(application.getContext(), injectee);
+            if (ip.type == InjectionPoint.Type.CONTEXTUAL) {
+                contextual.add(ip);
+            }
         }
+        return contextual.isEmpty() ? Collections.<InjectionPoint>emptyList() : Collections.unmodifiableList(contextual);
     }
 
     @Nonnull
@@ -226,7 +391,8 @@ public class GuiceInjectorFactory implements InjectorFactory {
     }
 
     protected void resolveConfigurationInjections(@Nonnull Object injectee, @Nonnull BasiliskApplication application) {
-        if (application.getPhase() == ApplicationPhase.INITIALIZE || injectee instanceof BasiliskArtifact) {
+        if (application.getPhase() == ApplicationPhase.INITIALIZE || injectee instanceof BasiliskArtifact ||
+            !LifecycleDescriptor.of(injectee.getClass()).isConfigurable()) {
             // skip
             return;
         }
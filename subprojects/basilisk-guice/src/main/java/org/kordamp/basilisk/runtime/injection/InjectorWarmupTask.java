@@ -0,0 +1,182 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.injection;
+
+import basilisk.core.BasiliskApplication;
+import basilisk.core.artifact.BasiliskClass;
+import basilisk.core.artifact.BasiliskControllerClass;
+import basilisk.core.artifact.BasiliskServiceClass;
+import basilisk.core.configuration.Configuration;
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Scopes;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.HasDependencies;
+import org.kordamp.basilisk.runtime.core.warmup.AbstractWarmupTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static basilisk.core.BasiliskExceptionHandler.sanitize;
+import static basilisk.util.BasiliskNameUtils.isBlank;
+import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Instantiates a configurable set of types once the application has reached the {@code READY}
+ * phase, so that the first user interaction does not pay for building the object graph behind it.
+ * <p>
+ * The following configuration keys are supported
+ * <ul>
+ * <li>{@code basilisk.injector.warmup.types} - list of class names to be instantiated.</li>
+ * <li>{@code basilisk.injector.warmup.services} - instantiate all service artifacts. Default {@code false}.</li>
+ * <li>{@code basilisk.injector.warmup.controllers} - resolve the bindings of all controller artifacts
+ * and instantiate their singleton dependencies. Controllers themselves are not instantiated as they
+ * require an MVC group to be bound to. Default {@code false}.</li>
+ * </ul>
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+@Named("injector")
+public class InjectorWarmupTask extends AbstractWarmupTask {
+    public static final String KEY_WARMUP_TYPES = "basilisk.injector.warmup.types";
+    public static final String KEY_WARMUP_SERVICES = "basilisk.injector.warmup.services";
+    public static final String KEY_WARMUP_CONTROLLERS = "basilisk.injector.warmup.controllers";
+
+    private static final Logger LOG = LoggerFactory.getLogger(InjectorWarmupTask.class);
+
+    private final Injector injector;
+
+    @Inject
+    public InjectorWarmupTask(@Nonnull Injector injector) {
+        this.injector = requireNonNull(injector, "Argument 'injector' must not be null");
+    }
+
+    @Override
+    public void execute(@Nonnull BasiliskApplication application) throws Exception {
+        Set<Class<?>> singletons = resolveSingletonTypes(application);
+        Set<Class<?>> controllers = resolveControllerTypes(application);
+        if (!singletons.isEmpty() || !controllers.isEmpty()) {
+            warmup(singletons, controllers);
+        }
+    }
+
+    protected void warmup(@Nonnull Collection<Class<?>> singletons, @Nonnull Collection<Class<?>> controllers) throws InterruptedException {
+        LOG.debug("Warming up {} types and {} controllers", singletons.size(), controllers.size());
+
+        for (Class<?> type : singletons) {
+            checkCancelled();
+            try {
+                injector.getInstance(type);
+            } catch (RuntimeException e) {
+                LOG.warn("Could not warm up " + type.getName(), sanitize(e));
+            }
+        }
+
+        for (Class<?> type : controllers) {
+            checkCancelled();
+            try {
+                warmupDependencies(injector.getBinding(type));
+            } catch (RuntimeException e) {
+                LOG.warn("Could not warm up " + type.getName(), sanitize(e));
+            }
+        }
+    }
+
+    protected void warmupDependencies(@Nonnull Binding<?> binding) {
+        if (!(binding instanceof HasDependencies)) {
+            return;
+        }
+
+        for (Dependency<?> dependency : ((HasDependencies) binding).getDependencies()) {
+            Key<?> key = dependency.getKey();
+            Binding<?> dependencyBinding = injector.getBinding(key);
+            if (Scopes.isSingleton(dependencyBinding)) {
+                injector.getInstance(key);
+            }
+        }
+    }
+
+    @Nonnull
+    protected Set<Class<?>> resolveSingletonTypes(@Nonnull BasiliskApplication application) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Configuration configuration = application.getConfiguration();
+
+        for (String className : toList(configuration.get(KEY_WARMUP_TYPES, null))) {
+            try {
+                types.add(application.getApplicationClassLoader().get().loadClass(className));
+            } catch (ClassNotFoundException e) {
+                LOG.warn("'" + className + "' could not be resolved as a Class");
+            }
+        }
+
+        if (configuration.getAsBoolean(KEY_WARMUP_SERVICES, false)) {
+            for (BasiliskClass basiliskClass : application.getArtifactManager().getClassesOfType(BasiliskServiceClass.TYPE)) {
+                types.add(basiliskClass.getClazz());
+            }
+        }
+
+        return types;
+    }
+
+    @Nonnull
+    protected Set<Class<?>> resolveControllerTypes(@Nonnull BasiliskApplication application) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        if (application.getConfiguration().getAsBoolean(KEY_WARMUP_CONTROLLERS, false)) {
+            for (BasiliskClass basiliskClass : application.getArtifactManager().getClassesOfType(BasiliskControllerClass.TYPE)) {
+                types.add(basiliskClass.getClazz());
+            }
+        }
+        return types;
+    }
+
+    @Nonnull
+    private static Collection<String> toList(@Nullable Object value) {
+        Set<String> values = new LinkedHashSet<>();
+        if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                addValue(values, element);
+            }
+        } else if (value != null && value.getClass().isArray()) {
+            for (int i = 0; i < Array.getLength(value); i++) {
+                addValue(values, Array.get(value, i));
+            }
+        } else if (value instanceof CharSequence) {
+            List<String> elements = asList(String.valueOf(value).split(","));
+            for (String element : elements) {
+                addValue(values, element);
+            }
+        }
+        return values;
+    }
+
+    private static void addValue(@Nonnull Set<String> values, @Nullable Object value) {
+        if (value != null && !isBlank(String.valueOf(value))) {
+            values.add(String.valueOf(value).trim());
+        }
+    }
+}
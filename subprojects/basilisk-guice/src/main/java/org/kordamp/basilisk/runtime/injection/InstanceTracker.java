@@ -20,27 +20,41 @@ import com.google.inject.Injector;
 import org.kordamp.basilisk.runtime.core.injection.InjectionUnitOfWork;
 
 import javax.annotation.Nonnull;
-import javax.annotation.PreDestroy;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
-import static basilisk.util.BasiliskClassUtils.hasMethodAnnotatedwith;
-import static basilisk.util.BasiliskClassUtils.invokeAnnotatedMethod;
 import static com.google.inject.Scopes.isSingleton;
-import static java.util.Collections.synchronizedMap;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Keeps track of provisioned instances that must have their {@code PreDestroy} method invoked.
+ * <p>
+ * Instances are compared by identity and held until they are released or the injector is closed,
+ * as their {@code PreDestroy} method must be invoked regardless of whether the application still
+ * references them. Non-singleton instances provisioned inside an {@code InjectionUnitOfWork}
+ * are tracked by the unit of work instead.
+ *
  * @author Andres Almiray
  */
 class InstanceTracker {
     private static final String ERROR_INSTANCE_NULL = "Argument 'instance' must not be null";
     private static final String ERROR_BINDING_NULL = "Argument 'binding' must not be null";
 
-    private final Map<Object, Binding<?>> instanceToKeyMap = synchronizedMap(new LinkedHashMap<Object, Binding<?>>());
+    private static final Comparator<Map.Entry<InstanceKey, Long>> REVERSE_ORDER = new Comparator<Map.Entry<InstanceKey, Long>>() {
+        @Override
+        public int compare(Map.Entry<InstanceKey, Long> a, Map.Entry<InstanceKey, Long> b) {
+            return Long.compare(b.getValue(), a.getValue());
+        }
+    };
+
+    private final ConcurrentMap<InstanceKey, Long> instances = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
 
     private com.google.inject.Injector injector;
 
@@ -58,14 +72,14 @@ class InstanceTracker {
         requireNonNull(binding, ERROR_BINDING_NULL);
         requireNonNull(instance, ERROR_INSTANCE_NULL);
 
-        if (hasMethodAnnotatedwith(instance, PreDestroy.class)) {
+        if (LifecycleDescriptor.of(instance.getClass()).hasPreDestroy()) {
             if (isSingleton(binding)) {
-                instanceToKeyMap.put(instance, binding);
+                doTrack(instance);
             } else {
                 try {
                     InjectionUnitOfWork.track(instance);
                 } catch (IllegalStateException ise) {
-                    instanceToKeyMap.put(instance, binding);
+                    doTrack(instance);
                 }
             }
         }
@@ -75,26 +89,50 @@ class InstanceTracker {
     public <T> void release(@Nonnull T instance) {
         requireNonNull(instance, ERROR_INSTANCE_NULL);
 
-        invokeAnnotatedMethod(instance, PreDestroy.class);
+        LifecycleDescriptor.of(instance.getClass()).invokePreDestroy(instance);
 
-        Binding<?> binding = instanceToKeyMap.get(instance);
-        if (binding != null) {
-            instanceToKeyMap.remove(instance);
-        }
+        instances.remove(new InstanceKey(instance));
     }
 
     public void releaseAll() {
-        List<Object> instances = new ArrayList<>();
+        List<Map.Entry<InstanceKey, Long>> entries = new ArrayList<>(instances.entrySet());
+        instances.clear();
 
-        instances.addAll(instanceToKeyMap.keySet());
-        instanceToKeyMap.clear();
+        Collections.sort(entries, REVERSE_ORDER);
 
-        Collections.reverse(instances);
+        for (Map.Entry<InstanceKey, Long> entry : entries) {
+            Object instance = entry.getKey().instance;
+            LifecycleDescriptor.of(instance.getClass()).invokePreDestroy(instance);
+        }
+
+        entries.clear();
+    }
 
-        for (Object instance : instances) {
-            invokeAnnotatedMethod(instance, PreDestroy.class);
+    int size() {
+        return instances.size();
+    }
+
+    private void doTrack(@Nonnull Object instance) {
+        instances.putIfAbsent(new InstanceKey(instance), sequence.incrementAndGet());
+    }
+
+    private static final class InstanceKey {
+        private final Object instance;
+        private final int hash;
+
+        private InstanceKey(@Nonnull Object instance) {
+            this.instance = instance;
+            this.hash = System.identityHashCode(instance);
         }
 
-        instances.clear();
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof InstanceKey && ((InstanceKey) o).instance == instance;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.injection;
+
+import basilisk.core.configuration.Configured;
+import basilisk.exceptions.InstanceMethodInvocationException;
+import com.googlecode.openbeans.PropertyDescriptor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static basilisk.util.BasiliskClassUtils.getAllDeclaredFields;
+import static basilisk.util.BasiliskClassUtils.getPropertyDescriptors;
+import static basilisk.util.BasiliskClassUtils.invokeAnnotatedMethod;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Lifecycle metadata of a class, computed once per class.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+final class LifecycleDescriptor {
+    private static final ClassValue<LifecycleDescriptor> DESCRIPTORS = new ClassValue<LifecycleDescriptor>() {
+        @Override
+        protected LifecycleDescriptor computeValue(Class<?> type) {
+            return new LifecycleDescriptor(type);
+        }
+    };
+
+    private final LifecycleMethods postConstruct;
+    private final LifecycleMethods preDestroy;
+    private final boolean configurable;
+
+    private LifecycleDescriptor(@Nonnull Class<?> type) {
+        this.postConstruct = new LifecycleMethods(type, PostConstruct.class);
+        this.preDestroy = new LifecycleMethods(type, PreDestroy.class);
+        this.configurable = hasConfiguredMembers(type);
+    }
+
+    @Nonnull
+    static LifecycleDescriptor of(@Nonnull Class<?> type) {
+        return DESCRIPTORS.get(requireNonNull(type, "Argument 'type' must not be null"));
+    }
+
+    boolean hasPostConstruct() {
+        return !postConstruct.isEmpty();
+    }
+
+    boolean hasPreDestroy() {
+        return !preDestroy.isEmpty();
+    }
+
+    /**
+     * Whether the class declares fields or setters annotated with {@code @Configured}.
+     */
+    boolean isConfigurable() {
+        return configurable;
+    }
+
+    void invokePostConstruct(@Nonnull Object instance) {
+        postConstruct.invoke(instance);
+    }
+
+    void invokePreDestroy(@Nonnull Object instance) {
+        preDestroy.invoke(instance);
+    }
+
+    private static boolean hasConfiguredMembers(@Nonnull Class<?> type) {
+        for (PropertyDescriptor descriptor : getPropertyDescriptors(type)) {
+            Method method = descriptor.getWriteMethod();
+            if (method != null && method.getAnnotation(Configured.class) != null) {
+                return true;
+            }
+        }
+        for (Field field : getAllDeclaredFields(type)) {
+            if (field.getAnnotation(Configured.class) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class LifecycleMethods {
+        private final Class<? extends Annotation> annotation;
+        private final List<Method> methods;
+        private final boolean valid;
+
+        private LifecycleMethods(@Nonnull Class<?> type, @Nonnull Class<? extends Annotation> annotation) {
+            this.annotation = annotation;
+
+            List<Method> found = new ArrayList<>();
+            boolean duplicates = false;
+            for (Class<?> klass = type; klass != null; klass = klass.getSuperclass()) {
+                int count = 0;
+                for (Method method : klass.getDeclaredMethods()) {
+                    if (method.isAnnotationPresent(annotation) && method.getParameterTypes().length == 0) {
+                        found.add(method);
+                        count++;
+                    }
+                }
+                duplicates |= count > 1;
+            }
+
+            this.methods = Collections.unmodifiableList(found);
+            this.valid = !duplicates;
+            if (valid) {
+                makeAccessible(methods);
+            }
+        }
+
+        private boolean isEmpty() {
+            return methods.isEmpty();
+        }
+
+        private void invoke(@Nonnull Object instance) {
+            if (methods.isEmpty()) {
+                return;
+            }
+
+            if (!valid) {
+                // reports the offending methods
+                invokeAnnotatedMethod(instance, annotation);
+                return;
+            }
+
+            for (Method method : methods) {
+                try {
+                    method.invoke(instance);
+                } catch (IllegalAccessException | IllegalArgumentException e) {
+                    throw new InstanceMethodInvocationException(instance, method.getName(), null, e);
+                } catch (InvocationTargetException e) {
+                    throw new InstanceMethodInvocationException(instance, method.getName(), null, e.getTargetException());
+                }
+            }
+        }
+
+        private static void makeAccessible(@Nonnull List<Method> methods) {
+            for (Method method : methods) {
+                method.setAccessible(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.injection;
+
+import basilisk.core.injection.Injector;
+import basilisk.core.injection.StaticFactory;
+import com.google.inject.Provider;
+import com.google.inject.spi.InjectionListener;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Provides instances through a generated {@code StaticFactory}, bypassing Guice's reflective
+ * constructor and member injection. Injection listeners are notified explicitly as Guice does
+ * not invoke them for provider bindings.
+ *
+ * @author Andres Almiray
+ */
+class StaticFactoryProvider<T> implements Provider<T> {
+    private final StaticFactory<T> factory;
+    private final InstanceTracker instanceTracker;
+    private final InjectionListener<Object> injectionListener;
+    private Injector<?> injector;
+
+    StaticFactoryProvider(@Nonnull StaticFactory<T> factory, @Nonnull InstanceTracker instanceTracker, @Nonnull InjectionListener<Object> injectionListener) {
+        this.factory = requireNonNull(factory, "Argument 'factory' must not be null");
+        this.instanceTracker = requireNonNull(instanceTracker, "Argument 'instanceTracker' must not be null");
+        this.injectionListener = requireNonNull(injectionListener, "Argument 'injectionListener' must not be null");
+    }
+
+    @Inject
+    void setInjector(@Nonnull com.google.inject.Injector delegate) {
+        this.injector = new GuiceInjector(instanceTracker, delegate);
+    }
+
+    @Override
+    public T get() {
+        T instance = factory.newInstance(injector);
+        injectionListener.afterInjection(instance);
+        return instance;
+    }
+
+    @Override
+    public String toString() {
+        return "StaticFactoryProvider[" + factory.getType().getName() + "]";
+    }
+}
@@ -21,12 +21,16 @@ import basilisk.core.ExceptionHandler
 import basilisk.core.ExecutorServiceManager
 import basilisk.core.event.EventRouter
 import basilisk.core.injection.Binding
+import basilisk.core.injection.Injector
 import basilisk.core.injection.Module
+import basilisk.core.injection.StaticFactory
 import basilisk.core.threading.UIThreadManager
+import basilisk.core.warmup.WarmupTask
 import basilisk.exceptions.ClosedInjectorException
 import basilisk.exceptions.InstanceNotFoundException
 import basilisk.exceptions.MembersInjectionException
 import com.google.inject.CreationException
+import com.google.inject.Stage
 import org.kordamp.basilisk.runtime.core.BasiliskExceptionHandlerProvider
 import org.kordamp.basilisk.runtime.core.DefaultExecutorServiceManager
 import org.kordamp.basilisk.runtime.core.event.DefaultEventRouter
@@ -34,6 +38,7 @@ import org.kordamp.basilisk.runtime.core.injection.AbstractModule
 import org.kordamp.basilisk.runtime.core.threading.DefaultExecutorServiceProvider
 import org.kordamp.basilisk.runtime.core.threading.DefaultUIThreadManager
 import spock.lang.Specification
+import spock.lang.Unroll
 
 import javax.annotation.Nonnull
 import javax.inject.Provider
@@ -186,6 +191,89 @@ class GuiceInjectorFactorySpec extends Specification {
         ex.cause instanceof ClosedInjectorException
     }
 
+    @Unroll
+    void "Guice stage is resolved from '#value'"() {
+        given:
+        GuiceInjectorFactory factory = new GuiceInjectorFactory()
+        if (value != null) {
+            System.setProperty(GuiceInjectorFactory.KEY_GUICE_STAGE, value)
+        }
+
+        when:
+        Stage result = factory.resolveStage()
+
+        then:
+        result == stage
+
+        cleanup:
+        System.clearProperty(GuiceInjectorFactory.KEY_GUICE_STAGE)
+
+        where:
+        value         || stage
+        null          || Stage.DEVELOPMENT
+        ''            || Stage.DEVELOPMENT
+        'production'  || Stage.PRODUCTION
+        'TOOL'        || Stage.TOOL
+        'unknown'     || Stage.DEVELOPMENT
+    }
+
+    void 'Injector warmup task is registered'() {
+        given:
+        GuiceInjectorFactory factory = new GuiceInjectorFactory()
+        BasiliskApplication application = new TestBasiliskApplication()
+
+        when:
+        GuiceInjector injector = factory.createInjector(application, createBindings(application))
+
+        then:
+        injector.getInstance(WarmupTask, named('injector')) instanceof InjectorWarmupTask
+    }
+
+    void 'Static factories take precedence over reflective instantiation'() {
+        given:
+        DogStaticFactory dogFactory = new DogStaticFactory()
+        GuiceInjectorFactory factory = new GuiceInjectorFactory() {
+            @Override
+            protected StaticFactory<?> resolveStaticFactory(@Nonnull Class<?> type) {
+                type == Dog ? dogFactory : null
+            }
+        }
+        BasiliskApplication application = new TestBasiliskApplication()
+
+        when:
+        GuiceInjector injector = factory.createInjector(application, createBindings(application))
+        Animal animal = injector.getInstance(Animal)
+
+        then:
+        animal.is(dogFactory.instances[0])
+        injector.getInstance(Animal).is(animal)
+        injector.getInstance(Animal, named('amber')) in dogFactory.instances
+        dogFactory.injector instanceof GuiceInjector
+    }
+
+    void 'Static factories can be disabled'() {
+        given:
+        DogStaticFactory dogFactory = new DogStaticFactory()
+        GuiceInjectorFactory factory = new GuiceInjectorFactory() {
+            @Override
+            protected StaticFactory<?> resolveStaticFactory(@Nonnull Class<?> type) {
+                type == Dog ? dogFactory : null
+            }
+        }
+        BasiliskApplication application = new TestBasiliskApplication()
+        System.setProperty(GuiceInjectorFactory.KEY_STATIC_INJECTION, 'false')
+
+        when:
+        GuiceInjector injector = factory.createInjector(application, createBindings(application))
+        injector.getInstance(Animal)
+
+        then:
+        dogFactory.instances.empty
+
+        cleanup:
+        System.clearProperty(GuiceInjectorFactory.KEY_STATIC_INJECTION)
+    }
+
     @Nonnull
     private
     static Iterable<Binding<?>> createBindings(BasiliskApplication application, boolean withFailure = false) {
@@ -283,6 +371,26 @@ class DogProvider implements Provider<Dog> {
     }
 }
 
+class DogStaticFactory implements StaticFactory<Dog> {
+    final List<Dog> instances = []
+    Injector<?> injector
+
+    @Nonnull
+    @Override
+    Class<Dog> getType() {
+        Dog
+    }
+
+    @Nonnull
+    @Override
+    Dog newInstance(@Nonnull Injector<?> injector) {
+        this.injector = injector
+        Dog dog = new Dog()
+        instances << dog
+        dog
+    }
+}
+
 @Qualifier
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.injection
+
+import com.google.inject.AbstractModule
+import com.google.inject.Guice
+import com.google.inject.Module
+import com.google.inject.Singleton
+import org.kordamp.basilisk.runtime.core.injection.InjectionUnitOfWork
+import spock.lang.Specification
+
+import javax.annotation.PreDestroy
+
+class InstanceTrackerSpec extends Specification {
+    private InstanceTracker instanceTracker = new InstanceTracker()
+
+    def setup() {
+        Module module = new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Plain)
+                bind(Disposable)
+                bind(SingletonDisposable).in(Singleton)
+            }
+        }
+        instanceTracker.injector = Guice.createInjector(module)
+    }
+
+    def 'Instances without PreDestroy are not tracked'() {
+        when:
+        track(new Plain())
+
+        then:
+        instanceTracker.size() == 0
+    }
+
+    def 'Instances are tracked by identity and released in reverse order'() {
+        given:
+        List<String> log = []
+        SingletonDisposable first = new SingletonDisposable(log: log, name: 'first')
+        SingletonDisposable second = new SingletonDisposable(log: log, name: 'second')
+
+        when:
+        track(first)
+        track(second)
+        track(first)
+
+        then:
+        instanceTracker.size() == 2
+
+        when:
+        instanceTracker.releaseAll()
+
+        then:
+        log == ['second', 'first']
+        instanceTracker.size() == 0
+    }
+
+    def 'Released instances are no longer tracked'() {
+        given:
+        List<String> log = []
+        Disposable disposable = new Disposable(log: log, name: 'disposable')
+        track(disposable)
+
+        when:
+        instanceTracker.release(disposable)
+        instanceTracker.releaseAll()
+
+        then:
+        log == ['disposable']
+        instanceTracker.size() == 0
+    }
+
+    def 'Non singleton instances inside a unit of work are not tracked'() {
+        given:
+        Disposable disposable = new Disposable(log: [], name: 'disposable')
+
+        when:
+        InjectionUnitOfWork.start()
+        track(disposable)
+        List<Object> instances = InjectionUnitOfWork.finish()
+
+        then:
+        instances == [disposable]
+        instanceTracker.size() == 0
+    }
+
+    def 'Non singleton instances outside a unit of work are released even if unreferenced'() {
+        given:
+        List<String> log = []
+        track(new Disposable(log: log, name: 'disposable'))
+
+        when:
+        System.gc()
+        instanceTracker.releaseAll()
+
+        then:
+        log == ['disposable']
+    }
+
+    private void track(Object instance) {
+        instanceTracker.track(instanceTracker.injector.getBinding(instance.getClass()), instance)
+    }
+
+    static class Plain {
+
+    }
+
+    static class Disposable {
+        List<String> log
+        String name
+
+        @PreDestroy
+        void destroy() {
+            log << name
+        }
+    }
+
+    static class SingletonDisposable extends Disposable {
+
+    }
+}
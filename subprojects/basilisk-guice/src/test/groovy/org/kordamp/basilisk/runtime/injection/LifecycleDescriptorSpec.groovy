@@ -0,0 +1,163 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.injection
+
+import basilisk.core.configuration.Configured
+import basilisk.exceptions.InstanceMethodInvocationException
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.annotation.PostConstruct
+import javax.annotation.PreDestroy
+
+import static basilisk.util.BasiliskClassUtils.invokeAnnotatedMethod
+
+@Unroll
+class LifecycleDescriptorSpec extends Specification {
+    void 'Lifecycle methods of #type.simpleName are invoked as invokeAnnotatedMethod does'() {
+        given:
+        Recorder expected = type.newInstance()
+        Recorder actual = type.newInstance()
+        LifecycleDescriptor descriptor = LifecycleDescriptor.of(type)
+
+        when:
+        invokeAnnotatedMethod(expected, PostConstruct)
+        descriptor.invokePostConstruct(actual)
+
+        then:
+        actual.calls == expected.calls
+        actual.calls == postConstruct
+
+        when:
+        expected.calls.clear()
+        actual.calls.clear()
+        invokeAnnotatedMethod(expected, PreDestroy)
+        descriptor.invokePreDestroy(actual)
+
+        then:
+        actual.calls == expected.calls
+        actual.calls == preDestroy
+
+        where:
+        type            | postConstruct       | preDestroy
+        LifecycleParent | ['parent']          | ['parent-destroy']
+        LifecycleChild  | ['child', 'parent'] | ['child-destroy']
+    }
+
+    void 'Classes with more than one lifecycle method fail as invokeAnnotatedMethod does'() {
+        given:
+        LifecycleDescriptor descriptor = LifecycleDescriptor.of(DuplicateLifecycle)
+
+        when:
+        invokeAnnotatedMethod(new DuplicateLifecycle(), PostConstruct)
+
+        then:
+        thrown(InstanceMethodInvocationException)
+
+        when:
+        descriptor.invokePostConstruct(new DuplicateLifecycle())
+
+        then:
+        thrown(InstanceMethodInvocationException)
+        descriptor.hasPostConstruct()
+    }
+
+    void 'Descriptor of #type.simpleName reports postConstruct=#postConstruct, preDestroy=#preDestroy, configurable=#configurable'() {
+        given:
+        LifecycleDescriptor descriptor = LifecycleDescriptor.of(type)
+
+        expect:
+        descriptor.hasPostConstruct() == postConstruct
+        descriptor.hasPreDestroy() == preDestroy
+        descriptor.configurable == configurable
+        LifecycleDescriptor.of(type).is(descriptor)
+
+        where:
+        type                | postConstruct | preDestroy | configurable
+        Recorder            | false         | false      | false
+        LifecycleParent     | true          | true       | false
+        LifecycleChild      | true          | true       | false
+        ConfiguredField     | false         | false      | true
+        ConfiguredSetter    | false         | false      | true
+    }
+
+    void 'Classes without lifecycle methods are left untouched'() {
+        given:
+        Recorder recorder = new Recorder()
+        LifecycleDescriptor descriptor = LifecycleDescriptor.of(Recorder)
+
+        when:
+        descriptor.invokePostConstruct(recorder)
+        descriptor.invokePreDestroy(recorder)
+
+        then:
+        recorder.calls.empty
+    }
+
+    static class Recorder {
+        final List<String> calls = []
+    }
+
+    static class LifecycleParent extends Recorder {
+        @PostConstruct
+        private void initParent() {
+            calls << 'parent'
+        }
+
+        @PreDestroy
+        void destroy() {
+            calls << 'parent-destroy'
+        }
+    }
+
+    static class LifecycleChild extends LifecycleParent {
+        @PostConstruct
+        void initChild() {
+            calls << 'child'
+        }
+
+        @Override
+        void destroy() {
+            calls << 'child-destroy'
+        }
+    }
+
+    static class DuplicateLifecycle extends Recorder {
+        @PostConstruct
+        void first() {
+            calls << 'first'
+        }
+
+        @PostConstruct
+        void second() {
+            calls << 'second'
+        }
+    }
+
+    static class ConfiguredField {
+        @Configured('key')
+        String value
+    }
+
+    static class ConfiguredSetter {
+        private String value
+
+        @Configured('key')
+        void setValue(String value) {
+            this.value = value
+        }
+    }
+}
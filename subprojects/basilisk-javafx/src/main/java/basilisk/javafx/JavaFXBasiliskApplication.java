@@ -102,12 +102,15 @@ public class JavaFXBasiliskApplication extends AbstractJavaFXBasiliskApplication
     }
 
     public boolean shutdown() {
-        if (super.shutdown()) {
-            exit();
-        }
+        super.shutdown();
         return false;
     }
 
+    @Override
+    protected void afterShutdown() {
+        exit();
+    }
+
     public void exit() {
         Platform.exit();
         System.exit(0);
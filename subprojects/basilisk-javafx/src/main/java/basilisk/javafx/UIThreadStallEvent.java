@@ -0,0 +1,78 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package basilisk.javafx;
+
+import basilisk.core.event.Event;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Published when the UI thread did not process a heartbeat within the configured threshold, and once
+ * more when the UI thread processes it at last; {@link #isEnded()} tells both events apart.
+ * Stalls that share the same stack trace are aggregated, {@link #getOccurrences()} reports how many
+ * times a stall with this stack trace has been observed so far.
+ *
+ * @author Andres Almiray
+ * @since 1.0.0
+ */
+public class UIThreadStallEvent extends Event {
+    private static final long serialVersionUID = 3295108472105539211L;
+
+    private final long duration;
+    private final int occurrences;
+    private final StackTraceElement[] stackTrace;
+    private final boolean ended;
+
+    public UIThreadStallEvent(@Nonnull Object source, long duration, int occurrences, @Nonnull StackTraceElement[] stackTrace, boolean ended) {
+        super(source);
+        requireNonNull(stackTrace, "Argument 'stackTrace' must not be null");
+        this.duration = duration;
+        this.occurrences = occurrences;
+        this.stackTrace = Arrays.copyOf(stackTrace, stackTrace.length);
+        this.ended = ended;
+    }
+
+    /**
+     * Time in milliseconds the UI thread has been blocked. Events published when the stall is detected report
+     * the time it took to detect it, which is close to the configured threshold; events published once the
+     * stall has ended report its full length.
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Whether the UI thread has resumed processing tasks, in which case {@link #getDuration()} is the full length of the stall.
+     */
+    public boolean isEnded() {
+        return ended;
+    }
+
+    public int getOccurrences() {
+        return occurrences;
+    }
+
+    /**
+     * Stack trace of the UI thread when the stall was detected. May be empty if the UI thread is unknown.
+     */
+    @Nonnull
+    public StackTraceElement[] getStackTrace() {
+        return Arrays.copyOf(stackTrace, stackTrace.length);
+    }
+}
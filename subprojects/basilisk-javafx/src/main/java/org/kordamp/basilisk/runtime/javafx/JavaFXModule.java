@@ -58,6 +58,9 @@ public class JavaFXModule extends AbstractModule {
             .to(JavaFXUIThreadManager.class)
             .asSingleton();
 
+        bind(UIThreadWatchdog.class)
+            .asSingleton();
+
         bind(ActionManager.class)
             .to(JavaFXActionManager.class)
             .asSingleton();
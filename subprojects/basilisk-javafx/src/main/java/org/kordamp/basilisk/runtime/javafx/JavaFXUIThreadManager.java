@@ -16,23 +16,79 @@
 package org.kordamp.basilisk.runtime.javafx;
 
 import basilisk.core.ExceptionHandler;
+import basilisk.core.configuration.Configuration;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import org.kordamp.basilisk.runtime.core.threading.AbstractUIThreadManager;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.util.Objects.requireNonNull;
 
 /**
+ * When batching is enabled ({@code basilisk.javafx.uithread.batching = true}) tasks posted to the UI thread
+ * are collected in a queue and drained by a single {@code Platform.runLater()} call instead of one call per
+ * task. Each drain runs for at most {@code basilisk.javafx.uithread.batching.budget} milliseconds (8 by default);
+ * remaining tasks are executed on the next pulse, giving input events and rendering a chance to run in between.
+ * Tasks posted while a drain is running schedule the next drain right away, so they still run when a task enters
+ * a nested event loop, such as {@code showAndWait()}, just like tasks posted with {@code Platform.runLater()}.
+ * <p>
+ * Exceptions thrown by asynchronous tasks are forwarded to the {@code ExceptionHandler} whether batching is
+ * enabled or not.
+ * <p>
+ * Set {@code basilisk.javafx.uithread.deadlock.detection} to {@code true} to make threads waiting on
+ * {@code runInsideUISync()} fail fast when the UI thread is blocked on a lock they hold.
+ *
  * @author Dean Iverson
  */
 public class JavaFXUIThreadManager extends AbstractUIThreadManager {
+    public static final String KEY_BATCHING = "basilisk.javafx.uithread.batching";
+    public static final String KEY_BATCHING_BUDGET = "basilisk.javafx.uithread.batching.budget";
+    public static final String KEY_DEADLOCK_DETECTION = "basilisk.javafx.uithread.deadlock.detection";
+
+    private static final long DEFAULT_BATCHING_BUDGET = 8L;
+
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final Runnable drainTask = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+    private final Runnable recordUIThreadTask = new Runnable() {
+        @Override
+        public void run() {
+            recordUIThread();
+        }
+    };
+    private AnimationTimer pulseTimer;
+
+    private volatile boolean batching;
+    private volatile long drainBudget = TimeUnit.MILLISECONDS.toNanos(DEFAULT_BATCHING_BUDGET);
+
     @Inject
     private ExceptionHandler exceptionHandler;
 
+    @Inject
+    public void setConfiguration(@Nonnull Configuration configuration) {
+        requireNonNull(configuration, "Argument 'configuration' must not be null");
+        batching = configuration.getAsBoolean(KEY_BATCHING, false);
+        drainBudget = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, configuration.getAsLong(KEY_BATCHING_BUDGET, DEFAULT_BATCHING_BUDGET)));
+        setDeadlockDetection(configuration.getAsBoolean(KEY_DEADLOCK_DETECTION, false));
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
     /**
      * True if the current thread is the UI thread.
      */
@@ -43,18 +99,20 @@ public class JavaFXUIThreadManager extends AbstractUIThreadManager {
     @Override
     public void runInsideUIAsync(@Nonnull Runnable runnable) {
         requireNonNull(runnable, ERROR_RUNNABLE_NULL);
-        Platform.runLater(runnable);
+        post(runnable);
     }
 
     @Override
     public void runInsideUISync(@Nonnull final Runnable runnable) {
         requireNonNull(runnable, ERROR_RUNNABLE_NULL);
         if (isUIThread()) {
+            recordUIThread();
             runnable.run();
         } else {
             FutureTask<Void> task = new FutureTask<>(new Runnable() {
                 @Override
                 public void run() {
+                    recordUIThread();
                     try {
                         runnable.run();
                     } catch (Throwable throwable) {
@@ -63,12 +121,74 @@ public class JavaFXUIThreadManager extends AbstractUIThreadManager {
                 }
             }, null);
 
-            Platform.runLater(task);
+            post(task);
             try {
-                task.get();
+                waitForUITask(task, 0L, null);
             } catch (InterruptedException | ExecutionException e) {
                 exceptionHandler.uncaughtException(Thread.currentThread(), e);
             }
         }
     }
+
+    private void post(@Nonnull final Runnable runnable) {
+        if (!batching) {
+            if (!isUIThreadRecorded()) {
+                // deadlock detection needs the UI thread before the first sync task runs
+                Platform.runLater(recordUIThreadTask);
+            }
+            Platform.runLater(new Runnable() {
+                @Override
+                public void run() {
+                    execute(runnable);
+                }
+            });
+            return;
+        }
+
+        pending.offer(runnable);
+        if (drainScheduled.compareAndSet(false, true)) {
+            Platform.runLater(drainTask);
+        }
+    }
+
+    private void drain() {
+        // re-arm before running any task: should a task enter a nested event loop, tasks
+        // posted in the meantime schedule another drain that runs inside that loop
+        drainScheduled.set(false);
+        recordUIThread();
+        long deadline = System.nanoTime() + drainBudget;
+        Runnable runnable;
+        while ((runnable = pending.poll()) != null) {
+            execute(runnable);
+            if (System.nanoTime() - deadline >= 0 && !pending.isEmpty()) {
+                // out of budget, continue on the next pulse
+                pulseTimer().start();
+                return;
+            }
+        }
+
+        pulseTimer().stop();
+    }
+
+    private void execute(@Nonnull Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (Throwable throwable) {
+            exceptionHandler.uncaughtException(Thread.currentThread(), throwable);
+        }
+    }
+
+    @Nonnull
+    private AnimationTimer pulseTimer() {
+        // only ever called from the UI thread
+        if (pulseTimer == null) {
+            pulseTimer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    drain();
+                }
+            };
+        }
+        return pulseTimer;
+    }
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.javafx;
+
+import basilisk.core.BasiliskApplication;
+import basilisk.core.ExecutorServiceManager;
+import basilisk.core.threading.UIThreadManager;
+import basilisk.javafx.UIThreadStallEvent;
+import org.kordamp.basilisk.runtime.core.threading.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Detects stalls of the UI thread. A daemon thread posts heartbeat tasks through the {@code UIThreadManager}
+ * and measures how long they take to run; once a heartbeat is pending for longer than
+ * {@code basilisk.javafx.watchdog.threshold} milliseconds (500 by default) the stack of the UI thread is
+ * captured, logged and published as an {@code UIThreadStallEvent}. A second event reports the full length of
+ * the stall once the pending heartbeat has run. Heartbeats are posted every
+ * {@code basilisk.javafx.watchdog.interval} milliseconds (100 by default).
+ * <p>
+ * The watchdog is started during application initialization when {@code basilisk.javafx.watchdog.enabled}
+ * is set to {@code true}.
+ *
+ * @author Andres Almiray
+ */
+public class UIThreadWatchdog {
+    public static final String KEY_ENABLED = "basilisk.javafx.watchdog.enabled";
+    public static final String KEY_THRESHOLD = "basilisk.javafx.watchdog.threshold";
+    public static final String KEY_INTERVAL = "basilisk.javafx.watchdog.interval";
+
+    private static final Logger LOG = LoggerFactory.getLogger(UIThreadWatchdog.class);
+    private static final long DEFAULT_THRESHOLD = 500L;
+    private static final long DEFAULT_INTERVAL = 100L;
+    private static final int MAX_SIGNATURE_DEPTH = 32;
+
+    private final BasiliskApplication application;
+    private final UIThreadManager uiThreadManager;
+    private final ExecutorServiceManager executorServiceManager;
+    private final Object lock = new Object[0];
+    private final Runnable captureUIThread = new Runnable() {
+        @Override
+        public void run() {
+            uiThread = Thread.currentThread();
+        }
+    };
+    private final Runnable heartbeat = new Runnable() {
+        @Override
+        public void run() {
+            uiThread = Thread.currentThread();
+            heartbeatLatency = System.nanoTime() - heartbeatPostedAt;
+            heartbeatPostedAt = 0L;
+        }
+    };
+
+    private volatile Thread uiThread;
+    private volatile long heartbeatPostedAt;
+    // written before heartbeatPostedAt is cleared
+    private volatile long heartbeatLatency;
+    // only accessed by the watchdog thread, non-null while a reported stall is in progress
+    private StackTraceElement[] stallStackTrace;
+    private int stallOccurrences;
+    @GuardedBy("lock")
+    private final Map<List<StackTraceElement>, Integer> stalls = new HashMap<>();
+    @GuardedBy("lock")
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public UIThreadWatchdog(@Nonnull BasiliskApplication application, @Nonnull UIThreadManager uiThreadManager, @Nonnull ExecutorServiceManager executorServiceManager) {
+        this.application = requireNonNull(application, "Argument 'application' must not be null");
+        this.uiThreadManager = requireNonNull(uiThreadManager, "Argument 'uiThreadManager' must not be null");
+        this.executorServiceManager = requireNonNull(executorServiceManager, "Argument 'executorServiceManager' must not be null");
+    }
+
+    public void start() {
+        if (uiThread == null) {
+            // the watchdog is usually started outside the UI thread, stalls found before the first
+            // heartbeat would be reported without a stack otherwise
+            if (uiThreadManager.isUIThread()) {
+                captureUIThread.run();
+            } else {
+                uiThreadManager.runInsideUISync(captureUIThread);
+            }
+        }
+
+        synchronized (lock) {
+            if (scheduler != null) {
+                return;
+            }
+
+            final long threshold = TimeUnit.MILLISECONDS.toNanos(application.getConfiguration().getAsLong(KEY_THRESHOLD, DEFAULT_THRESHOLD));
+            long interval = Math.max(1L, application.getConfiguration().getAsLong(KEY_INTERVAL, DEFAULT_INTERVAL));
+
+            scheduler = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("basilisk-ui-watchdog-thread-", true));
+            executorServiceManager.add(scheduler);
+            scheduler.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    check(threshold);
+                }
+            }, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void stop() {
+        synchronized (lock) {
+            if (scheduler != null) {
+                executorServiceManager.remove(scheduler);
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+    }
+
+    public boolean isRunning() {
+        synchronized (lock) {
+            return scheduler != null;
+        }
+    }
+
+    /**
+     * Returns how many stalls have been observed so far, aggregated by the stack trace of the UI thread.
+     */
+    @Nonnull
+    public Map<List<StackTraceElement>, Integer> getStalls() {
+        synchronized (lock) {
+            return new HashMap<>(stalls);
+        }
+    }
+
+    // only called by the watchdog thread
+    private void check(long threshold) {
+        long postedAt = heartbeatPostedAt;
+        if (postedAt == 0L) {
+            if (stallStackTrace != null) {
+                // the UI thread caught up, report how long it has actually been blocked
+                long duration = TimeUnit.NANOSECONDS.toMillis(heartbeatLatency);
+                LOG.info("UI thread resumed after being blocked for {} ms", duration);
+                publish(new UIThreadStallEvent(this, duration, stallOccurrences, stallStackTrace, true));
+                stallStackTrace = null;
+            }
+            heartbeatPostedAt = System.nanoTime();
+            uiThreadManager.runInsideUIAsync(heartbeat);
+            return;
+        }
+
+        long elapsed = System.nanoTime() - postedAt;
+        if (elapsed >= threshold && stallStackTrace == null) {
+            Thread thread = uiThread;
+            stallStackTrace = thread != null ? thread.getStackTrace() : new StackTraceElement[0];
+            stallOccurrences = report(TimeUnit.NANOSECONDS.toMillis(elapsed), stallStackTrace);
+        }
+    }
+
+    private int report(long duration, @Nonnull StackTraceElement[] stackTrace) {
+        List<StackTraceElement> signature = Arrays.asList(stackTrace).subList(0, Math.min(stackTrace.length, MAX_SIGNATURE_DEPTH));
+        int occurrences;
+        synchronized (lock) {
+            Integer count = stalls.get(signature);
+            occurrences = count == null ? 1 : count + 1;
+            stalls.put(signature, occurrences);
+        }
+
+        if (occurrences == 1) {
+            Throwable trace = new Throwable("UI thread stack");
+            trace.setStackTrace(stackTrace);
+            LOG.warn("UI thread has been blocked for " + duration + " ms", trace);
+        } else {
+            LOG.warn("UI thread has been blocked for {} ms at {} ({} occurrences)", duration,
+                stackTrace.length > 0 ? stackTrace[0] : "<unknown>", occurrences);
+        }
+
+        publish(new UIThreadStallEvent(this, duration, occurrences, stackTrace, false));
+        return occurrences;
+    }
+
+    private void publish(@Nonnull UIThreadStallEvent event) {
+        try {
+            application.getEventRouter().publishEventOutsideUI(event);
+        } catch (RuntimeException e) {
+            LOG.debug("Could not publish UIThreadStallEvent", e);
+        }
+    }
+}
@@ -39,6 +39,7 @@ import java.net.URL;
 import static basilisk.util.BasiliskNameUtils.isNotBlank;
 import static basilisk.util.BasiliskNameUtils.requireNonBlank;
 import static basilisk.util.ConfigUtils.stripFilenameExtension;
+import static java.util.Objects.requireNonNull;
 
 /**
  * JavaFX-friendly implementation of the BasiliskView interface.
@@ -48,9 +49,13 @@ import static basilisk.util.ConfigUtils.stripFilenameExtension;
 public abstract class AbstractJavaFXBasiliskView extends AbstractBasiliskView implements JavaFXBasiliskView {
     private static final String FXML_SUFFIX = ".fxml";
 
-    @Inject
     protected ActionMatcher actionMatcher;
 
+    @Inject
+    public void setActionMatcher(@Nonnull ActionMatcher actionMatcher) {
+        this.actionMatcher = requireNonNull(actionMatcher, "Argument 'actionMatcher' must not be null");
+    }
+
     @Nullable
     protected Node loadFromFXML() {
         return loadFromFXML(resolveBasename());
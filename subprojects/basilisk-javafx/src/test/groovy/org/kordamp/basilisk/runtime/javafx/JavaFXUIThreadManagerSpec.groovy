@@ -0,0 +1,196 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.javafx
+
+import basilisk.core.ExceptionHandler
+import basilisk.core.configuration.Configuration
+import javafx.animation.AnimationTimer
+import javafx.application.Platform
+import javafx.embed.swing.JFXPanel
+import javafx.event.EventHandler
+import javafx.stage.Stage
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicInteger
+
+import static java.util.concurrent.TimeUnit.SECONDS
+
+/**
+ * @author Andres Almiray
+ */
+class JavaFXUIThreadManagerSpec extends Specification {
+    static {
+        new JFXPanel()
+    }
+
+    private final JavaFXUIThreadManager uiThreadManager = new JavaFXUIThreadManager()
+
+    void setup() {
+        def field = JavaFXUIThreadManager.getDeclaredField('exceptionHandler')
+        field.accessible = true
+        field.set(uiThreadManager, Stub(ExceptionHandler))
+    }
+
+    void 'Interleaved sync and async tasks run in the order they were posted'() {
+        given:
+        uiThreadManager.configuration = batching(8L)
+        List<Integer> order = new CopyOnWriteArrayList<>()
+        List<Boolean> insideUIThread = new CopyOnWriteArrayList<>()
+
+        when:
+        20.times { int i ->
+            Runnable task = {
+                order << i
+                insideUIThread << Platform.isFxApplicationThread()
+            } as Runnable
+            if (i % 3 == 0) {
+                uiThreadManager.runInsideUISync(task)
+            } else {
+                uiThreadManager.runInsideUIAsync(task)
+            }
+        }
+        uiThreadManager.runInsideUISync({} as Runnable)
+
+        then:
+        order == (0..<20).toList()
+        insideUIThread.every { it }
+    }
+
+    void 'Tasks exceeding the drain budget roll over to the next pulse'() {
+        given:
+        uiThreadManager.configuration = batching(1L)
+        AtomicInteger pulses = new AtomicInteger()
+        AnimationTimer pulseCounter = new AnimationTimer() {
+            @Override
+            void handle(long now) {
+                pulses.incrementAndGet()
+            }
+        }
+        uiThreadManager.runInsideUISync({ pulseCounter.start() } as Runnable)
+        List<Integer> order = new CopyOnWriteArrayList<>()
+        List<Integer> observedPulses = new CopyOnWriteArrayList<>()
+        CountDownLatch done = new CountDownLatch(10)
+
+        when:
+        10.times { int i ->
+            uiThreadManager.runInsideUIAsync({
+                order << i
+                observedPulses << pulses.get()
+                // exhaust the budget of the current drain
+                Thread.sleep(5L)
+                done.countDown()
+            } as Runnable)
+        }
+
+        then:
+        done.await(5, SECONDS)
+        order == (0..<10).toList()
+        observedPulses.unique(false).size() > 1
+
+        cleanup:
+        uiThreadManager.runInsideUISync({ pulseCounter.stop() } as Runnable)
+    }
+
+    @Unroll
+    void 'Asynchronous posts record the UI thread when batching is #batching'() {
+        given:
+        uiThreadManager.configuration = Stub(Configuration) {
+            getAsBoolean(JavaFXUIThreadManager.KEY_BATCHING, _) >> batching
+        }
+        CountDownLatch done = new CountDownLatch(1)
+
+        expect:
+        !uiThreadManager.isUIThreadRecorded()
+
+        when:
+        uiThreadManager.runInsideUIAsync({ done.countDown() } as Runnable)
+
+        then:
+        done.await(5, SECONDS)
+        uiThreadManager.isUIThreadRecorded()
+
+        where:
+        batching << [true, false]
+    }
+
+    void 'Tasks posted while a batched task runs a nested event loop are not held back'() {
+        given:
+        uiThreadManager.configuration = batching(8L)
+        CountDownLatch shown = new CountDownLatch(1)
+        CountDownLatch nestedTaskRan = new CountDownLatch(1)
+        CountDownLatch closed = new CountDownLatch(1)
+        Stage stage = null
+
+        when:
+        uiThreadManager.runInsideUIAsync({
+            stage = new Stage()
+            stage.onShown = { shown.countDown() } as EventHandler
+            stage.showAndWait()
+            closed.countDown()
+        } as Runnable)
+        shown.await(5, SECONDS)
+        uiThreadManager.runInsideUIAsync({
+            nestedTaskRan.countDown()
+            stage.close()
+        } as Runnable)
+
+        then:
+        nestedTaskRan.await(5, SECONDS)
+        closed.await(5, SECONDS)
+
+        cleanup:
+        Platform.runLater { stage?.close() }
+    }
+
+    @Unroll
+    void 'Exceptions thrown by asynchronous tasks reach the ExceptionHandler when batching is #batching'() {
+        given:
+        CountDownLatch handled = new CountDownLatch(1)
+        List<Throwable> exceptions = new CopyOnWriteArrayList<>()
+        ExceptionHandler exceptionHandler = Stub(ExceptionHandler) {
+            uncaughtException(_, _) >> { Thread t, Throwable e ->
+                exceptions << e
+                handled.countDown()
+            }
+        }
+        def field = JavaFXUIThreadManager.getDeclaredField('exceptionHandler')
+        field.accessible = true
+        field.set(uiThreadManager, exceptionHandler)
+        uiThreadManager.configuration = Stub(Configuration) {
+            getAsBoolean(JavaFXUIThreadManager.KEY_BATCHING, _) >> batching
+        }
+
+        when:
+        uiThreadManager.runInsideUIAsync({ throw new IllegalStateException('boom') } as Runnable)
+
+        then:
+        handled.await(5, SECONDS)
+        exceptions*.message == ['boom']
+
+        where:
+        batching << [true, false]
+    }
+
+    private Configuration batching(long budget) {
+        Stub(Configuration) {
+            getAsBoolean(JavaFXUIThreadManager.KEY_BATCHING, _) >> true
+            getAsLong(JavaFXUIThreadManager.KEY_BATCHING_BUDGET, _) >> budget
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2008-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.basilisk.runtime.javafx
+
+import basilisk.core.BasiliskApplication
+import basilisk.core.ExecutorServiceManager
+import basilisk.core.configuration.Configuration
+import basilisk.core.event.EventRouter
+import basilisk.core.threading.UIThreadManager
+import basilisk.javafx.UIThreadStallEvent
+import org.kordamp.basilisk.runtime.core.threading.NamedThreadFactory
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+import static java.util.concurrent.TimeUnit.SECONDS
+import static org.awaitility.Awaitility.await
+
+/**
+ * @author Andres Almiray
+ */
+class UIThreadWatchdogSpec extends Specification {
+    private static final String UI_THREAD_PREFIX = 'fake-ui-thread-'
+
+    private final ExecutorService uiThread = Executors.newSingleThreadExecutor(new NamedThreadFactory(UI_THREAD_PREFIX, true))
+    private final List<UIThreadStallEvent> events = new CopyOnWriteArrayList<>()
+    private UIThreadWatchdog watchdog
+
+    void setup() {
+        UIThreadManager uiThreadManager = Stub(UIThreadManager) {
+            isUIThread() >> { Thread.currentThread().name.startsWith(UI_THREAD_PREFIX) }
+            runInsideUIAsync(_) >> { Runnable r -> uiThread.submit(r) }
+            runInsideUISync(_) >> { Runnable r -> uiThread.submit(r).get() }
+        }
+        Configuration configuration = Stub(Configuration) {
+            getAsLong(UIThreadWatchdog.KEY_THRESHOLD, _) >> 100L
+            getAsLong(UIThreadWatchdog.KEY_INTERVAL, _) >> 10L
+        }
+        EventRouter eventRouter = Stub(EventRouter) {
+            publishEventOutsideUI(_ as UIThreadStallEvent) >> { UIThreadStallEvent event -> events << event }
+        }
+        BasiliskApplication application = Stub(BasiliskApplication) {
+            getConfiguration() >> configuration
+            getEventRouter() >> eventRouter
+        }
+        watchdog = new UIThreadWatchdog(application, uiThreadManager, Stub(ExecutorServiceManager))
+    }
+
+    void cleanup() {
+        watchdog.stop()
+        uiThread.shutdownNow()
+    }
+
+    void 'Stalls found before the first heartbeat report the stack of the UI thread'() {
+        given:
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when: 'the watchdog is started outside the UI thread'
+        watchdog.start()
+        uiThread.submit(block(latch))
+        await().timeout(5, SECONDS).until { !events.isEmpty() }
+        latch.countDown()
+
+        then:
+        watchdog.running
+        !events[0].ended
+        events[0].duration >= 100L
+        events[0].occurrences == 1
+        events[0].stackTrace.any { it.className == CountDownLatch.name && it.methodName == 'await' }
+    }
+
+    void 'Stalls are aggregated by the stack of the UI thread'() {
+        given:
+        watchdog.start()
+
+        when:
+        2.times {
+            CountDownLatch latch = new CountDownLatch(1)
+            int expected = detected().size() + 1
+            uiThread.submit(block(latch))
+            await().timeout(5, SECONDS).until { detected().size() == expected }
+            latch.countDown()
+            // wait for the watchdog to notice that the UI thread caught up
+            await().timeout(5, SECONDS).until { ended().size() == expected }
+        }
+
+        then:
+        detected()*.occurrences == [1, 2]
+        ended()*.occurrences == [1, 2]
+        watchdog.stalls.size() == 1
+        watchdog.stalls.values().first() == 2
+    }
+
+    void 'The full length of a stall is reported once the UI thread resumes'() {
+        given:
+        CountDownLatch latch = new CountDownLatch(1)
+        watchdog.start()
+
+        when:
+        uiThread.submit(block(latch))
+        await().timeout(5, SECONDS).until { !detected().isEmpty() }
+        Thread.sleep(300L)
+        latch.countDown()
+        await().timeout(5, SECONDS).until { !ended().isEmpty() }
+
+        then:
+        detected().size() == 1
+        ended().size() == 1
+        detected()[0].duration < ended()[0].duration
+        ended()[0].duration >= 400L
+        ended()[0].stackTrace == detected()[0].stackTrace
+    }
+
+    void 'Stopping the watchdog cancels the checks'() {
+        given:
+        watchdog.start()
+
+        when:
+        watchdog.stop()
+
+        then:
+        !watchdog.running
+
+        when:
+        CountDownLatch latch = new CountDownLatch(1)
+        uiThread.submit(block(latch))
+        Thread.sleep(300L)
+        latch.countDown()
+
+        then:
+        events.isEmpty()
+    }
+
+    private List<UIThreadStallEvent> detected() {
+        events.findAll { !it.ended }
+    }
+
+    private List<UIThreadStallEvent> ended() {
+        events.findAll { it.ended }
+    }
+
+    private static Runnable block(CountDownLatch latch) {
+        return new Runnable() {
+            @Override
+            void run() {
+                latch.await()
+            }
+        }
+    }
+}
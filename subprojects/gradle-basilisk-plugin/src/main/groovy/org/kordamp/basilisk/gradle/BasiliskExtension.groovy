@@ -35,6 +35,21 @@ class BasiliskExtension {
 
     Map applicationProperties = [:]
 
+    /**
+     * Launch the {@code run} task with the class data sharing archive created by {@code generateCdsArchive}.
+     */
+    boolean classDataSharing
+
+    /**
+     * Additional JVM arguments passed to the training run launched by {@code generateClassList}.
+     */
+    List<String> trainingJvmArgs = []
+
+    /**
+     * Generate static factories for artifacts at compile time, reducing reflective work done by the injector.
+     */
+    boolean staticInjection
+
     BasiliskExtension(Project project) {
     }
 }
@@ -20,14 +20,19 @@ import org.gradle.api.Plugin
 import org.gradle.api.Project
 import org.gradle.api.Task
 import org.gradle.api.invocation.Gradle
+import org.gradle.api.file.FileCollection
 import org.gradle.api.tasks.Copy
+import org.gradle.api.tasks.Exec
+import org.gradle.api.tasks.JavaExec
 import org.gradle.api.tasks.SourceSet
+import org.gradle.api.tasks.compile.JavaCompile
 
 /**
  * @author Andres Almiray
  */
 class BasiliskPlugin implements Plugin<Project> {
     private static final boolean MACOSX = System.getProperty('os.name').contains('Mac OS')
+    private static final int MIN_CDS_JAVA_VERSION = 10
 
     @Override
     void apply(Project project) {
@@ -129,6 +134,92 @@ class BasiliskPlugin implements Plugin<Project> {
             }
             runTask.jvmArgs = jvmArgs
         }
+
+        configureClassDataSharing(project, extension)
+    }
+
+    private void configureClassDataSharing(Project project, BasiliskExtension extension) {
+        // class data sharing can only archive classes loaded from jars
+        FileCollection cdsClasspath = project.tasks.jar.outputs.files + project.configurations.runtimeClasspath
+        File cdsDir = project.file("${project.buildDir}/cds")
+        File classList = new File(cdsDir, 'classes.lst')
+        File archive = new File(cdsDir, "${resolveApplicationName(project)}.jsa")
+        JavaExec runTask = (JavaExec) project.tasks.findByName('run')
+        // the archive must be created by the same JVM that uses it, otherwise it is silently ignored
+        Closure<Boolean> cdsSupported = { ->
+            String javaExecutable = runTask.executable
+            int javaVersion = resolveJavaMajorVersion(javaExecutable)
+            if (javaVersion < MIN_CDS_JAVA_VERSION) {
+                project.logger.warn("Skipping class data sharing: archiving application classes requires Java ${MIN_CDS_JAVA_VERSION} or later but ${javaExecutable} is Java ${javaVersion > 0 ? javaVersion : 'unknown'}")
+                return false
+            }
+            return true
+        }.memoize()
+
+        Task generateClassList = project.tasks.create(name: 'generateClassList', type: JavaExec, group: 'Application',
+            description: 'Runs the application until it is ready and records all loaded classes.') {
+            dependsOn project.tasks.jar
+            onlyIf { cdsSupported() }
+            inputs.files(cdsClasspath)
+            outputs.file(classList)
+            classpath = cdsClasspath
+            doFirst {
+                cdsDir.mkdirs()
+                main = project.mainClassName
+                executable = runTask.executable
+                jvmArgs = [
+                    '-Xshare:off',
+                    "-XX:DumpLoadedClassList=${classList.absolutePath}",
+                    '-Dbasilisk.training.run=true',
+                    "-Dbasilisk.env=${project.hasProperty('basiliskEnv') ? project.basiliskEnv : 'prod'}"
+                ] + extension.trainingJvmArgs
+            }
+        }
+
+        Task generateCdsArchive = project.tasks.create(name: 'generateCdsArchive', type: Exec, group: 'Application',
+            description: 'Creates a class data sharing archive out of the classes recorded by generateClassList.') {
+            dependsOn generateClassList
+            onlyIf { cdsSupported() }
+            inputs.file(classList)
+            outputs.file(archive)
+            doFirst {
+                commandLine = [
+                    runTask.executable,
+                    '-Xshare:dump',
+                    "-XX:SharedClassListFile=${classList.absolutePath}",
+                    "-XX:SharedArchiveFile=${archive.absolutePath}",
+                    '-cp', cdsClasspath.asPath
+                ]
+            }
+        }
+
+        if (extension.classDataSharing) {
+            runTask.dependsOn generateCdsArchive
+            runTask.doFirst {
+                if (cdsSupported() && archive.exists()) {
+                    // the archive is only valid for the exact classpath it was created with
+                    runTask.classpath = cdsClasspath
+                    runTask.jvmArgs(['-Xshare:auto', "-XX:SharedArchiveFile=${archive.absolutePath}"])
+                }
+            }
+        }
+    }
+
+    private static int resolveJavaMajorVersion(String javaExecutable) {
+        try {
+            Process process = [javaExecutable, '-XshowSettings:properties', '-version'].execute()
+            process.inputStream.close()
+            String output = process.errorStream.text
+            process.waitFor()
+            String version = output.readLines()
+                .find { it.trim().startsWith('java.specification.version') }
+                ?.split('=')?.getAt(1)?.trim()
+            if (!version) return -1
+            // Java 8 and earlier report versions as 1.x
+            return (version.startsWith('1.') ? version.substring(2) : version).tokenize('.')[0] as int
+        } catch (Exception ignored) {
+            return -1
+        }
     }
 
     private void createDefaultDirectoryStructure(Project project, BasiliskExtension extension, String sourceSetName) {
@@ -180,6 +271,12 @@ class BasiliskPlugin implements Plugin<Project> {
                 processResources(project, project.sourceSets.main, extension)
                 processResources(project, project.sourceSets.test, extension)
 
+                if (extension.staticInjection) {
+                    project.tasks.withType(JavaCompile) { JavaCompile task ->
+                        task.options.compilerArgs << '-Abasilisk.injection.static=true'
+                    }
+                }
+
                 project.plugins.withId('org.kordamp.gradle.stats') { plugin ->
                     Task statsTask = project.tasks.findByName('stats')
                     statsTask.paths += [